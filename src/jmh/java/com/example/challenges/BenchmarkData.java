@@ -0,0 +1,31 @@
+package com.example.challenges;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generadores de datos para los benchmarks. Todos reciben una semilla para que cada ejecución mida exactamente
+ * la misma entrada y los resultados sean comparables entre commits.
+ */
+final class BenchmarkData {
+
+    static final long SEED = 0x5EED_CAFEL;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Array de {@code size} enteros uniformes en {@code [min, max]}.
+     */
+    static int[] randomInts(int size, int min, int max, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (int) random.nextLong(min, max + 1L);
+        }
+        return values;
+    }
+
+    static int[] randomInts(int size, int min, int max) {
+        return randomInts(size, min, max, SEED);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.challenges;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de {@code target/benchmarks.jar}. Acepta los mismos argumentos que la CLI de JMH
+ * (por ejemplo {@code CountSubarrays -p size=1000}) y añade por defecto:
+ * <ul>
+ *   <li>el profiler {@code gc}, que reporta la tasa de asignación ({@code gc.alloc.rate.norm}) de cada benchmark;</li>
+ *   <li>resultados en JSON en {@code target/jmh-result.json}, salvo que se indique {@code -rf}/{@code -rff}.</li>
+ * </ul>
+ */
+public class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(cmd)
+                .addProfiler(GCProfiler.class);
+        if (!cmd.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmd.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.challenges;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CloneGraphBenchmark {
+
+    static final int EDGES_PER_NODE = 4;
+
+    @Param({ "1000", "1000000" })
+    int size;
+
+    Node root;
+
+    @Setup
+    public void setup() {
+        // Grafo conexo no dirigido: un árbol aleatorio más aristas al azar hasta un grado medio de 4
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        Node[] nodes = new Node[size];
+        for (int i = 0; i < size; i++) {
+            nodes[i] = new Node(i);
+        }
+        for (int i = 1; i < size; i++) {
+            connect(nodes[i], nodes[random.nextInt(i)]);
+        }
+        for (int i = size - 1; i < size * EDGES_PER_NODE / 2; i++) {
+            connect(nodes[random.nextInt(size)], nodes[random.nextInt(size)]);
+        }
+        root = nodes[0];
+    }
+
+    private static void connect(Node a, Node b) {
+        a.neighbors.add(b);
+        b.neighbors.add(a);
+    }
+
+    @Benchmark
+    public Node hashMapBfs() {
+        // Versión de referencia del README: BFS con un HashMap original → clon
+        Map<Node, Node> clones = new HashMap<>();
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        clones.put(root, new Node(root.val, new ArrayList<>()));
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            Node copy = clones.get(node);
+            for (Node neighbor : node.neighbors) {
+                Node neighborCopy = clones.get(neighbor);
+                if (neighborCopy == null) {
+                    neighborCopy = new Node(neighbor.val, new ArrayList<>());
+                    clones.put(neighbor, neighborCopy);
+                    queue.add(neighbor);
+                }
+                copy.neighbors.add(neighborCopy);
+            }
+        }
+        return clones.get(root);
+    }
+
+    @Benchmark
+    public Node cloneGraph() {
+        return CloneGraph.cloneGraph(root);
+    }
+
+    @Benchmark
+    public Node cloneGraphParallel() {
+        return CloneGraph.cloneGraph(root, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Benchmark
+    public GraphSnapshot flatten() {
+        return CloneGraph.flatten(root);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.challenges;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoinChangeBenchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    int size;
+
+    int[] coins = { 1, 5, 10, 25, 50, 100 };
+    int[] amounts;
+    CoinChangeSolver solver;
+
+    @Setup
+    public void setup() {
+        amounts = BenchmarkData.randomInts(1024, 0, size);
+        solver = new CoinChangeSolver(coins);
+        solver.minCoins(size);
+    }
+
+    @Benchmark
+    public int coinChange() {
+        return CoinChange.coinChange(coins, size);
+    }
+
+    @Benchmark
+    public int[] solverBulk() {
+        return solver.minCoins(amounts);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.challenges;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CountSubarraysWithSumKBenchmark {
+
+    @Param({ "1000", "100000", "10000000" })
+    int size;
+
+    int[] nums;
+    int k;
+
+    @Setup
+    public void setup() {
+        // Valores pequeños con signo: muchos prefix sums repetidos y muchos subarrays que suman k
+        nums = BenchmarkData.randomInts(size, -10, 10);
+        k = 7;
+    }
+
+    @Benchmark
+    public long sequential() {
+        return CountSubarraysWithSumK.subarraySumCount(nums, k);
+    }
+
+    @Benchmark
+    public long streaming() {
+        SubarraySumCounter counter = new SubarraySumCounter(k);
+        counter.acceptAll(nums, 0, nums.length);
+        return counter.count();
+    }
+
+    @Benchmark
+    public long parallel() {
+        return CountSubarraysWithSumK.subarraySumParallel(nums, k, Runtime.getRuntime().availableProcessors());
+    }
+}
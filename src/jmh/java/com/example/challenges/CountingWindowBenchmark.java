@@ -0,0 +1,193 @@
+package com.example.challenges;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Texto ASCII de {@code size} caracteres con un alfabeto de 32 letras, como {@code String} y como buffer directo
+ * (lo que daría un fichero mapeado en memoria). El patrón de {@link MinimumWindowSubstring} y de
+ * {@link FindAllAnagramsInString} son 4 caracteres del propio texto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CountingWindowBenchmark {
+
+    private static final int K = 3;
+
+    @Param({ "1000", "1000000" })
+    int size;
+
+    String text;
+    String pattern;
+    ByteBuffer textBuffer;
+    ByteBuffer patternBuffer;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        char[] chars = new char[size];
+        for (int i = 0; i < size; i++) {
+            chars[i] = (char) ('A' + random.nextInt(32));
+        }
+        text = new String(chars);
+        int from = random.nextInt(size - 4);
+        pattern = text.substring(from, from + 4);
+        textBuffer = direct(text);
+        patternBuffer = direct(pattern);
+    }
+
+    private static ByteBuffer direct(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.ISO_8859_1);
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+
+    @Benchmark
+    public int longestSubstringHashMap() {
+        // Versión de referencia del README: último índice de cada carácter en un HashMap
+        Map<Character, Integer> last = new HashMap<>();
+        int best = 0;
+        for (int left = 0, right = 0; right < text.length(); right++) {
+            Integer seen = last.put(text.charAt(right), right);
+            if (seen != null && seen >= left) {
+                left = seen + 1;
+            }
+            best = Math.max(best, right - left + 1);
+        }
+        return best;
+    }
+
+    @Benchmark
+    public int longestSubstring() {
+        return LongestSubstringWithoutRepeatingCharacters.lengthOfLongestSubstring(text);
+    }
+
+    @Benchmark
+    public int longestSubstringBuffer() {
+        return LongestSubstringWithoutRepeatingCharacters.lengthOfLongestSubstring(textBuffer);
+    }
+
+    @Benchmark
+    public String minWindowHashMap() {
+        // Versión de referencia del README: frecuencias de t en un HashMap y caracteres cubiertos
+        Map<Character, Integer> need = new HashMap<>();
+        for (char c : pattern.toCharArray()) {
+            need.merge(c, 1, Integer::sum);
+        }
+        Map<Character, Integer> window = new HashMap<>();
+        int formed = 0;
+        int bestStart = 0;
+        int bestLength = Integer.MAX_VALUE;
+        for (int left = 0, right = 0; right < text.length(); right++) {
+            char c = text.charAt(right);
+            int count = window.merge(c, 1, Integer::sum);
+            if (need.containsKey(c) && count == need.get(c)) {
+                formed++;
+            }
+            while (formed == need.size()) {
+                if (right - left + 1 < bestLength) {
+                    bestStart = left;
+                    bestLength = right - left + 1;
+                }
+                char out = text.charAt(left++);
+                int remaining = window.merge(out, -1, Integer::sum);
+                if (need.containsKey(out) && remaining < need.get(out)) {
+                    formed--;
+                }
+            }
+        }
+        return bestLength == Integer.MAX_VALUE ? "" : text.substring(bestStart, bestStart + bestLength);
+    }
+
+    @Benchmark
+    public String minWindow() {
+        return MinimumWindowSubstring.minWindow(text, pattern);
+    }
+
+    @Benchmark
+    public ByteBuffer minWindowBuffer() {
+        return MinimumWindowSubstring.minWindow(textBuffer, patternBuffer);
+    }
+
+    @Benchmark
+    public int characterReplacementHashMap() {
+        // Versión de referencia del README: frecuencias en un HashMap y frecuencia máxima que no baja
+        Map<Character, Integer> counts = new HashMap<>();
+        int maxCount = 0;
+        int best = 0;
+        for (int left = 0, right = 0; right < text.length(); right++) {
+            maxCount = Math.max(maxCount, counts.merge(text.charAt(right), 1, Integer::sum));
+            if (right - left + 1 - maxCount > K) {
+                counts.merge(text.charAt(left++), -1, Integer::sum);
+            }
+            best = Math.max(best, right - left + 1);
+        }
+        return best;
+    }
+
+    @Benchmark
+    public int characterReplacement() {
+        return LongestRepeatingCharacterReplacement.characterReplacement(text, K);
+    }
+
+    @Benchmark
+    public int characterReplacementBuffer() {
+        return LongestRepeatingCharacterReplacement.characterReplacement(textBuffer, K);
+    }
+
+    @Benchmark
+    public List<Integer> findAnagramsHashMap() {
+        // Versión de referencia del README: comparar los HashMap de frecuencias en cada posición
+        Map<Character, Integer> need = new HashMap<>();
+        for (char c : pattern.toCharArray()) {
+            need.merge(c, 1, Integer::sum);
+        }
+        Map<Character, Integer> window = new HashMap<>();
+        List<Integer> starts = new ArrayList<>();
+        int m = pattern.length();
+        for (int i = 0; i < text.length(); i++) {
+            window.merge(text.charAt(i), 1, Integer::sum);
+            if (i >= m) {
+                char out = text.charAt(i - m);
+                if (window.merge(out, -1, Integer::sum) == 0) {
+                    window.remove(out);
+                }
+            }
+            if (i >= m - 1 && window.equals(need)) {
+                starts.add(i - m + 1);
+            }
+        }
+        return starts;
+    }
+
+    @Benchmark
+    public List<Integer> findAnagrams() {
+        return FindAllAnagramsInString.findAnagrams(text, pattern);
+    }
+
+    @Benchmark
+    public int[] findAnagramsBuffer() {
+        return FindAllAnagramsInString.findAnagrams(textBuffer, patternBuffer);
+    }
+}
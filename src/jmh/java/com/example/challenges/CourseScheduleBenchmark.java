@@ -0,0 +1,84 @@
+package com.example.challenges;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CourseScheduleBenchmark {
+
+    static final int EDGES_PER_NODE = 4;
+    static final int CHANGES = 1024;
+
+    @Param({ "1000", "100000" })
+    int size;
+
+    int[][] prerequisites;
+    int[][] edges;
+    DependencyGraph graph;
+    int[][] changes = new int[CHANGES][];
+    int change;
+
+    @Setup
+    public void setup() {
+        // DAG aleatorio: las aristas van siempre hacia delante en una permutación oculta, entre nodos cercanos
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        int[] hidden = new int[size];
+        for (int i = 0; i < size; i++) {
+            int j = random.nextInt(i + 1);
+            hidden[i] = hidden[j];
+            hidden[j] = i;
+        }
+        edges = new int[size * EDGES_PER_NODE][];
+        prerequisites = new int[edges.length][];
+        for (int i = 0; i < edges.length; i++) {
+            int from = random.nextInt(size - 1);
+            int to = Math.min(size - 1, from + 1 + random.nextInt(64));
+            edges[i] = new int[] { hidden[from], hidden[to] };
+            prerequisites[i] = new int[] { hidden[to], hidden[from] };
+        }
+        graph = new DependencyGraph(size, edges);
+        // Cambios entre nodos cualesquiera: algunos cierran un ciclo y se rechazan
+        for (int i = 0; i < CHANGES; i++) {
+            changes[i] = new int[] { random.nextInt(size), random.nextInt(size) };
+        }
+    }
+
+    @Benchmark
+    public boolean canFinish() {
+        return CourseSchedule.canFinish(size, prerequisites);
+    }
+
+    @Benchmark
+    public boolean addAndRemoveEdge() {
+        // Una arista nueva sobre el grafo ya construido: comprobación de ciclo y reordenación incremental
+        int[] edge = changes[change++ & (CHANGES - 1)];
+        boolean existed = graph.hasEdge(edge[0], edge[1]);
+        boolean accepted = graph.addEdge(edge[0], edge[1]);
+        if (accepted && !existed) {
+            graph.removeEdge(edge[0], edge[1]);
+        }
+        return accepted;
+    }
+
+    @Benchmark
+    public int[][] waves() {
+        return graph.waves();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.challenges;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisjointSetBenchmark {
+
+    // Lado de la cuadrícula y número de nodos del árbol
+    @Param({ "256", "2048" })
+    int size;
+
+    char[][] grid;
+    BitGrid bits;
+    int[] landOrder;
+    int[][] treeEdges;
+
+    @Setup
+    public void setup() {
+        // 45% de tierra: cerca del umbral de percolación, con islas de todos los tamaños
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        grid = new char[size][size];
+        for (char[] row : grid) {
+            for (int c = 0; c < size; c++) {
+                row[c] = random.nextInt(100) < 45 ? '1' : '0';
+            }
+        }
+
+        bits = BitGrid.of(grid);
+
+        landOrder = new int[size * size];
+        for (int i = 0; i < landOrder.length; i++) {
+            int j = random.nextInt(i + 1);
+            landOrder[i] = landOrder[j];
+            landOrder[j] = i;
+        }
+
+        // Árbol aleatorio: cada nodo cuelga de uno anterior
+        treeEdges = new int[size * size - 1][];
+        for (int i = 1; i < size * size; i++) {
+            treeEdges[i - 1] = new int[] { random.nextInt(i), i };
+        }
+    }
+
+    @Benchmark
+    public int numIslands() {
+        return NumberOfIslands.numIslands(grid);
+    }
+
+    @Benchmark
+    public long numIslandsBitGrid() {
+        return NumberOfIslands.numIslands(bits);
+    }
+
+    @Benchmark
+    public long numIslandsBitGridParallel() {
+        return BitGridIslands.count(bits, Runtime.getRuntime().availableProcessors(),
+                Runtime.getRuntime().availableProcessors() * NumberOfIslands.BANDS_PER_THREAD);
+    }
+
+    @Benchmark
+    public int addLandHalfTheGrid() {
+        IslandCounter counter = new IslandCounter(size, size);
+        int islands = 0;
+        for (int i = 0; i < landOrder.length / 2; i++) {
+            islands = counter.addLand(landOrder[i] / size, landOrder[i] % size);
+        }
+        return islands;
+    }
+
+    @Benchmark
+    public boolean validTree() {
+        return GraphValidTree.validTree(size * size, treeEdges);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.challenges;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncodeAndDecodeStringsBenchmark {
+
+    @Param({ "1000", "1000000" })
+    int size;
+
+    List<String> strings;
+    String encoded;
+    // Simula el buffer de un canal: los frames se parten en sus bordes
+    ByteBuffer buffer = ByteBuffer.allocateDirect(StringFrameCodec.BUFFER_SIZE);
+    ByteBuffer framed;
+    long sum;
+
+    @Setup
+    public void setup() {
+        // Strings ASCII de 0 a 20 caracteres, como identificadores o claves
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        strings = new ArrayList<>(size);
+        long bytes = 0;
+        for (int i = 0; i < size; i++) {
+            char[] s = new char[random.nextInt(21)];
+            for (int j = 0; j < s.length; j++) {
+                s[j] = (char) ('a' + random.nextInt(26));
+            }
+            strings.add(new String(s));
+            bytes += StringFrameCodec.frameLength(strings.get(i));
+        }
+        encoded = EncodeAndDecodeStrings.encode(strings);
+        framed = ByteBuffer.allocateDirect(Math.toIntExact(bytes));
+        StringFrameCodec.Encoder encoder = new StringFrameCodec.Encoder();
+        for (String s : strings) {
+            encoder.encode(s, framed);
+        }
+        framed.flip();
+    }
+
+    @Benchmark
+    public String stringEncode() {
+        return EncodeAndDecodeStrings.encode(strings);
+    }
+
+    @Benchmark
+    public List<String> stringDecode() {
+        return EncodeAndDecodeStrings.decode(encoded);
+    }
+
+    @Benchmark
+    public int frameEncode() {
+        StringFrameCodec.Encoder encoder = new StringFrameCodec.Encoder();
+        buffer.clear();
+        int flushes = 0;
+        for (String s : strings) {
+            while (!encoder.encode(s, buffer)) {
+                buffer.clear();
+                flushes++;
+            }
+        }
+        return flushes;
+    }
+
+    @Benchmark
+    public long frameDecode() {
+        // Recorre los frames por bloques del tamaño del buffer, leyendo cada char sin materializar Strings
+        StringFrameCodec.Decoder decoder = new StringFrameCodec.Decoder();
+        sum = 0;
+        for (int from = 0; from < framed.limit(); from += StringFrameCodec.BUFFER_SIZE) {
+            ByteBuffer chunk = framed.slice(from, Math.min(StringFrameCodec.BUFFER_SIZE, framed.limit() - from));
+            decoder.decode(chunk, frame -> {
+                for (int i = 0; i < frame.length(); i++) {
+                    sum += frame.charAt(i);
+                }
+            });
+        }
+        return sum;
+    }
+}
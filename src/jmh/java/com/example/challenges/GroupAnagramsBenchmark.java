@@ -0,0 +1,85 @@
+package com.example.challenges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code size} palabras de 3 a 10 letras en las que cada palabra nueva es, la mitad de las veces, una permutación de
+ * una anterior.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupAnagramsBenchmark {
+
+    @Param({ "1000", "1000000" })
+    int size;
+
+    String[] words;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        words = new String[size];
+        for (int i = 0; i < size; i++) {
+            char[] chars;
+            if (i > 0 && random.nextBoolean()) {
+                chars = words[random.nextInt(i)].toCharArray();
+                for (int j = chars.length - 1; j > 0; j--) {
+                    int k = random.nextInt(j + 1);
+                    char swap = chars[j];
+                    chars[j] = chars[k];
+                    chars[k] = swap;
+                }
+            } else {
+                chars = new char[3 + random.nextInt(8)];
+                for (int j = 0; j < chars.length; j++) {
+                    chars[j] = (char) ('a' + random.nextInt(26));
+                }
+            }
+            words[i] = new String(chars);
+        }
+    }
+
+    @Benchmark
+    public List<List<String>> sortedKey() {
+        // Versión de referencia del README: HashMap con el string ordenado como clave
+        Map<String, List<String>> groups = new HashMap<>();
+        for (String word : words) {
+            char[] chars = word.toCharArray();
+            Arrays.sort(chars);
+            groups.computeIfAbsent(new String(chars), key -> new ArrayList<>()).add(word);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    @Benchmark
+    public List<List<String>> groupAnagrams() {
+        return GroupAnagrams.groupAnagrams(words);
+    }
+
+    @Benchmark
+    public int[] groupIds() {
+        return AnagramFingerprint.groupIds(words);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.challenges;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Ejercicios 02, 03, 04 y 07 sobre {@code int[]} frente a la misma entrada en un {@link MappedIntFile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntSourceBenchmark {
+
+    @Param({ "1000", "100000", "10000000" })
+    int size;
+
+    int[] nums;
+    int[] output;
+    Path dir;
+    MappedIntFile mapped;
+    MappedIntFile mappedOutput;
+
+    @Setup
+    public void setup() throws IOException {
+        // Alturas pequeñas: con 10^7 elementos las sumas y áreas siguen cabiendo en los int de las versiones int[]
+        nums = BenchmarkData.randomInts(size, 0, 100);
+        output = new int[size];
+        dir = Files.createTempDirectory("int-source-bench");
+        try (MappedIntFile file = MappedIntFile.create(dir.resolve("nums.bin"), size)) {
+            for (int i = 0; i < size; i++) {
+                file.set(i, nums[i]);
+            }
+        }
+        mapped = MappedIntFile.open(dir.resolve("nums.bin"));
+        mappedOutput = MappedIntFile.create(dir.resolve("output.bin"), size);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mapped.close();
+        mappedOutput.close();
+        // Los ficheros siguen mapeados hasta que el GC recoja los buffers; se borran al salir de la JVM
+        dir.resolve("nums.bin").toFile().deleteOnExit();
+        dir.resolve("output.bin").toFile().deleteOnExit();
+        dir.toFile().deleteOnExit();
+    }
+
+    @Benchmark
+    public int maxSubarraySumArray() {
+        return MaximumSubarraySum.maxSubarraySum(nums);
+    }
+
+    @Benchmark
+    public long maxSubarraySumMapped() {
+        return MaximumSubarraySum.maxSubarraySum(mapped);
+    }
+
+    @Benchmark
+    public int trapArray() {
+        return TrappingRainWater.trap(nums);
+    }
+
+    @Benchmark
+    public long trapMapped() {
+        return TrappingRainWater.trap(mapped);
+    }
+
+    @Benchmark
+    public int maxAreaArray() {
+        return ContainerWithMostWater.maxArea(nums);
+    }
+
+    @Benchmark
+    public long maxAreaMapped() {
+        return ContainerWithMostWater.maxArea(mapped);
+    }
+
+    @Benchmark
+    public int[] productExceptSelfArray() {
+        ProductOfArrayExceptSelf.productExceptSelf(IntSource.of(nums), WritableIntSource.of(output));
+        return output;
+    }
+
+    @Benchmark
+    public MappedIntFile productExceptSelfMapped() {
+        ProductOfArrayExceptSelf.productExceptSelf(mapped, mappedOutput);
+        return mappedOutput;
+    }
+}
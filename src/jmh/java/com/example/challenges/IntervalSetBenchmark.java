@@ -0,0 +1,70 @@
+package com.example.challenges;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Ejercicios 24-27 como llamadas estáticas independientes frente a las mismas consultas sobre un
+ * {@link IntervalSet} ya construido.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntervalSetBenchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    int size;
+
+    int[][] intervals;
+    int[] newInterval;
+    IntervalSet set;
+
+    @Setup
+    public void setup() {
+        int[] starts = BenchmarkData.randomInts(size, 0, size * 10, BenchmarkData.SEED);
+        int[] lengths = BenchmarkData.randomInts(size, 0, 20, BenchmarkData.SEED + 1);
+        intervals = new int[size][];
+        for (int i = 0; i < size; i++) {
+            intervals[i] = new int[] { starts[i], starts[i] + lengths[i] };
+        }
+        newInterval = new int[] { size * 5, size * 5 + 50 };
+        set = new IntervalSet(intervals);
+    }
+
+    @Benchmark
+    public void staticCalls(Blackhole bh) {
+        bh.consume(MergeIntervals.merge(intervals));
+        bh.consume(InsertInterval.insert(intervals, newInterval));
+        bh.consume(MeetingRoomsII.minMeetingRooms(intervals));
+        bh.consume(NonOverlappingIntervals.eraseOverlapIntervals(intervals));
+    }
+
+    @Benchmark
+    public void reusedSet(Blackhole bh) {
+        bh.consume(set.mergedSize());
+        bh.consume(set.maxOverlap());
+        bh.consume(set.minRemovalsToAvoidOverlap());
+    }
+
+    @Benchmark
+    public IntervalSet buildAndAdd() {
+        IntervalSet fresh = new IntervalSet(intervals);
+        fresh.add(newInterval);
+        return fresh;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code size} enteros aleatorios en {@code [0, size)}: la subsecuencia creciente más larga mide unos
+ * {@code 2·√size}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LisTrackerBenchmark {
+
+    @Param({ "1000", "1000000" })
+    int size;
+
+    int[] nums;
+
+    @Setup
+    public void setup() {
+        nums = BenchmarkData.randomInts(size, 0, size - 1);
+    }
+
+    @Benchmark
+    public int tailsBinarySearch() {
+        // Versión de referencia del README: array de tails con Arrays.binarySearch, solo la longitud
+        int[] tails = new int[nums.length];
+        int length = 0;
+        for (int num : nums) {
+            int index = Arrays.binarySearch(tails, 0, length, num);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            tails[index] = num;
+            if (index == length) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int lengthOfLIS() {
+        return LongestIncreasingSubsequence.lengthOfLIS(nums);
+    }
+
+    @Benchmark
+    public long[] streamingAddAndReconstruct() {
+        // Elemento a elemento sin conocer el tamaño, como un log, y la subsecuencia al final
+        LisTracker tracker = new LisTracker();
+        for (int num : nums) {
+            tracker.add(num);
+        }
+        return tracker.subsequence();
+    }
+
+    @Benchmark
+    public int[] lengthsEndingAt() {
+        return LisTracker.lengthsEndingAt(nums);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.challenges;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacificAtlanticWaterFlowBenchmark {
+
+    // Lado del mapa
+    @Param({ "256", "2048" })
+    int size;
+
+    int[][] grid;
+    int[] heights;
+
+    @Setup
+    public void setup() {
+        // Una montaña que sube hacia el centro con ruido: los floods llegan lejos del borde
+        int[] noise = BenchmarkData.randomInts(size * size, 0, 8);
+        grid = new int[size][size];
+        heights = new int[size * size];
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                int edge = Math.min(Math.min(r, c), Math.min(size - 1 - r, size - 1 - c));
+                grid[r][c] = edge * 4 + noise[r * size + c];
+                heights[r * size + c] = grid[r][c];
+            }
+        }
+    }
+
+    @Benchmark
+    public List<List<Integer>> listAdapter() {
+        return PacificAtlanticWaterFlow.pacificAtlantic(grid);
+    }
+
+    @Benchmark
+    public BitSet flatBitSet() {
+        return PacificAtlanticWaterFlow.pacificAtlantic(heights, size, size, size);
+    }
+}
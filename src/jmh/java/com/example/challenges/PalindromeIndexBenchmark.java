@@ -0,0 +1,77 @@
+package com.example.challenges;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Manacher frente a expandir alrededor de cada centro sobre textos tipo DNA. En {@code random} los palíndromos son
+ * cortos y la expansión hace pocos pasos por centro; {@code runs} tiene tramos de hasta 256 bases repetidas (como
+ * las regiones de baja complejidad de un genoma), donde la expansión es cuadrática en la longitud de cada tramo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PalindromeIndexBenchmark {
+
+    private static final byte[] BASES = { 'A', 'C', 'G', 'T' };
+
+    @Param({ "100000", "1000000" })
+    int size;
+
+    @Param({ "random", "runs" })
+    String shape;
+
+    byte[] dna;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        dna = new byte[size];
+        for (int i = 0; i < size; ) {
+            int run = shape.equals("runs") ? 1 + random.nextInt(256) : 1;
+            byte base = BASES[random.nextInt(BASES.length)];
+            for (int end = Math.min(size, i + run); i < end; i++) {
+                dna[i] = base;
+            }
+        }
+    }
+
+    @Benchmark
+    public long expandAroundCenter() {
+        // Versión de referencia del README: longitud máxima y conteo en la misma pasada, O(n²) en el peor caso
+        long count = 0;
+        int longest = 0;
+        for (int center = 0; center < 2 * size - 1; center++) {
+            int left = center >> 1;
+            int right = left + (center & 1);
+            while (left >= 0 && right < size && dna[left] == dna[right]) {
+                left--;
+                right++;
+                count++;
+            }
+            longest = Math.max(longest, right - left - 1);
+        }
+        return count + longest;
+    }
+
+    @Benchmark
+    public long manacher() {
+        PalindromeIndex index = PalindromeIndex.of(dna);
+        return index.count() + index.longestLength();
+    }
+}
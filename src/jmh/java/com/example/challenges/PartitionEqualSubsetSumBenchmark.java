@@ -0,0 +1,69 @@
+package com.example.challenges;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code size} cargas de entre 1 y 10.000: sumas totales de unos 500.000 y 5.000.000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartitionEqualSubsetSumBenchmark {
+
+    @Param({ "100", "1000" })
+    int size;
+
+    int[] nums;
+
+    @Setup
+    public void setup() {
+        nums = BenchmarkData.randomInts(size, 1, 10_000);
+    }
+
+    @Benchmark
+    public long booleanDp() {
+        // Versión de referencia del README: boolean[] hasta la mitad de la suma, O(n · sum)
+        int total = 0;
+        for (int num : nums) {
+            total += num;
+        }
+        int half = total / 2;
+        boolean[] reachable = new boolean[half + 1];
+        reachable[0] = true;
+        for (int num : nums) {
+            for (int sum = half; sum >= num; sum--) {
+                reachable[sum] |= reachable[sum - num];
+            }
+        }
+        int best = half;
+        while (!reachable[best]) {
+            best--;
+        }
+        return total - 2L * best;
+    }
+
+    @Benchmark
+    public long closestPartitionDiff() {
+        return new SubsetSums(nums).closestPartitionDiff();
+    }
+
+    @Benchmark
+    public long closestPartitionDiffParallel() {
+        return new SubsetSums(nums, Runtime.getRuntime().availableProcessors()).closestPartitionDiff();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.challenges;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegularExpressionMatchingBenchmark {
+
+    static final int INPUTS = 64;
+    static final String PATTERN = "a*b.*c*a.b*.c";
+
+    @Param({ "16", "1024" })
+    int size;
+
+    String[] inputs = new String[INPUTS];
+    int input;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        for (int i = 0; i < INPUTS; i++) {
+            char[] s = new char[size];
+            for (int j = 0; j < size; j++) {
+                s[j] = (char) ('a' + random.nextInt(3));
+            }
+            inputs[i] = new String(s);
+        }
+    }
+
+    @Benchmark
+    public boolean dp() {
+        return RegularExpressionMatching.isMatchDp(inputs[input++ & (INPUTS - 1)], PATTERN);
+    }
+
+    @Benchmark
+    public boolean compiledPattern() {
+        return RegularExpressionMatching.isMatch(inputs[input++ & (INPUTS - 1)], PATTERN);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.challenges;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializeAndDeserializeBinaryTreeBenchmark {
+
+    @Param({ "1000", "1000000" })
+    int size;
+
+    SerializeAndDeserializeBinaryTree stringCodec = new SerializeAndDeserializeBinaryTree();
+    TreeNode root;
+    String serialized;
+    ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        // Árbol de búsqueda con inserciones aleatorias: profundidad O(log n), apta para la versión recursiva
+        int[] values = BenchmarkData.randomInts(size, -1_000_000, 1_000_000);
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        root = new TreeNode(values[0]);
+        for (int i = 1; i < size; i++) {
+            TreeNode node = root;
+            while (true) {
+                boolean left = values[i] < node.val || (values[i] == node.val && random.nextBoolean());
+                TreeNode child = left ? node.left : node.right;
+                if (child == null) {
+                    if (left) {
+                        node.left = new TreeNode(values[i]);
+                    } else {
+                        node.right = new TreeNode(values[i]);
+                    }
+                    break;
+                }
+                node = child;
+            }
+        }
+        serialized = stringCodec.serialize(root);
+        buffer = ByteBuffer.allocateDirect((int) BinaryTreeCodec.encodedSize(root));
+        BinaryTreeCodec.write(root, buffer);
+    }
+
+    @Benchmark
+    public String stringSerialize() {
+        return stringCodec.serialize(root);
+    }
+
+    @Benchmark
+    public TreeNode stringDeserialize() {
+        return stringCodec.deserialize(serialized);
+    }
+
+    @Benchmark
+    public ByteBuffer binaryWrite() {
+        buffer.clear();
+        BinaryTreeCodec.write(root, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public TreeNode binaryRead() {
+        buffer.clear();
+        return BinaryTreeCodec.read(buffer);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.challenges;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput en elementos por segundo: cada operación es un elemento del flujo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlidingWindowMaximumBenchmark {
+
+    static final int SIZE = 1 << 20;
+
+    @Param({ "16", "1024", "65536" })
+    int k;
+
+    int[] nums;
+    int checksum;
+    SlidingMaxWindow streaming;
+
+    @Setup
+    public void setup() {
+        nums = BenchmarkData.randomInts(SIZE, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        streaming = SlidingMaxWindow.max(k, max -> checksum ^= max);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int[] maxSlidingWindow() {
+        return SlidingWindowMaximum.maxSlidingWindow(nums, k);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int streaming() {
+        streaming.acceptAll(nums, 0, nums.length);
+        return checksum;
+    }
+}
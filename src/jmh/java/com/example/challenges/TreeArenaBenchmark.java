@@ -0,0 +1,123 @@
+package com.example.challenges;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Árbol de punteros frente a {@link TreeArena} sobre el mismo BST. Los {@link TreeNode} se crean en el orden de
+ * inserción (aleatorio), así que quedan dispersos en el heap respecto al orden de recorrido, como en un árbol real
+ * construido poco a poco; el arena los tiene contiguos y por niveles. El profiler {@code gc} muestra además lo que
+ * asigna cada recorrido.
+ *
+ * <p>La diferencia entre las dos disposiciones son fallos de caché. Para verlos hace falta Linux con {@code perf}:
+ * <pre>
+ * java -jar target/benchmarks.jar TreeArena -prof perfnorm
+ * </pre>
+ * reporta por operación {@code L1-dcache-load-misses} y {@code LLC-load-misses} junto al tiempo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeArenaBenchmark {
+
+    static final int QUERIES = 1024;
+
+    @Param({ "1000", "1000000" })
+    int size;
+
+    TreeNode root;
+    TreeArena arena;
+    TreeNode[] queryNodes = new TreeNode[QUERIES];
+    int[] queryIds = new int[QUERIES];
+    int query;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        TreeNode[] nodes = new TreeNode[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int value = random.nextInt();
+            if (root == null) {
+                root = nodes[count++] = new TreeNode(value);
+                continue;
+            }
+            TreeNode node = root;
+            while (value != node.val) {
+                if (value < node.val) {
+                    if (node.left == null) {
+                        node.left = nodes[count++] = new TreeNode(value);
+                    }
+                    node = node.left;
+                } else {
+                    if (node.right == null) {
+                        node.right = nodes[count++] = new TreeNode(value);
+                    }
+                    node = node.right;
+                }
+            }
+        }
+        arena = TreeArena.of(root);
+        for (int i = 0; i < QUERIES; i++) {
+            int id = random.nextInt(count);
+            queryIds[i] = id;
+            queryNodes[i] = find(arena.val(id));
+        }
+    }
+
+    private TreeNode find(int value) {
+        TreeNode node = root;
+        while (node.val != value) {
+            node = value < node.val ? node.left : node.right;
+        }
+        return node;
+    }
+
+    @Benchmark
+    public List<List<Integer>> levelOrderPointer() {
+        return BinaryTreeLevelOrderTraversal.levelOrder(root);
+    }
+
+    @Benchmark
+    public int[][] levelOrderArena() {
+        return arena.levelOrder();
+    }
+
+    @Benchmark
+    public boolean isValidBstPointer() {
+        return ValidateBinarySearchTree.isValidBST(root);
+    }
+
+    @Benchmark
+    public boolean isValidBstArena() {
+        return ValidateBinarySearchTree.isValidBST(arena);
+    }
+
+    @Benchmark
+    public TreeNode lowestCommonAncestorPointer() {
+        int i = query++ & (QUERIES - 1);
+        return LowestCommonAncestorOfBST.lowestCommonAncestor(root, queryNodes[i], queryNodes[(i + 1) & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public int lowestCommonAncestorArena() {
+        int i = query++ & (QUERIES - 1);
+        return LowestCommonAncestorOfBST.lowestCommonAncestor(arena, queryIds[i], queryIds[(i + 1) & (QUERIES - 1)]);
+    }
+}
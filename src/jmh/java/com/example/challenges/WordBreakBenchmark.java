@@ -0,0 +1,98 @@
+package com.example.challenges;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Muchas consultas contra un diccionario fijo de {@code size} palabras: cada operación segmenta una consulta de
+ * unas 200 letras hecha de palabras del diccionario, con una letra cambiada en la mitad de ellas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordBreakBenchmark {
+
+    static final int QUERIES = 1024;
+    static final int QUERY_LENGTH = 200;
+
+    @Param({ "1000", "200000" })
+    int size;
+
+    Set<String> dictionary;
+    WordBreakIndex index;
+    String[] queries = new String[QUERIES];
+    int query;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        dictionary = new HashSet<>();
+        List<String> words = new ArrayList<>();
+        while (dictionary.size() < size) {
+            StringBuilder word = new StringBuilder();
+            for (int i = 0, length = 2 + random.nextInt(10); i < length; i++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            if (dictionary.add(word.toString())) {
+                words.add(word.toString());
+            }
+        }
+        index = new WordBreakIndex(words);
+        for (int q = 0; q < QUERIES; q++) {
+            StringBuilder s = new StringBuilder();
+            while (s.length() < QUERY_LENGTH) {
+                s.append(words.get(random.nextInt(size)));
+            }
+            if (q % 2 == 1) {
+                s.setCharAt(random.nextInt(s.length()), (char) ('a' + random.nextInt(26)));
+            }
+            queries[q] = s.toString();
+        }
+    }
+
+    @Benchmark
+    public boolean hashSetDp() {
+        // Versión de referencia del README: dp[i] probando todos los substrings s[j:i] contra el HashSet
+        String s = queries[query++ & (QUERIES - 1)];
+        boolean[] dp = new boolean[s.length() + 1];
+        dp[0] = true;
+        for (int i = 1; i <= s.length(); i++) {
+            for (int j = 0; j < i; j++) {
+                if (dp[j] && dictionary.contains(s.substring(j, i))) {
+                    dp[i] = true;
+                    break;
+                }
+            }
+        }
+        return dp[s.length()];
+    }
+
+    @Benchmark
+    public boolean canSegment() {
+        return index.canSegment(queries[query++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public String segment() {
+        return index.segment(queries[query++ & (QUERIES - 1)]);
+    }
+}
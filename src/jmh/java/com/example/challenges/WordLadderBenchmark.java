@@ -0,0 +1,72 @@
+package com.example.challenges;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordLadderBenchmark {
+
+    static final int QUERIES = 64;
+
+    @Param({ "1000", "100000" })
+    int size;
+
+    List<String> wordList;
+    WordGraph graph;
+    String[] begins = new String[QUERIES];
+    String[] ends = new String[QUERIES];
+    int query;
+
+    @Setup
+    public void setup() {
+        // Palabras de 6 letras sobre un alfabeto de 8 (262144 posibles): con 10^5 el grafo es casi conexo
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < size) {
+            char[] word = new char[6];
+            for (int i = 0; i < word.length; i++) {
+                word[i] = (char) ('a' + random.nextInt(8));
+            }
+            words.add(new String(word));
+        }
+        wordList = new ArrayList<>(words);
+        graph = new WordGraph(wordList);
+        for (int i = 0; i < QUERIES; i++) {
+            begins[i] = wordList.get(random.nextInt(size));
+            ends[i] = wordList.get(random.nextInt(size));
+        }
+    }
+
+    @Benchmark
+    public int ladderLength() {
+        int i = query++ & (QUERIES - 1);
+        return WordLadder.ladderLength(begins[i], ends[i], wordList);
+    }
+
+    @Benchmark
+    public int wordGraphQuery() {
+        int i = query++ & (QUERIES - 1);
+        return graph.ladderLength(begins[i], ends[i]);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.challenges;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code size} patrones de 3 a 8 letras sobre {@code a-d} contra 1000 frases de 3 a 8 palabras de un vocabulario de
+ * 6. Cada operación comprueba todas las frases contra todos los patrones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordPatternBenchmark {
+
+    private static final String[] VOCABULARY = { "dog", "cat", "fish", "bird", "cow", "fox" };
+    private static final int SENTENCES = 1000;
+
+    @Param({ "100", "10000" })
+    int size;
+
+    String[] patterns;
+    String[] sentences;
+    WordPatternIndex index;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        patterns = new String[size];
+        for (int p = 0; p < size; p++) {
+            char[] chars = new char[3 + random.nextInt(6)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) ('a' + random.nextInt(4));
+            }
+            patterns[p] = new String(chars);
+        }
+        sentences = new String[SENTENCES];
+        for (int s = 0; s < SENTENCES; s++) {
+            StringBuilder sentence = new StringBuilder();
+            for (int i = 3 + random.nextInt(6); i > 0; i--) {
+                sentence.append(VOCABULARY[random.nextInt(VOCABULARY.length)]).append(i > 1 ? " " : "");
+            }
+            sentences[s] = sentence.toString();
+        }
+        index = new WordPatternIndex(patterns);
+    }
+
+    @Benchmark
+    public long bidirectionalMaps() {
+        long matches = 0;
+        for (String sentence : sentences) {
+            for (String pattern : patterns) {
+                if (wordPatternWithMaps(pattern, sentence)) {
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+
+    // Versión de referencia del README: split con regex y dos HashMap por llamada
+    private static boolean wordPatternWithMaps(String pattern, String s) {
+        String[] words = s.split(" ");
+        if (words.length != pattern.length()) {
+            return false;
+        }
+        Map<Character, String> toWord = new HashMap<>();
+        Map<String, Character> toChar = new HashMap<>();
+        for (int i = 0; i < words.length; i++) {
+            char c = pattern.charAt(i);
+            if (toWord.containsKey(c) && !toWord.get(c).equals(words[i])) {
+                return false;
+            }
+            if (toChar.containsKey(words[i]) && toChar.get(words[i]) != c) {
+                return false;
+            }
+            toWord.put(c, words[i]);
+            toChar.put(words[i], c);
+        }
+        return true;
+    }
+
+    @Benchmark
+    public long wordPattern() {
+        long matches = 0;
+        for (String sentence : sentences) {
+            for (String pattern : patterns) {
+                if (WordPattern.wordPattern(pattern, sentence)) {
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public long index() {
+        long matches = 0;
+        for (String sentence : sentences) {
+            matches += index.match(sentence).length;
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.challenges;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Huella de anagrama (cuántas veces aparece cada letra) compartida por {@link GroupAnagrams}, {@link ValidAnagram}
+ * y {@link FindAllAnagramsInString}.
+ *
+ * <ul>
+ *   <li>Agrupar: los 26 contadores de {@code a-z} caben empaquetados a 4 bits en dos {@code long} (13 letras en cada
+ *       uno), así que dos palabras son anagramas si y solo si sus pares son iguales. Los grupos se buscan en una
+ *       tabla de hash abierta con claves primitivas: ni un {@code char[]} ordenado ni un {@code String} de clave por
+ *       palabra. Las palabras con otros caracteres o con alguna letra más de {@link #MAX_PACKED_COUNT} veces usan
+ *       la clave ordenada de siempre en un {@link HashMap} aparte.</li>
+ *   <li>Comparar dos strings: contadores en un array por hilo que se reutiliza, sin asignar memoria.</li>
+ *   <li>Buscar anagramas en un texto: una ventana deslizante de {@link CountingWindow} que sabe cuántos caracteres
+ *       del patrón le faltan, así que cada paso es O(1).</li>
+ * </ul>
+ */
+public final class AnagramFingerprint {
+
+    static final int MAX_PACKED_COUNT = 15;
+    private static final int LETTERS = 26;
+    private static final int LETTERS_PER_WORD = 13;
+
+    private static final ThreadLocal<int[]> LETTER_COUNTS = ThreadLocal.withInitial(() -> new int[LETTERS]);
+    private static final ThreadLocal<int[]> CHAR_COUNTS =
+            ThreadLocal.withInitial(() -> new int[Character.MAX_VALUE + 1]);
+
+    private AnagramFingerprint() {
+    }
+
+    /**
+     * Id de grupo de cada palabra: dos palabras tienen el mismo id si y solo si son anagramas. Los ids son
+     * {@code 0..grupos-1} en orden de primera aparición. Pensado para millones de palabras: por palabra no se asigna
+     * nada salvo en el caso de las que no caben en la huella empaquetada.
+     */
+    public static int[] groupIds(String[] words) {
+        int[] ids = new int[words.length];
+        PackedTable table = new PackedTable(Math.max(16, words.length / 4));
+        Map<String, Integer> unpacked = null;
+        int groups = 0;
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            if (table.pack(word)) {
+                int id = table.findOrAdd(groups);
+                ids[i] = id;
+                if (id == groups) {
+                    groups++;
+                }
+            } else {
+                if (unpacked == null) {
+                    unpacked = new HashMap<>();
+                }
+                char[] chars = word.toCharArray();
+                Arrays.sort(chars);
+                Integer id = unpacked.putIfAbsent(new String(chars), groups);
+                ids[i] = id == null ? groups++ : id;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * {@code true} si {@code s} y {@code t} tienen los mismos caracteres con las mismas repeticiones. No asigna
+     * memoria: cuenta en un array por hilo que deja a cero al terminar.
+     */
+    public static boolean isAnagram(CharSequence s, CharSequence t) {
+        if (s.length() != t.length()) {
+            return false;
+        }
+        boolean letters = isLowercase(s) && isLowercase(t);
+        int[] counts = letters ? LETTER_COUNTS.get() : CHAR_COUNTS.get();
+        int base = letters ? 'a' : 0;
+        for (int i = 0; i < s.length(); i++) {
+            counts[s.charAt(i) - base]++;
+            counts[t.charAt(i) - base]--;
+        }
+        // Con la misma longitud, si todos los caracteres de s quedan a cero los de t también
+        boolean anagram = true;
+        for (int i = 0; i < s.length() && anagram; i++) {
+            anagram = counts[s.charAt(i) - base] == 0;
+        }
+        // Solo se tocaron los caracteres de s y t: se dejan a cero para la siguiente llamada
+        if (!anagram) {
+            for (int i = 0; i < s.length(); i++) {
+                counts[s.charAt(i) - base] = 0;
+                counts[t.charAt(i) - base] = 0;
+            }
+        }
+        return anagram;
+    }
+
+    /**
+     * Posiciones de {@code s} donde empieza un anagrama de {@code p}, en orden. Ventana deslizante de
+     * {@link CountingWindow} de longitud {@code p.length()} con {@code p} como objetivo: la ventana es un anagrama
+     * cuando no le falta ningún carácter de {@code p}.
+     */
+    public static int[] findAnagrams(CharSequence s, CharSequence p) {
+        if (p.length() > s.length()) {
+            return new int[0];
+        }
+        if (p.length() == 0) {
+            return allPositions(s.length());
+        }
+        Starts starts = new Starts(p.length(), 0);
+        CountingWindow.forText(s, p).require(p).run(s, starts);
+        return Arrays.copyOf(starts.starts, starts.found);
+    }
+
+    /**
+     * Igual que {@link #findAnagrams(CharSequence, CharSequence)} sobre los bytes entre la posición y el límite de
+     * cada buffer. Las posiciones son relativas a la posición de {@code s}.
+     */
+    public static int[] findAnagrams(ByteBuffer s, ByteBuffer p) {
+        if (p.remaining() > s.remaining()) {
+            return new int[0];
+        }
+        if (!p.hasRemaining()) {
+            return allPositions(s.remaining());
+        }
+        Starts starts = new Starts(p.remaining(), s.position());
+        CountingWindow.bytes().require(p).run(s, starts);
+        return Arrays.copyOf(starts.starts, starts.found);
+    }
+
+    // El vacío es anagrama de la ventana vacía en cada posición
+    private static int[] allPositions(int n) {
+        int[] all = new int[n + 1];
+        Arrays.setAll(all, i -> i);
+        return all;
+    }
+
+    private static boolean isLowercase(CharSequence s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Starts implements CountingWindow.Policy {
+
+        final int length;
+        final int origin;
+        int[] starts = new int[16];
+        int found;
+
+        Starts(int length, int origin) {
+            this.length = length;
+            this.origin = origin;
+        }
+
+        @Override
+        public boolean shrink(CountingWindow window, int first, int last) {
+            return window.length() > length;
+        }
+
+        @Override
+        public void accept(CountingWindow window) {
+            // Con la longitud del objetivo, cubrirlo es tener exactamente sus caracteres
+            if (window.length() == length && window.deficit() == 0) {
+                if (found == starts.length) {
+                    starts = Arrays.copyOf(starts, found * 2);
+                }
+                starts[found++] = window.start() - origin;
+            }
+        }
+    }
+
+    /**
+     * Tabla de hash abierta de huellas empaquetadas {@code (low, high)} → id de grupo. Cada slot guarda
+     * {@code id + 1} y las huellas están en dos {@code long[]} indexados por id. {@link #pack(CharSequence)} deja la
+     * huella de la palabra actual en {@code low} y {@code high}.
+     */
+    private static final class PackedTable {
+
+        long low;
+        long high;
+
+        private long[] lows;
+        private long[] highs;
+        private int[] slots;
+        private int size;
+
+        PackedTable(int expectedGroups) {
+            int capacity = Integer.highestOneBit(Math.max(expectedGroups * 2, 2) - 1) << 1;
+            slots = new int[capacity];
+            lows = new long[expectedGroups];
+            highs = new long[expectedGroups];
+        }
+
+        /**
+         * Calcula la huella de {@code word}. Retorna {@code false} si tiene caracteres fuera de {@code a-z} o alguna
+         * letra repetida más de {@link #MAX_PACKED_COUNT} veces.
+         */
+        boolean pack(CharSequence word) {
+            long low = 0;
+            long high = 0;
+            for (int i = 0; i < word.length(); i++) {
+                int letter = word.charAt(i) - 'a';
+                if (letter < 0 || letter >= LETTERS) {
+                    return false;
+                }
+                if (letter < LETTERS_PER_WORD) {
+                    int shift = letter << 2;
+                    low += 1L << shift;
+                    // El contador dio la vuelta a 0: pasó de 15
+                    if ((low >>> shift & 0xF) == 0) {
+                        return false;
+                    }
+                } else {
+                    int shift = (letter - LETTERS_PER_WORD) << 2;
+                    high += 1L << shift;
+                    if ((high >>> shift & 0xF) == 0) {
+                        return false;
+                    }
+                }
+            }
+            this.low = low;
+            this.high = high;
+            return true;
+        }
+
+        /**
+         * Id del grupo de la huella actual, o {@code newId} (que queda registrado) si es nueva.
+         */
+        int findOrAdd(int newId) {
+            int mask = slots.length - 1;
+            for (int slot = hash(low, high) & mask; ; slot = (slot + 1) & mask) {
+                int entry = slots[slot];
+                if (entry == 0) {
+                    add(newId, slot);
+                    return newId;
+                }
+                if (lows[entry - 1] == low && highs[entry - 1] == high) {
+                    return entry - 1;
+                }
+            }
+        }
+
+        private void add(int id, int slot) {
+            if (id >= lows.length) {
+                lows = Arrays.copyOf(lows, Math.max(16, id + (id >> 1)));
+                highs = Arrays.copyOf(highs, lows.length);
+            }
+            lows[id] = low;
+            highs[id] = high;
+            slots[slot] = id + 1;
+            // Factor de carga máximo 1/2. Los ids de los grupos sin huella empaquetada dejan huecos en lows y highs
+            if (++size > slots.length >>> 1) {
+                rehash();
+            }
+        }
+
+        private void rehash() {
+            int[] old = slots;
+            slots = new int[old.length * 2];
+            int mask = slots.length - 1;
+            for (int entry : old) {
+                if (entry != 0) {
+                    int slot = hash(lows[entry - 1], highs[entry - 1]) & mask;
+                    while (slots[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    slots[slot] = entry;
+                }
+            }
+        }
+
+        private static int hash(long low, long high) {
+            long h = low * 0x9E3779B97F4A7C15L ^ high * 0xC2B2AE3D27D4EB4FL;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.challenges;
+
+import java.nio.IntBuffer;
+import java.util.Objects;
+
+final class ArrayIntSource implements WritableIntSource {
+
+    private final int[] values;
+
+    ArrayIntSource(int[] values) {
+        this.values = Objects.requireNonNull(values, "values");
+    }
+
+    @Override
+    public long length() {
+        return values.length;
+    }
+
+    @Override
+    public int get(long index) {
+        return values[Math.toIntExact(index)];
+    }
+
+    @Override
+    public void set(long index, int value) {
+        values[Math.toIntExact(index)] = value;
+    }
+
+    @Override
+    public IntBuffer chunk(long index) {
+        Objects.checkIndex(index, values.length);
+        return IntBuffer.wrap(values);
+    }
+
+    @Override
+    public long chunkStart(long index) {
+        Objects.checkIndex(index, values.length);
+        return 0;
+    }
+}
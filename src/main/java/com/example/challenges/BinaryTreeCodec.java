@@ -0,0 +1,294 @@
+package com.example.challenges;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Codec binario compacto para árboles de {@link TreeNode}, alternativa a los {@code String} de
+ * {@link SerializeAndDeserializeBinaryTree} para árboles de decenas de millones de nodos.
+ *
+ * <p>Formato: un byte de cabecera (0 = árbol vacío, 1 = no vacío) seguido de los nodos en preorder, en grupos de
+ * hasta cuatro. Cada grupo empieza con un byte de estructura (dos bits por nodo: tiene hijo izquierdo, tiene hijo
+ * derecho) y sigue con el valor de cada nodo como varint zigzag (1 byte para valores en {@code [-64, 63]}, 5 como
+ * máximo). El número de nodos no se escribe: el lector sabe que el árbol terminó cuando no quedan hijos pendientes.
+ *
+ * <p>Ni la escritura ni la lectura son recursivas, así que árboles degenerados (listas) no desbordan la pila. Las
+ * variantes con canal usan un buffer directo de tamaño fijo, así que ninguno de los dos lados tiene en memoria la
+ * forma serializada completa.
+ */
+public final class BinaryTreeCodec {
+
+    static final int BUFFER_SIZE = 1 << 16;
+    private static final int GROUP = 4;
+    // Byte de estructura más cuatro varints de 5 bytes
+    private static final int MAX_GROUP_BYTES = 1 + GROUP * 5;
+    private static final int HAS_LEFT = 1;
+    private static final int HAS_RIGHT = 2;
+
+    private BinaryTreeCodec() {
+    }
+
+    /**
+     * Bytes que ocupa {@code root} codificado, para dimensionar el buffer de {@link #write(TreeNode, ByteBuffer)}.
+     */
+    public static long encodedSize(TreeNode root) {
+        long size = 1;
+        long nodes = 0;
+        TreeNode[] stack = new TreeNode[16];
+        int top = 0;
+        if (root != null) {
+            stack[top++] = root;
+        }
+        while (top > 0) {
+            TreeNode node = stack[--top];
+            nodes++;
+            size += varintSize(zigzag(node.val));
+            if (top + 2 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            if (node.right != null) {
+                stack[top++] = node.right;
+            }
+            if (node.left != null) {
+                stack[top++] = node.left;
+            }
+        }
+        return size + (nodes + GROUP - 1) / GROUP;
+    }
+
+    /**
+     * Escribe {@code root} en {@code out} a partir de su posición. Lanza {@link java.nio.BufferOverflowException} si
+     * no cabe; {@link #encodedSize(TreeNode)} da el tamaño exacto.
+     */
+    public static void write(TreeNode root, ByteBuffer out) {
+        try {
+            new Encoder(out, null).encode(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Sin canal no hay E/S
+        }
+    }
+
+    /**
+     * Escribe {@code root} en {@code channel} en streaming, a través de un buffer directo de
+     * {@link #BUFFER_SIZE} bytes.
+     */
+    public static void write(TreeNode root, WritableByteChannel channel) throws IOException {
+        new Encoder(ByteBuffer.allocateDirect(BUFFER_SIZE), channel).encode(root);
+    }
+
+    /**
+     * Lee un árbol desde la posición de {@code in}, que queda justo después del último byte del árbol. Lanza
+     * {@link BufferUnderflowException} si los datos están truncados.
+     */
+    public static TreeNode read(ByteBuffer in) {
+        try {
+            return new Decoder(in, null).decode();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Lee un árbol de {@code channel} en streaming. El canal se lee por bloques, así que puede quedar consumido más
+     * allá del final del árbol. Lanza {@link EOFException} si el canal termina antes que el árbol.
+     */
+    public static TreeNode read(ReadableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        buffer.flip();
+        try {
+            return new Decoder(buffer, channel).decode();
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("El canal terminó en mitad de un grupo de nodos");
+        }
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int varintSize(int value) {
+        // 7 bits útiles por byte
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    private static final class Encoder {
+
+        private final ByteBuffer out;
+        private final WritableByteChannel channel;
+
+        Encoder(ByteBuffer out, WritableByteChannel channel) {
+            this.out = out;
+            this.channel = channel;
+        }
+
+        void encode(TreeNode root) throws IOException {
+            out.put((byte) (root == null ? 0 : 1));
+            TreeNode[] stack = new TreeNode[16];
+            int top = 0;
+            if (root != null) {
+                stack[top++] = root;
+            }
+            TreeNode[] group = new TreeNode[GROUP];
+            while (top > 0) {
+                // Preorder iterativo: saca hasta cuatro nodos y escribe su grupo
+                int count = 0;
+                int structure = 0;
+                while (count < GROUP && top > 0) {
+                    TreeNode node = stack[--top];
+                    if (top + 2 > stack.length) {
+                        stack = Arrays.copyOf(stack, stack.length * 2);
+                    }
+                    int flags = 0;
+                    if (node.right != null) {
+                        stack[top++] = node.right;
+                        flags |= HAS_RIGHT;
+                    }
+                    if (node.left != null) {
+                        stack[top++] = node.left;
+                        flags |= HAS_LEFT;
+                    }
+                    structure |= flags << (2 * count);
+                    group[count++] = node;
+                }
+                ensureRoom();
+                out.put((byte) structure);
+                for (int i = 0; i < count; i++) {
+                    putVarint(zigzag(group[i].val));
+                }
+            }
+            if (channel != null) {
+                flush();
+            }
+        }
+
+        private void putVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                out.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.put((byte) value);
+        }
+
+        private void ensureRoom() throws IOException {
+            if (channel != null && out.remaining() < MAX_GROUP_BYTES) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            out.flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            out.clear();
+        }
+    }
+
+    private static final class Decoder {
+
+        private final ByteBuffer in;
+        private final ReadableByteChannel channel;
+        private boolean eof;
+
+        Decoder(ByteBuffer in, ReadableByteChannel channel) {
+            this.in = in;
+            this.channel = channel;
+        }
+
+        TreeNode decode() throws IOException {
+            fill(1);
+            if (in.get() == 0) {
+                return null;
+            }
+
+            // Nodos con el hijo derecho pendiente, en orden de preorder
+            TreeNode[] pendingRight = new TreeNode[16];
+            int top = 0;
+            TreeNode root = null;
+            TreeNode parent = null;
+            boolean asLeft = false;
+            while (true) {
+                fill(MAX_GROUP_BYTES);
+                int structure = in.get() & 0xFF;
+                for (int i = 0; i < GROUP; i++) {
+                    TreeNode node = new TreeNode(unzigzag(getVarint()));
+                    if (parent == null) {
+                        root = node;
+                    } else if (asLeft) {
+                        parent.left = node;
+                    } else {
+                        parent.right = node;
+                    }
+
+                    int flags = structure >>> (2 * i) & 3;
+                    if ((flags & HAS_LEFT) != 0) {
+                        if ((flags & HAS_RIGHT) != 0) {
+                            if (top == pendingRight.length) {
+                                pendingRight = Arrays.copyOf(pendingRight, top * 2);
+                            }
+                            pendingRight[top++] = node;
+                        }
+                        parent = node;
+                        asLeft = true;
+                    } else if ((flags & HAS_RIGHT) != 0) {
+                        parent = node;
+                        asLeft = false;
+                    } else if (top > 0) {
+                        parent = pendingRight[--top];
+                        asLeft = false;
+                    } else {
+                        return root;
+                    }
+                }
+            }
+        }
+
+        private int getVarint() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = in.get();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Varint inválido en la posición " + in.position());
+        }
+
+        private static int unzigzag(int value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        /**
+         * Asegura al menos {@code needed} bytes disponibles leyendo del canal, salvo que éste termine antes: el
+         * último grupo puede ocupar menos que el máximo.
+         */
+        private void fill(int needed) throws IOException {
+            if (channel == null || in.remaining() >= needed) {
+                return;
+            }
+            if (!eof) {
+                in.compact();
+                try {
+                    while (in.position() < needed) {
+                        if (channel.read(in) < 0) {
+                            eof = true;
+                            break;
+                        }
+                    }
+                } finally {
+                    in.flip();
+                }
+            }
+            if (!in.hasRemaining()) {
+                throw new EOFException("El canal terminó antes que el árbol");
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.challenges;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BinaryTreeLevelOrderTraversal {
+
+    public static void main(String[] args) {
+        TreeNode root = new TreeNode(3, new TreeNode(9), new TreeNode(20, new TreeNode(15), new TreeNode(7)));
+        System.out.println(levelOrder(root)); // [[3], [9, 20], [15, 7]]
+    }
+
+    /**
+     * BFS con una cola, un nivel por vuelta: el tamaño de la cola al empezar la vuelta es el ancho del nivel.
+     */
+    public static List<List<Integer>> levelOrder(TreeNode root) {
+        List<List<Integer>> levels = new ArrayList<>();
+        ArrayDeque<TreeNode> queue = new ArrayDeque<>();
+        if (root != null) {
+            queue.add(root);
+        }
+        while (!queue.isEmpty()) {
+            int width = queue.size();
+            List<Integer> level = new ArrayList<>(width);
+            for (int i = 0; i < width; i++) {
+                TreeNode node = queue.poll();
+                level.add(node.val);
+                if (node.left != null) {
+                    queue.add(node.left);
+                }
+                if (node.right != null) {
+                    queue.add(node.right);
+                }
+            }
+            levels.add(level);
+        }
+        return levels;
+    }
+
+    /**
+     * Igual que {@link #levelOrder(TreeNode)} sobre un {@link TreeArena}, con una cola de ids primitivos.
+     */
+    public static List<List<Integer>> levelOrder(TreeArena tree) {
+        List<List<Integer>> levels = new ArrayList<>();
+        for (int[] values : tree.levelOrder()) {
+            List<Integer> level = new ArrayList<>(values.length);
+            for (int value : values) {
+                level.add(value);
+            }
+            levels.add(level);
+        }
+        return levels;
+    }
+}
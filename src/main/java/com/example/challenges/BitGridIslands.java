@@ -0,0 +1,218 @@
+package com.example.challenges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Conteo de islas sobre un {@link BitGrid} por franjas de filas. Usado por
+ * {@link NumberOfIslands#numIslands(BitGrid, int)}.
+ *
+ * <ol>
+ *   <li>Cada franja se etiqueta de forma independiente (en paralelo en un {@link ForkJoinPool}): recorre sus filas
+ *       extrayendo los tramos horizontales de tierra palabra a palabra y une con un {@link DisjointSet} los tramos
+ *       que se solapan con los de la fila anterior. Guarda su número de islas y, para los tramos de su primera y su
+ *       última fila, el índice compacto de la isla a la que pertenecen.</li>
+ *   <li>Un pase secuencial recorre cada frontera entre franjas consecutivas: los tramos solapados de la última fila
+ *       de una franja y la primera de la siguiente son la misma isla. Se unen en un {@link DisjointSet} global de
+ *       islas de frontera y cada unión efectiva resta una isla al total.</li>
+ * </ol>
+ * El pase de frontera es proporcional al número de tramos en las filas de frontera, no al tamaño de la cuadrícula.
+ */
+final class BitGridIslands {
+
+    private BitGridIslands() {
+    }
+
+    static long count(BitGrid grid) {
+        return labelBand(grid, 0, grid.rows()).islands;
+    }
+
+    static long count(BitGrid grid, int parallelism, int bands) {
+        bands = Math.min(bands, grid.rows());
+        if (bands <= 1) {
+            return count(grid);
+        }
+        List<Callable<Band>> tasks = new ArrayList<>(bands);
+        for (int b = 0; b < bands; b++) {
+            int from = (int) ((long) grid.rows() * b / bands);
+            int to = (int) ((long) grid.rows() * (b + 1) / bands);
+            tasks.add(() -> labelBand(grid, from, to));
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return merge(invokeAll(pool, tasks));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static long merge(List<Band> bands) {
+        int[] offsets = new int[bands.size()];
+        int boundaryIslands = 0;
+        long islands = 0;
+        for (int b = 0; b < bands.size(); b++) {
+            offsets[b] = boundaryIslands;
+            boundaryIslands += bands.get(b).boundaryIslands;
+            islands += bands.get(b).islands;
+        }
+
+        DisjointSet sets = new DisjointSet(boundaryIslands);
+        for (int b = 0; b + 1 < bands.size(); b++) {
+            Runs above = bands.get(b).bottom;
+            Runs below = bands.get(b + 1).top;
+            for (int i = 0, j = 0; i < above.count && j < below.count; ) {
+                if (above.start[i] < below.end[j] && below.start[j] < above.end[i]
+                        && sets.union(offsets[b] + above.label[i], offsets[b + 1] + below.label[j])) {
+                    islands--;
+                }
+                if (above.end[i] < below.end[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+        }
+        return islands;
+    }
+
+    /**
+     * Etiqueta las filas {@code [from, to)}. Las etiquetas de {@link Band#top} y {@link Band#bottom} son índices
+     * compactos {@code 0..boundaryIslands-1} de las islas que tocan alguna de las dos filas.
+     */
+    private static Band labelBand(BitGrid grid, int from, int to) {
+        DisjointSet runs = new DisjointSet();
+        Runs previous = new Runs();
+        Runs current = new Runs();
+        Runs top = null;
+        for (int r = from; r < to; r++) {
+            current.extract(grid, r, runs);
+            for (int i = 0, j = 0; i < previous.count && j < current.count; ) {
+                if (previous.start[i] < current.end[j] && current.start[j] < previous.end[i]) {
+                    runs.union(previous.label[i], current.label[j]);
+                }
+                if (previous.end[i] < current.end[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            if (r == from) {
+                top = current.copy();
+            }
+            Runs swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        Band band = new Band();
+        band.islands = runs.components();
+        band.top = top;
+        band.bottom = previous;
+        // Índice compacto por raíz, solo para las islas que llegan a alguna frontera
+        int[] compact = new int[runs.size()];
+        Arrays.fill(compact, -1);
+        for (Runs edge : new Runs[] { band.top, band.bottom }) {
+            for (int i = 0; i < edge.count; i++) {
+                int root = runs.find(edge.label[i]);
+                if (compact[root] < 0) {
+                    compact[root] = band.boundaryIslands++;
+                }
+                edge.label[i] = compact[root];
+            }
+        }
+        return band;
+    }
+
+    private static List<Band> invokeAll(ForkJoinPool pool, List<Callable<Band>> tasks) {
+        List<Band> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<Band> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Conteo paralelo interrumpido", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Fallo en el conteo paralelo", e.getCause());
+        }
+        return results;
+    }
+
+    private static final class Band {
+        long islands;
+        int boundaryIslands;
+        Runs top;
+        Runs bottom;
+    }
+
+    /**
+     * Tramos de tierra {@code [start, end)} de una fila, ordenados, con la etiqueta de su conjunto.
+     */
+    private static final class Runs {
+
+        int[] start = new int[8];
+        int[] end = new int[8];
+        int[] label = new int[8];
+        int count;
+
+        void extract(BitGrid grid, int r, DisjointSet sets) {
+            count = 0;
+            int words = grid.wordsPerRow();
+            int runStart = -1;
+            for (int w = 0; w < words; w++) {
+                long word = grid.word(r, w);
+                int base = w << 6;
+                // Un tramo abierto que sigue en esta palabra: se cierra en el primer 0
+                if (runStart >= 0) {
+                    if (word == -1L) {
+                        continue;
+                    }
+                    int zeros = Long.numberOfTrailingZeros(~word);
+                    add(runStart, base + zeros, sets);
+                    runStart = -1;
+                    word &= -1L << zeros; // Los bits de tramo ya cerrado ya están en 0
+                }
+                while (word != 0) {
+                    int first = Long.numberOfTrailingZeros(word);
+                    long filled = word | ((1L << first) - 1);
+                    if (filled == -1L) {
+                        runStart = base + first; // Sigue en la palabra siguiente
+                        break;
+                    }
+                    int last = Long.numberOfTrailingZeros(~filled);
+                    add(base + first, base + last, sets);
+                    word &= -1L << last;
+                }
+            }
+            if (runStart >= 0) {
+                add(runStart, grid.cols(), sets);
+            }
+        }
+
+        private void add(int from, int to, DisjointSet sets) {
+            if (count == start.length) {
+                start = Arrays.copyOf(start, count * 2);
+                end = Arrays.copyOf(end, count * 2);
+                label = Arrays.copyOf(label, count * 2);
+            }
+            start[count] = from;
+            end[count] = to;
+            label[count] = sets.makeSet();
+            count++;
+        }
+
+        Runs copy() {
+            Runs copy = new Runs();
+            copy.start = Arrays.copyOf(start, count);
+            copy.end = Arrays.copyOf(end, count);
+            copy.label = Arrays.copyOf(label, count);
+            copy.count = count;
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.challenges;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class CloneGraph {
+
+    // Por debajo de este número de nodos el coste de repartir la materialización supera al de hacerla secuencial
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    public static void main(String[] args) {
+        Node[] nodes = new Node[4];
+        for (int i = 0; i < 4; i++) {
+            nodes[i] = new Node(i + 1);
+        }
+        int[][] adjList = { { 2, 4 }, { 1, 3 }, { 2, 4 }, { 1, 3 } };
+        for (int i = 0; i < 4; i++) {
+            for (int neighbor : adjList[i]) {
+                nodes[i].neighbors.add(nodes[neighbor - 1]);
+            }
+        }
+        Node clone = cloneGraph(nodes[0]); // [[2, 4], [1, 3], [2, 4], [1, 3]], sin compartir nodos
+        System.out.println(adjacencyList(clone) + " " + (clone != nodes[0]));
+    }
+
+    /**
+     * Copia profunda del grafo alcanzable desde {@code node}. En vez de un {@code HashMap} original → clon, un BFS
+     * numera los nodos con ids densos y guarda las aristas como ids (ver {@link GraphCloner}); después los clones se
+     * crean en un array indexado por id y se conectan. Iterativo, así que grafos muy profundos no desbordan la pila.
+     */
+    public static Node cloneGraph(Node node) {
+        if (node == null) {
+            return null;
+        }
+        return GraphCloner.index(node).materialize(null, GraphCloner.CHUNK);
+    }
+
+    /**
+     * Igual que {@link #cloneGraph(Node)} pero creando y conectando los clones en {@code parallelism} hilos de un
+     * {@link ForkJoinPool}, por rangos de ids con work-stealing. El descubrimiento del grafo sigue siendo secuencial.
+     * Recurre a la versión secuencial si {@code parallelism == 1} o si el grafo tiene menos de
+     * {@link #PARALLEL_THRESHOLD} nodos.
+     */
+    public static Node cloneGraph(Node node, int parallelism) {
+        return cloneGraph(node, parallelism, PARALLEL_THRESHOLD);
+    }
+
+    static Node cloneGraph(Node node, int parallelism, int threshold) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism debe ser positivo: " + parallelism);
+        }
+        if (node == null) {
+            return null;
+        }
+        GraphCloner cloner = GraphCloner.index(node);
+        if (parallelism == 1 || cloner.size() < threshold) {
+            return cloner.materialize(null, GraphCloner.CHUNK);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            // Al menos unas cuantas tareas por hilo para que el work-stealing pueda equilibrar la carga
+            int chunk = Math.max(1, Math.min(GraphCloner.CHUNK, cloner.size() / (parallelism * 8)));
+            return cloner.materialize(pool, chunk);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Copia del grafo alcanzable desde {@code node} como arrays CSR en lugar de objetos {@link Node}, para quien solo
+     * necesita leerlo. {@code node} recibe el id 0. Retorna un grafo vacío si {@code node} es {@code null}.
+     */
+    public static GraphSnapshot flatten(Node node) {
+        if (node == null) {
+            return new GraphSnapshot(new int[0], new int[1], new int[0]);
+        }
+        return GraphCloner.index(node).snapshot();
+    }
+
+    private static List<List<Integer>> adjacencyList(Node node) {
+        GraphSnapshot graph = flatten(node);
+        // Los ids siguen el orden de descubrimiento; el ejemplo usa los valores 1..n como posiciones
+        List<List<Integer>> adjacency = new ArrayList<>();
+        for (int id = 0; id < graph.size(); id++) {
+            adjacency.add(new ArrayList<>());
+        }
+        for (int id = 0; id < graph.size(); id++) {
+            List<Integer> neighbors = adjacency.get(graph.value(id) - 1);
+            for (int k = 0; k < graph.degree(id); k++) {
+                neighbors.add(graph.value(graph.neighbor(id, k)));
+            }
+        }
+        return adjacency;
+    }
+}
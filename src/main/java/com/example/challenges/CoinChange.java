@@ -0,0 +1,19 @@
+package com.example.challenges;
+
+public class CoinChange {
+
+    public static void main(String[] args) {
+        int[] coinsA = { 1, 2, 5 }; // 3
+        System.out.println(coinChange(coinsA, 11));
+        int[] coinsB = { 2 }; // -1
+        System.out.println(coinChange(coinsB, 3));
+    }
+
+    /**
+     * DP bottom-up: {@code dp[i] = min(dp[i], dp[i - coin] + 1)}. Para muchos montos con las mismas monedas
+     * conviene crear un {@link CoinChangeSolver} y reutilizarlo.
+     */
+    public static int coinChange(int[] coins, int amount) {
+        return new CoinChangeSolver(coins).minCoins(amount);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+
+/**
+ * Resuelve Coin Change para un conjunto de monedas fijo y muchos montos distintos.
+ *
+ * <p>La tabla {@code dp[amount]} se calcula de forma perezosa hasta el mayor monto pedido y se extiende de forma
+ * incremental cuando llega uno mayor, reutilizando lo ya calculado. Las consultas dentro de la tabla son O(1).
+ *
+ * <p>Thread-safe: cada tabla publicada es inmutable y se comparte a través de un campo {@code volatile}; solo el
+ * crecimiento está sincronizado, así que las lecturas concurrentes nunca bloquean.
+ */
+public class CoinChangeSolver {
+
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final int MAX_TABLE_SIZE = Integer.MAX_VALUE - 8;
+
+    private final int[] coins;
+    private volatile int[] table = { 0 };
+
+    public CoinChangeSolver(int[] coins) {
+        if (coins == null || coins.length == 0) {
+            throw new IllegalArgumentException("Se necesita al menos una moneda");
+        }
+        int[] sorted = coins.clone();
+        Arrays.sort(sorted);
+        if (sorted[0] <= 0) {
+            throw new IllegalArgumentException("Las monedas deben ser positivas: " + Arrays.toString(coins));
+        }
+        // Monedas repetidas no cambian el resultado, solo encarecen el DP
+        int distinct = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[distinct - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        this.coins = Arrays.copyOf(sorted, distinct);
+    }
+
+    /**
+     * Mínimo número de monedas para formar {@code amount}, o -1 si no es posible.
+     */
+    public int minCoins(int amount) {
+        return answer(tableFor(amount), amount);
+    }
+
+    /**
+     * Igual que {@link #minCoins(int)} para cada monto, extendiendo la tabla una sola vez hasta el mayor.
+     */
+    public int[] minCoins(int[] amounts) {
+        int max = 0;
+        for (int amount : amounts) {
+            max = Math.max(max, checkAmount(amount));
+        }
+        int[] dp = tableFor(max);
+        int[] result = new int[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            result[i] = answer(dp, amounts[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Mayor monto que ya se puede responder sin extender la tabla.
+     */
+    public int cachedUpTo() {
+        return table.length - 1;
+    }
+
+    private int[] tableFor(int amount) {
+        checkAmount(amount);
+        int[] dp = table;
+        return amount < dp.length ? dp : grow(amount);
+    }
+
+    private synchronized int[] grow(int amount) {
+        int[] old = table;
+        if (amount < old.length) {
+            return old; // Otro hilo ya la extendió
+        }
+        // Crece al menos un 50% para amortizar montos que suben poco a poco
+        long target = Math.max(amount + 1L, old.length + (old.length >> 1));
+        int[] dp = Arrays.copyOf(old, (int) Math.min(target, MAX_TABLE_SIZE));
+        for (int i = old.length; i < dp.length; i++) {
+            int best = UNREACHABLE;
+            for (int coin : coins) {
+                if (coin > i) {
+                    break;
+                }
+                int previous = dp[i - coin];
+                if (previous != UNREACHABLE && previous + 1 < best) {
+                    best = previous + 1;
+                }
+            }
+            dp[i] = best;
+        }
+        table = dp;
+        return dp;
+    }
+
+    private static int answer(int[] dp, int amount) {
+        int coinsNeeded = dp[amount];
+        return coinsNeeded == UNREACHABLE ? -1 : coinsNeeded;
+    }
+
+    private static int checkAmount(int amount) {
+        if (amount < 0 || amount >= MAX_TABLE_SIZE) {
+            throw new IllegalArgumentException("Monto fuera de rango: " + amount);
+        }
+        return amount;
+    }
+}
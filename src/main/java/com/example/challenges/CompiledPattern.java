@@ -0,0 +1,246 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Patrón de {@link RegularExpressionMatching} ({@code .} y {@code *}) compilado a un NFA que se simula en paralelo
+ * sobre bits.
+ *
+ * <p>Cada token del patrón ({@code a}, {@code .}, {@code a*}, {@code .*}) es un estado; el bit {@code i} del conjunto
+ * de estados indica que quedan por casar los tokens desde el {@code i}. Para cada carácter se precalcula la máscara
+ * de tokens que lo aceptan, así que avanzar un carácter son unas pocas operaciones por palabra de 64 bits: el
+ * matching es O(n · m/64) en vez del O(n · m) de la tabla DP, y con patrones de hasta 63 tokens es O(n) con el
+ * estado en un solo {@code long}.
+ *
+ * <p>{@link #compile(String)} mantiene una caché LRU acotada de patrones compilados, sin bloqueos en los aciertos.
+ * Los patrones son inmutables y {@link #matches(CharSequence)} no asigna memoria: los patrones largos usan un buffer
+ * de estados reutilizado por hilo.
+ */
+public final class CompiledPattern {
+
+    static final int CACHE_SIZE = 256;
+    private static final int ASCII = 128;
+
+    private static final ConcurrentHashMap<String, CompiledPattern> CACHE = new ConcurrentHashMap<>();
+    // Reloj de la caché: avanza en cada fallo, así que dos usos solo se distinguen si hubo un fallo entre ellos, que
+    // es lo único que importa para decidir qué expulsar
+    private static volatile long clock;
+
+    private static final ThreadLocal<long[]> SCRATCH = ThreadLocal.withInitial(() -> new long[0]);
+
+    private final String pattern;
+    // Valor del reloj en el último uso desde la caché. Escritura sin sincronizar: perder una es perder un poco de
+    // precisión en el orden LRU, nunca un patrón
+    private long lastUsed;
+    private final int tokens;
+    private final int words;
+    // Máscaras por carácter ASCII; los literales no ASCII del patrón tienen la suya en otherChars/otherAccepts
+    // (ordenados) y cualquier otro carácter solo lo acepta '.'
+    private final long[][] accepts;
+    private final char[] otherChars;
+    private final long[][] otherAccepts;
+    private final long[] acceptsAnyChar;
+    private final long[] starred;
+    private final long[] initial;
+
+    private CompiledPattern(String pattern) {
+        this.pattern = pattern;
+        int count = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*') {
+                if (i == 0 || pattern.charAt(i - 1) == '*') {
+                    throw new IllegalArgumentException("'*' sin carácter previo en la posición " + i + ": " + pattern);
+                }
+            } else {
+                count++;
+            }
+        }
+        tokens = count;
+        // Un bit más para el estado final (todos los tokens casados)
+        words = (tokens >>> 6) + 1;
+        accepts = new long[ASCII][words];
+        acceptsAnyChar = new long[words];
+        starred = new long[words];
+        TreeMap<Character, long[]> others = new TreeMap<>();
+
+        for (int i = 0, token = 0; i < pattern.length(); i++, token++) {
+            char c = pattern.charAt(i);
+            long bit = 1L << token;
+            int word = token >>> 6;
+            if (c == '.') {
+                acceptsAnyChar[word] |= bit;
+                for (long[] mask : accepts) {
+                    mask[word] |= bit;
+                }
+            } else if (c < ASCII) {
+                accepts[c][word] |= bit;
+            } else {
+                others.computeIfAbsent(c, key -> new long[words])[word] |= bit;
+            }
+            if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+                starred[word] |= bit;
+                i++;
+            }
+        }
+
+        otherChars = new char[others.size()];
+        otherAccepts = new long[others.size()][];
+        int k = 0;
+        for (Map.Entry<Character, long[]> entry : others.entrySet()) {
+            long[] mask = entry.getValue();
+            // '.' también acepta los literales no ASCII, aunque aparezca después en el patrón
+            for (int w = 0; w < words; w++) {
+                mask[w] |= acceptsAnyChar[w];
+            }
+            otherChars[k] = entry.getKey();
+            otherAccepts[k++] = mask;
+        }
+
+        initial = new long[words];
+        initial[0] = 1L;
+        closeOverStars(initial, starred);
+    }
+
+    /**
+     * Patrón compilado para {@code p}, desde la caché LRU si ya se compiló antes. Un acierto no toma ningún bloqueo:
+     * solo copia el reloj de la caché en el patrón, y solo si cambió desde su último uso. Los fallos compilan fuera
+     * del bloqueo y lo toman para expulsar el patrón usado hace más tiempo.
+     */
+    public static CompiledPattern compile(String p) {
+        CompiledPattern compiled = CACHE.get(p);
+        if (compiled != null) {
+            long now = clock;
+            if (compiled.lastUsed != now) {
+                compiled.lastUsed = now;
+            }
+            return compiled;
+        }
+        compiled = new CompiledPattern(p);
+        synchronized (CACHE) {
+            CompiledPattern previous = CACHE.get(p);
+            if (previous != null) {
+                previous.lastUsed = clock;
+                return previous;
+            }
+            compiled.lastUsed = ++clock;
+            while (CACHE.size() >= CACHE_SIZE) {
+                evictLeastRecentlyUsed();
+            }
+            CACHE.put(p, compiled);
+            return compiled;
+        }
+    }
+
+    // Recorre toda la caché: O(CACHE_SIZE), poco frente a compilar el patrón nuevo
+    private static void evictLeastRecentlyUsed() {
+        String oldest = null;
+        long oldestUse = Long.MAX_VALUE;
+        for (Map.Entry<String, CompiledPattern> entry : CACHE.entrySet()) {
+            if (entry.getValue().lastUsed < oldestUse) {
+                oldest = entry.getKey();
+                oldestUse = entry.getValue().lastUsed;
+            }
+        }
+        CACHE.remove(oldest);
+    }
+
+    /**
+     * Patrones en la caché, como mucho {@link #CACHE_SIZE}.
+     */
+    static int cachedPatterns() {
+        return CACHE.size();
+    }
+
+    public String pattern() {
+        return pattern;
+    }
+
+    /**
+     * {@code true} si {@code s} completo casa con el patrón.
+     */
+    public boolean matches(CharSequence s) {
+        return words == 1 ? matchesSingleWord(s) : matchesMultiWord(s);
+    }
+
+    private boolean matchesSingleWord(CharSequence s) {
+        long[][] accepts = this.accepts;
+        long star = starred[0];
+        long state = initial[0];
+
+        for (int i = 0, n = s.length(); i < n && state != 0; i++) {
+            char c = s.charAt(i);
+            long consumed = state & (c < ASCII ? accepts[c][0] : nonAscii(c)[0]);
+            // Un token simple avanza al siguiente; uno con '*' se queda donde está
+            state = ((consumed & ~star) << 1) | (consumed & star);
+            // Cierre: los tokens con '*' también se pueden saltar sin consumir nada
+            long previous;
+            do {
+                previous = state;
+                state |= (state & star) << 1;
+            } while (state != previous);
+        }
+        return (state & (1L << tokens)) != 0;
+    }
+
+    private boolean matchesMultiWord(CharSequence s) {
+        long[] state = SCRATCH.get();
+        if (state.length < words) {
+            state = new long[words];
+            SCRATCH.set(state);
+        }
+        System.arraycopy(initial, 0, state, 0, words);
+
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            long[] accept = c < ASCII ? accepts[c] : nonAscii(c);
+            long carry = 0;
+            long alive = 0;
+            for (int w = 0; w < words; w++) {
+                long consumed = state[w] & accept[w];
+                long advancing = consumed & ~starred[w];
+                state[w] = (advancing << 1) | carry | (consumed & starred[w]);
+                carry = advancing >>> 63;
+                alive |= state[w];
+            }
+            if (alive == 0) {
+                return false;
+            }
+            closeOverStars(state, starred);
+        }
+        return (state[tokens >>> 6] & (1L << tokens)) != 0;
+    }
+
+    /**
+     * Máscara de tokens que aceptan el carácter no ASCII {@code c}.
+     */
+    private long[] nonAscii(char c) {
+        int index = Arrays.binarySearch(otherChars, c);
+        return index >= 0 ? otherAccepts[index] : acceptsAnyChar;
+    }
+
+    private static void closeOverStars(long[] state, long[] starred) {
+        boolean changed;
+        do {
+            changed = false;
+            long carry = 0;
+            for (int w = 0; w < starred.length; w++) {
+                long skipping = state[w] & starred[w];
+                long next = state[w] | (skipping << 1) | carry;
+                carry = skipping >>> 63;
+                if (next != state[w]) {
+                    state[w] = next;
+                    changed = true;
+                }
+            }
+        } while (changed);
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
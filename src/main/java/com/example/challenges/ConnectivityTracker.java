@@ -0,0 +1,54 @@
+package com.example.challenges;
+
+/**
+ * Grafo no dirigido de {@code n} nodos al que se añaden aristas una a una, informando en cada paso si la arista
+ * cerró un ciclo o dejó el grafo conectado. Sobre un {@link DisjointSet}.
+ */
+public class ConnectivityTracker {
+
+    /**
+     * Efecto de una arista añadida con {@link #addEdge(int, int)}.
+     */
+    public enum Status {
+        /** Unió dos componentes y el grafo sigue sin estar conectado. */
+        JOINED,
+        /** Unió las dos últimas componentes: el grafo queda conectado. */
+        CONNECTED,
+        /** Sus extremos ya estaban conectados: la arista cierra un ciclo. */
+        CYCLE
+    }
+
+    private final DisjointSet sets;
+    private boolean cycle;
+
+    public ConnectivityTracker(int n) {
+        sets = new DisjointSet(n);
+    }
+
+    public Status addEdge(int u, int v) {
+        if (!sets.union(u, v)) {
+            cycle = true;
+            return Status.CYCLE;
+        }
+        return sets.components() == 1 ? Status.CONNECTED : Status.JOINED;
+    }
+
+    public boolean hasCycle() {
+        return cycle;
+    }
+
+    public boolean isConnected() {
+        return sets.components() <= 1;
+    }
+
+    /**
+     * Conectado y sin ciclos.
+     */
+    public boolean isTree() {
+        return !cycle && isConnected();
+    }
+
+    public int components() {
+        return sets.components();
+    }
+}
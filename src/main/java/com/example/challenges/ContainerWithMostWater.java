@@ -0,0 +1,70 @@
+package com.example.challenges;
+
+import java.nio.IntBuffer;
+
+public class ContainerWithMostWater {
+
+    public static void main(String[] args) {
+        int[] height = { 1, 8, 6, 2, 5, 4, 8, 3, 7 }; // 49
+        System.out.println(maxArea(height));
+    }
+
+    /**
+     * Two pointers desde los extremos moviendo siempre el de la línea más corta: la otra nunca puede formar un
+     * contenedor mayor con ella.
+     */
+    public static int maxArea(int[] height) {
+        int left = 0;
+        int right = height.length - 1;
+        int best = 0;
+
+        while (left < right) {
+            best = Math.max(best, Math.min(height[left], height[right]) * (right - left));
+            if (height[left] < height[right]) {
+                left++;
+            } else {
+                right--;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Igual que {@link #maxArea(int[])} sobre una fuente que puede no caber en el heap. El área se calcula en
+     * {@code long}: con más de 2^31 elementos el ancho ya no cabe en un {@code int}.
+     */
+    public static long maxArea(IntSource height) {
+        long left = 0;
+        long right = height.length() - 1;
+        if (right < 1) {
+            return 0;
+        }
+        long best = 0;
+
+        // Un bloque por puntero; solo se cambia de bloque al cruzar su frontera
+        IntBuffer leftChunk = height.chunk(left);
+        long leftBase = height.chunkStart(left);
+        IntBuffer rightChunk = height.chunk(right);
+        long rightBase = height.chunkStart(right);
+        int leftHeight = leftChunk.get(0);
+        int rightHeight = rightChunk.get((int) (right - rightBase));
+
+        while (left < right) {
+            best = Math.max(best, Math.min(leftHeight, rightHeight) * (right - left));
+            if (leftHeight < rightHeight) {
+                if (++left - leftBase == leftChunk.limit()) {
+                    leftChunk = height.chunk(left);
+                    leftBase = left;
+                }
+                leftHeight = leftChunk.get((int) (left - leftBase));
+            } else {
+                if (--right < rightBase) {
+                    rightChunk = height.chunk(right);
+                    rightBase = height.chunkStart(right);
+                }
+                rightHeight = rightChunk.get((int) (right - rightBase));
+            }
+        }
+        return best;
+    }
+}
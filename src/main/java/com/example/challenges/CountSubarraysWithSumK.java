@@ -1,9 +1,13 @@
 package com.example.challenges;
 
-import java.util.HashMap;
-
 public class CountSubarraysWithSumK {
 
+    // Por debajo de este tamaño el coste de repartir el trabajo supera al del recorrido secuencial
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    // Tabla de prefix sums reutilizable por hilo: evita asignar memoria en cada llamada
+    private static final ThreadLocal<LongIntHashMap> SCRATCH = ThreadLocal.withInitial(LongIntHashMap::new);
+
     public static void main(String[] args) {
         int[] numsA = { 1, 2, 3 }; // 2
         int k = 3;
@@ -13,27 +17,55 @@ public class CountSubarraysWithSumK {
         System.out.println(subarraySumPrefixSum(numsB, k));
     }
 
+    /**
+     * Versión original con firma {@code int}. Delegada a {@link #subarraySumCount(int[], int)}; lanza
+     * {@link ArithmeticException} si el resultado no cabe en un {@code int}.
+     */
     public static int subarraySumPrefixSum(int[] nums, int k) {
+        return Math.toIntExact(subarraySumCount(nums, k));
+    }
+
+    /**
+     * Cuenta los subarrays contiguos que suman {@code k}.
+     *
+     * <p>Los prefix sums se acumulan en {@code long} (no desbordan con arrays de {@code int}) y sus frecuencias
+     * se guardan en una tabla primitiva reutilizada por hilo, así que tras la primera llamada de un tamaño dado
+     * no se asigna memoria. La tabla queda retenida por el hilo hasta que termina.
+     */
+    public static long subarraySumCount(int[] nums, int k) {
         if (nums == null || nums.length == 0) {
             return 0;
         }
 
-        int count = 0;
-        int sum = 0;
-        HashMap<Integer, Integer> prefixSumCount = new HashMap<>();
-        prefixSumCount.put(0, 1); // Para subarrays que empiezan desde el inicio
+        LongIntHashMap prefixSumCount = SCRATCH.get();
+        prefixSumCount.reset(nums.length + 1);
+        prefixSumCount.increment(0); // Para subarrays que empiezan desde el inicio
 
+        long count = 0;
+        long sum = 0;
         for (int num : nums) {
             sum += num;
-            // Verificar si existe un prefix sum anterior que sea sum - k
-            if (prefixSumCount.containsKey(sum - k)) {
-                count += prefixSumCount.get(sum - k);
-            }
-            // Actualizar la frecuencia del prefix sum actual
-            prefixSumCount.put(sum, prefixSumCount.getOrDefault(sum, 0) + 1);
-            System.out.println(prefixSumCount.toString());
+            // Prefix sums anteriores iguales a sum - k cierran un subarray que suma k
+            count += prefixSumCount.get(sum - k);
+            prefixSumCount.increment(sum);
         }
 
         return count;
     }
+
+    /**
+     * Igual que {@link #subarraySumCount(int[], int)} pero repartido en {@code parallelism} hilos de un
+     * {@link java.util.concurrent.ForkJoinPool}. Retorna exactamente el mismo conteo que la versión secuencial, a
+     * la que recurre si {@code parallelism == 1} o si el array tiene menos de {@link #PARALLEL_THRESHOLD}
+     * elementos.
+     */
+    public static long subarraySumParallel(int[] nums, int k, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism debe ser positivo: " + parallelism);
+        }
+        if (nums == null || nums.length < PARALLEL_THRESHOLD || parallelism == 1) {
+            return subarraySumCount(nums, k);
+        }
+        return ParallelPrefixSumCounter.count(nums, k, parallelism);
+    }
 }
@@ -0,0 +1,269 @@
+package com.example.challenges;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Ventana deslizante con tabla de frecuencias, compartida por los ejercicios de ventanas sobre texto
+ * ({@link LongestSubstringWithoutRepeatingCharacters}, {@link MinimumWindowSubstring},
+ * {@link LongestRepeatingCharacterReplacement} y {@link FindAllAnagramsInString}).
+ *
+ * <p>El núcleo es siempre el mismo bucle: añadir el siguiente símbolo por la derecha, quitar por la izquierda mientras
+ * la {@link Policy} lo pida y avisar a la política con la ventana ya ajustada. Cada ejercicio solo aporta su
+ * condición de contracción y lo que hace con cada ventana. La ventana cuenta sus símbolos en un {@code int[]}
+ * indexado por símbolo y, opcionalmente, cuántos símbolos le faltan para cubrir un objetivo (un multiconjunto
+ * fijado con {@link #require(int)}): eso basta para "contiene todos los caracteres de t" y "es un anagrama de p".
+ *
+ * <p>La entrada natural son bytes ({@code byte[]} o {@link ByteBuffer}, por ejemplo un fichero mapeado en memoria)
+ * con tablas de 256 entradas. Un texto cuyos caracteres son todos menores que 256 (ASCII y Latin-1, el caso normal en
+ * logs) se pasa a bytes con una copia directa y usa el mismo camino; cualquier otro texto usa tablas de 65.536
+ * entradas sobre sus {@code char}. Los índices son {@code int}, así que un {@link ByteBuffer} de hasta 2 GB se
+ * recorre de una vez.
+ *
+ * <p>No es thread-safe.
+ */
+public final class CountingWindow {
+
+    static final int BYTE_ALPHABET = 256;
+    static final int CHAR_ALPHABET = Character.MAX_VALUE + 1;
+
+    /**
+     * Lógica de un ejercicio sobre la ventana.
+     */
+    public interface Policy {
+
+        /**
+         * Se llama después de añadir {@code last} por la derecha y mientras la ventana no esté vacía: {@code true}
+         * para quitar {@code first}, el símbolo de la izquierda.
+         */
+        boolean shrink(CountingWindow window, int first, int last);
+
+        /**
+         * Se llama una vez por símbolo añadido, con la ventana ya contraída.
+         */
+        void accept(CountingWindow window);
+    }
+
+    private final int[] counts;
+    private final int[] target;
+    private int required;
+    private int deficit;
+    private int start;
+    private int end;
+
+    private CountingWindow(int alphabet) {
+        counts = new int[alphabet];
+        target = new int[alphabet];
+    }
+
+    /**
+     * Ventana sobre bytes (símbolos {@code 0..255}).
+     */
+    public static CountingWindow bytes() {
+        return new CountingWindow(BYTE_ALPHABET);
+    }
+
+    /**
+     * Ventana sobre {@code char} (símbolos {@code 0..65535}).
+     */
+    public static CountingWindow chars() {
+        return new CountingWindow(CHAR_ALPHABET);
+    }
+
+    /**
+     * Ventana de bytes si todos los caracteres de {@code texts} son menores que 256, o de {@code char} si no.
+     */
+    public static CountingWindow forText(CharSequence... texts) {
+        for (CharSequence text : texts) {
+            if (!isLatin1(text)) {
+                return chars();
+            }
+        }
+        return bytes();
+    }
+
+    /**
+     * Añade una aparición de {@code symbol} al objetivo. Se llama antes de {@code run}.
+     */
+    public CountingWindow require(int symbol) {
+        target[symbol]++;
+        required++;
+        return this;
+    }
+
+    public CountingWindow require(CharSequence symbols) {
+        for (int i = 0; i < symbols.length(); i++) {
+            require(symbols.charAt(i));
+        }
+        return this;
+    }
+
+    public CountingWindow require(ByteBuffer symbols) {
+        for (int i = symbols.position(); i < symbols.limit(); i++) {
+            require(symbols.get(i) & 0xFF);
+        }
+        return this;
+    }
+
+    public void run(byte[] data, int from, int to, Policy policy) {
+        Objects.checkFromToIndex(from, to, data.length);
+        scan(data, from, to, 0, policy);
+    }
+
+    /**
+     * Recorre {@code data} entre su posición y su límite sin modificarlos. Las posiciones de la ventana son índices
+     * absolutos del buffer. Un buffer con array accesible se recorre directamente sobre el array.
+     */
+    public void run(ByteBuffer data, Policy policy) {
+        if (data.hasArray()) {
+            int offset = data.arrayOffset();
+            scan(data.array(), offset + data.position(), offset + data.limit(), offset, policy);
+            return;
+        }
+        checkAlphabet(BYTE_ALPHABET);
+        begin(data.position());
+        for (int i = data.position(); i < data.limit(); i++) {
+            int last = data.get(i) & 0xFF;
+            add(last);
+            end = i + 1;
+            while (start < end && policy.shrink(this, data.get(start) & 0xFF, last)) {
+                remove(data.get(start++) & 0xFF);
+            }
+            policy.accept(this);
+        }
+    }
+
+    /**
+     * Recorre {@code data[from, to)}; las posiciones de la ventana son índices del array menos {@code offset}, para
+     * que las políticas vean índices del buffer que envuelve al array.
+     */
+    private void scan(byte[] data, int from, int to, int offset, Policy policy) {
+        checkAlphabet(BYTE_ALPHABET);
+        begin(from - offset);
+        for (int i = from; i < to; i++) {
+            int last = data[i] & 0xFF;
+            add(last);
+            end = i + 1 - offset;
+            while (start < end && policy.shrink(this, data[start + offset] & 0xFF, last)) {
+                remove(data[offset + start++] & 0xFF);
+            }
+            policy.accept(this);
+        }
+    }
+
+    public void run(char[] data, int from, int to, Policy policy) {
+        Objects.checkFromToIndex(from, to, data.length);
+        checkAlphabet(CHAR_ALPHABET);
+        begin(from);
+        for (int i = from; i < to; i++) {
+            int last = data[i];
+            add(last);
+            end = i + 1;
+            while (start < end && policy.shrink(this, data[start], last)) {
+                remove(data[start++]);
+            }
+            policy.accept(this);
+        }
+    }
+
+    /**
+     * Recorre {@code text} como bytes Latin-1 en una ventana de {@link #bytes()} (la copia de un {@code String}
+     * Latin-1 a bytes es directa) o como {@code char} en una de {@link #chars()}. Las posiciones de la ventana son
+     * índices de {@code text}.
+     */
+    public void run(CharSequence text, Policy policy) {
+        String string = text.toString();
+        if (counts.length == BYTE_ALPHABET) {
+            if (!isLatin1(string)) {
+                throw new IllegalArgumentException("El texto tiene caracteres fuera de Latin-1");
+            }
+            byte[] data = string.getBytes(StandardCharsets.ISO_8859_1);
+            run(data, 0, data.length, policy);
+        } else {
+            char[] data = string.toCharArray();
+            run(data, 0, data.length, policy);
+        }
+    }
+
+    /**
+     * Inicio (inclusive) de la ventana.
+     */
+    public int start() {
+        return start;
+    }
+
+    /**
+     * Fin (exclusive) de la ventana.
+     */
+    public int end() {
+        return end;
+    }
+
+    public int length() {
+        return end - start;
+    }
+
+    /**
+     * Apariciones de {@code symbol} en la ventana.
+     */
+    public int count(int symbol) {
+        return counts[symbol];
+    }
+
+    /**
+     * Apariciones de {@code symbol} en el objetivo.
+     */
+    public int target(int symbol) {
+        return target[symbol];
+    }
+
+    /**
+     * Tamaño del objetivo, con repeticiones.
+     */
+    public int required() {
+        return required;
+    }
+
+    /**
+     * Símbolos del objetivo que faltan en la ventana, con repeticiones. 0 si la ventana cubre el objetivo.
+     */
+    public int deficit() {
+        return deficit;
+    }
+
+    static boolean isLatin1(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= BYTE_ALPHABET) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void begin(int from) {
+        Arrays.fill(counts, 0);
+        deficit = required;
+        start = from;
+        end = from;
+    }
+
+    private void add(int symbol) {
+        if (counts[symbol]++ < target[symbol]) {
+            deficit--;
+        }
+    }
+
+    private void remove(int symbol) {
+        if (--counts[symbol] < target[symbol]) {
+            deficit++;
+        }
+    }
+
+    private void checkAlphabet(int alphabet) {
+        if (counts.length != alphabet) {
+            throw new IllegalStateException("La ventana es de " + counts.length + " símbolos, no de " + alphabet);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.challenges;
+
+public class CourseSchedule {
+
+    public static void main(String[] args) {
+        int[][] prerequisitesA = { { 1, 0 } }; // true
+        System.out.println(canFinish(2, prerequisitesA));
+        int[][] prerequisitesB = { { 1, 0 }, { 0, 1 } }; // false
+        System.out.println(canFinish(2, prerequisitesB));
+    }
+
+    /**
+     * Kahn: se toman los cursos sin prerrequisitos pendientes hasta agotarlos; si queda alguno sin tomar hay un
+     * ciclo. {@code {a, b}} significa que para tomar {@code a} hay que tomar antes {@code b}. Para añadir y quitar
+     * prerrequisitos uno a uno sin recalcular todo conviene un {@link DependencyGraph}.
+     */
+    public static boolean canFinish(int numCourses, int[][] prerequisites) {
+        return DependencyGraph.topologicalOrder(numCourses, prerequisites, true) != null;
+    }
+}
@@ -0,0 +1,381 @@
+package com.example.challenges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+/**
+ * Grafo de dependencias dirigido y acíclico de {@code n} tareas que se modifica arista a arista. Una arista
+ * {@code from → to} significa que {@code from} tiene que terminar antes de empezar {@code to}.
+ *
+ * <p>Mantiene en todo momento un orden topológico válido (algoritmo de Pearce-Kelly): al añadir una arista que
+ * contradice el orden actual solo se exploran y reordenan los nodos cuya posición está entre los dos extremos, y si
+ * esa exploración llega de vuelta a {@code from} la arista cerraría un ciclo y se rechaza. Quitar aristas nunca
+ * invalida el orden. Las adyacencias de entrada y salida son arrays primitivos por nodo (filas de un CSR con holgura
+ * para crecer) y las búsquedas usan marcas por generación, así que una inserción no asigna memoria salvo al crecer.
+ *
+ * <p>{@link #waves()} agrupa las tareas por profundidad (el camino más largo desde una tarea sin dependencias): las
+ * tareas de una misma ola son independientes entre sí y se pueden ejecutar en paralelo, ver
+ * {@link #runWaves(IntConsumer, ExecutorService)}.
+ *
+ * <p>No es thread-safe.
+ */
+public class DependencyGraph {
+
+    private static final int[] NO_EDGES = new int[0];
+
+    private final int[][] out;
+    private final int[] outDegree;
+    private final int[][] in;
+    private final int[] inDegree;
+    private int edges;
+
+    // Posición de cada nodo en el orden topológico y nodo en cada posición
+    private final int[] position;
+    private final int[] nodeAt;
+
+    // Estado de las búsquedas de addEdge
+    private final int[] mark;
+    private int generation;
+    private int[] stack;
+    private int[] forward;
+    private int forwardSize;
+    private int[] backward;
+    private int backwardSize;
+
+    public DependencyGraph(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n no puede ser negativo: " + n);
+        }
+        out = new int[n][];
+        in = new int[n][];
+        Arrays.fill(out, NO_EDGES);
+        Arrays.fill(in, NO_EDGES);
+        outDegree = new int[n];
+        inDegree = new int[n];
+        position = new int[n];
+        nodeAt = new int[n];
+        for (int i = 0; i < n; i++) {
+            position[i] = i;
+            nodeAt[i] = i;
+        }
+        mark = new int[n];
+        stack = new int[16];
+        forward = new int[16];
+        backward = new int[16];
+    }
+
+    /**
+     * Grafo con las aristas {@code {from, to}} de {@code edges}, ordenado de una vez con Kahn en O(V + E). Lanza
+     * {@link IllegalArgumentException} si tienen un ciclo.
+     */
+    public DependencyGraph(int n, int[][] edges) {
+        this(n);
+        int[] order = topologicalOrder(n, edges, false);
+        if (order == null) {
+            throw new IllegalArgumentException("Las dependencias tienen un ciclo");
+        }
+        for (int i = 0; i < n; i++) {
+            nodeAt[i] = order[i];
+            position[order[i]] = i;
+        }
+        for (int[] edge : edges) {
+            if (!hasEdge(edge[0], edge[1])) {
+                insert(edge[0], edge[1]);
+            }
+        }
+    }
+
+    public int size() {
+        return position.length;
+    }
+
+    public int edgeCount() {
+        return edges;
+    }
+
+    /**
+     * Añade {@code from → to} y retorna {@code true}, o retorna {@code false} sin modificar nada si la arista
+     * cerraría un ciclo. Añadir una arista que ya existe no cambia nada.
+     */
+    public boolean addEdge(int from, int to) {
+        checkNode(from);
+        checkNode(to);
+        if (hasEdge(from, to)) {
+            return true;
+        }
+        if (from == to) {
+            return false;
+        }
+        if (position[from] > position[to] && !reorder(from, to)) {
+            return false;
+        }
+        insert(from, to);
+        return true;
+    }
+
+    /**
+     * Quita {@code from → to}. Retorna {@code false} si no existía.
+     */
+    public boolean removeEdge(int from, int to) {
+        checkNode(from);
+        checkNode(to);
+        if (!remove(out[from], outDegree, from, to)) {
+            return false;
+        }
+        remove(in[to], inDegree, to, from);
+        edges--;
+        return true;
+    }
+
+    public boolean hasEdge(int from, int to) {
+        checkNode(from);
+        checkNode(to);
+        // Se busca en la lista más corta de las dos
+        if (outDegree[from] <= inDegree[to]) {
+            return indexOf(out[from], outDegree[from], to) >= 0;
+        }
+        return indexOf(in[to], inDegree[to], from) >= 0;
+    }
+
+    /**
+     * Copia del orden topológico actual: cada tarea aparece después de todas sus dependencias.
+     */
+    public int[] order() {
+        return nodeAt.clone();
+    }
+
+    /**
+     * Posición de {@code node} en {@link #order()}.
+     */
+    public int position(int node) {
+        checkNode(node);
+        return position[node];
+    }
+
+    /**
+     * Tareas agrupadas por profundidad: la ola 0 son las tareas sin dependencias y cada tarea está en la ola
+     * siguiente a la más profunda de sus dependencias. Dentro de cada ola, en el orden de {@link #order()}.
+     */
+    public int[][] waves() {
+        int n = size();
+        int[] depth = new int[n];
+        int deepest = -1;
+        // Recorrer en orden topológico garantiza que la profundidad de un nodo es final cuando se alcanza
+        for (int p = 0; p < n; p++) {
+            int node = nodeAt[p];
+            deepest = Math.max(deepest, depth[node]);
+            int[] targets = out[node];
+            for (int i = 0; i < outDegree[node]; i++) {
+                depth[targets[i]] = Math.max(depth[targets[i]], depth[node] + 1);
+            }
+        }
+
+        int[] sizes = new int[deepest + 1];
+        for (int node = 0; node < n; node++) {
+            sizes[depth[node]]++;
+        }
+        int[][] waves = new int[deepest + 1][];
+        for (int d = 0; d <= deepest; d++) {
+            waves[d] = new int[sizes[d]];
+            sizes[d] = 0;
+        }
+        for (int p = 0; p < n; p++) {
+            int node = nodeAt[p];
+            waves[depth[node]][sizes[depth[node]]++] = node;
+        }
+        return waves;
+    }
+
+    /**
+     * Ejecuta {@code task} para cada tarea en {@code executor}, ola a ola: las tareas de una ola se lanzan todas a la
+     * vez y la siguiente ola no empieza hasta que terminan. Una excepción en una tarea se relanza envuelta en
+     * {@link IllegalStateException} al terminar su ola.
+     */
+    public void runWaves(IntConsumer task, ExecutorService executor) {
+        for (int[] wave : waves()) {
+            List<Callable<Void>> tasks = new ArrayList<>(wave.length);
+            for (int node : wave) {
+                tasks.add(() -> {
+                    task.accept(node);
+                    return null;
+                });
+            }
+            try {
+                for (Future<Void> future : executor.invokeAll(tasks)) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Ejecución por olas interrumpida", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Fallo en una tarea", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Kahn sobre un CSR construido a partir de {@code edges}. Cada arista es {@code {from, to}}, o
+     * {@code {to, from}} si {@code reversed} (el formato de los prerrequisitos de {@link CourseSchedule}). Retorna el
+     * orden topológico, o {@code null} si hay un ciclo.
+     */
+    static int[] topologicalOrder(int n, int[][] edges, boolean reversed) {
+        int fromColumn = reversed ? 1 : 0;
+        int toColumn = 1 - fromColumn;
+        int[] start = new int[n + 1];
+        int[] remaining = new int[n];
+        for (int[] edge : edges) {
+            Objects.checkIndex(edge[fromColumn], n);
+            start[edge[fromColumn] + 1]++;
+            remaining[Objects.checkIndex(edge[toColumn], n)]++;
+        }
+        for (int i = 0; i < n; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] targets = new int[edges.length];
+        int[] filled = Arrays.copyOf(start, n);
+        for (int[] edge : edges) {
+            targets[filled[edge[fromColumn]]++] = edge[toColumn];
+        }
+
+        // La cola es el propio array de salida: cada nodo entra una vez
+        int[] order = new int[n];
+        int tail = 0;
+        for (int node = 0; node < n; node++) {
+            if (remaining[node] == 0) {
+                order[tail++] = node;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int node = order[head];
+            for (int i = start[node]; i < start[node + 1]; i++) {
+                if (--remaining[targets[i]] == 0) {
+                    order[tail++] = targets[i];
+                }
+            }
+        }
+        return tail == n ? order : null;
+    }
+
+    /**
+     * Pearce-Kelly para una arista {@code from → to} con {@code position[from] > position[to]}. Retorna
+     * {@code false} si {@code to} llega a {@code from} (ciclo).
+     */
+    private boolean reorder(int from, int to) {
+        int lower = position[to];
+        int upper = position[from];
+        if (generation >= Integer.MAX_VALUE - 2) {
+            Arrays.fill(mark, 0);
+            generation = 0;
+        }
+        int forwardMark = ++generation;
+        int backwardMark = ++generation;
+
+        // Descendientes de to con posición <= upper: si incluyen a from hay ciclo
+        forwardSize = 0;
+        int top = push(0, to);
+        mark[to] = forwardMark;
+        while (top > 0) {
+            int node = stack[--top];
+            forward = append(forward, forwardSize++, position[node]);
+            int[] targets = out[node];
+            for (int i = 0; i < outDegree[node]; i++) {
+                int next = targets[i];
+                if (next == from) {
+                    return false;
+                }
+                if (mark[next] != forwardMark && position[next] < upper) {
+                    mark[next] = forwardMark;
+                    top = push(top, next);
+                }
+            }
+        }
+
+        // Ancestros de from con posición >= lower
+        backwardSize = 0;
+        top = push(0, from);
+        mark[from] = backwardMark;
+        while (top > 0) {
+            int node = stack[--top];
+            backward = append(backward, backwardSize++, position[node]);
+            int[] sources = in[node];
+            for (int i = 0; i < inDegree[node]; i++) {
+                int previous = sources[i];
+                if (mark[previous] != backwardMark && position[previous] > lower) {
+                    mark[previous] = backwardMark;
+                    top = push(top, previous);
+                }
+            }
+        }
+
+        // Las posiciones de ambos conjuntos se reparten de nuevo: primero los ancestros, después los descendientes,
+        // cada grupo manteniendo su orden relativo
+        Arrays.sort(forward, 0, forwardSize);
+        Arrays.sort(backward, 0, backwardSize);
+        int total = forwardSize + backwardSize;
+        stack = total > stack.length ? new int[Math.max(total, stack.length * 2)] : stack;
+        int[] nodes = stack;
+        for (int i = 0; i < backwardSize; i++) {
+            nodes[i] = nodeAt[backward[i]];
+        }
+        for (int i = 0; i < forwardSize; i++) {
+            nodes[backwardSize + i] = nodeAt[forward[i]];
+        }
+        int b = 0;
+        int f = 0;
+        for (int i = 0; i < total; i++) {
+            int slot = f == forwardSize || (b < backwardSize && backward[b] < forward[f]) ? backward[b++]
+                    : forward[f++];
+            nodeAt[slot] = nodes[i];
+            position[nodes[i]] = slot;
+        }
+        return true;
+    }
+
+    private int push(int top, int node) {
+        stack = append(stack, top, node);
+        return top + 1;
+    }
+
+    private static int[] append(int[] array, int index, int value) {
+        if (index == array.length) {
+            array = Arrays.copyOf(array, array.length * 2);
+        }
+        array[index] = value;
+        return array;
+    }
+
+    private void insert(int from, int to) {
+        out[from] = append(out[from].length == 0 ? new int[2] : out[from], outDegree[from]++, to);
+        in[to] = append(in[to].length == 0 ? new int[2] : in[to], inDegree[to]++, from);
+        edges++;
+    }
+
+    private static boolean remove(int[] list, int[] degree, int node, int value) {
+        int index = indexOf(list, degree[node], value);
+        if (index < 0) {
+            return false;
+        }
+        list[index] = list[--degree[node]];
+        return true;
+    }
+
+    private static int indexOf(int[] list, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (list[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void checkNode(int node) {
+        Objects.checkIndex(node, position.length);
+    }
+}
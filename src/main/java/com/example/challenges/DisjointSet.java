@@ -0,0 +1,110 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Union-find sobre arrays primitivos, compartido por {@link NumberOfIslands}, {@link IslandCounter},
+ * {@link GraphValidTree} y {@link ConnectivityTracker}.
+ *
+ * <p>Usa unión por rango y {@code find} con path halving (cada nodo del camino pasa a apuntar a su abuelo), ambos
+ * iterativos: el coste amortizado por operación es prácticamente constante y no hay recursión, así que no hay
+ * {@link StackOverflowError} por grande que sea el conjunto. Ocupa 5 bytes por elemento ({@code int} de padre y
+ * {@code byte} de rango, que nunca pasa de 31).
+ *
+ * <p>Se puede crear con {@code n} elementos o vacío e ir añadiendo con {@link #makeSet()}. No es thread-safe.
+ */
+public class DisjointSet {
+
+    private int[] parent;
+    private byte[] rank;
+    private int size;
+    private int components;
+
+    public DisjointSet() {
+        parent = new int[16];
+        rank = new byte[16];
+    }
+
+    /**
+     * {@code n} elementos {@code 0..n-1}, cada uno en su propio conjunto.
+     */
+    public DisjointSet(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n no puede ser negativo: " + n);
+        }
+        parent = new int[n];
+        rank = new byte[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+        size = n;
+        components = n;
+    }
+
+    /**
+     * Añade un elemento nuevo en su propio conjunto y retorna su id.
+     */
+    public int makeSet() {
+        if (size == parent.length) {
+            int capacity = Math.max(16, parent.length + (parent.length >> 1));
+            parent = Arrays.copyOf(parent, capacity);
+            rank = Arrays.copyOf(rank, capacity);
+        }
+        parent[size] = size;
+        components++;
+        return size++;
+    }
+
+    /**
+     * Representante del conjunto de {@code x}.
+     */
+    public int find(int x) {
+        Objects.checkIndex(x, size);
+        int[] parent = this.parent;
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * Une los conjuntos de {@code a} y {@code b}. Retorna {@code false} si ya estaban unidos.
+     */
+    public boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+        if (rank[rootA] < rank[rootB]) {
+            parent[rootA] = rootB;
+        } else {
+            parent[rootB] = rootA;
+            if (rank[rootA] == rank[rootB]) {
+                rank[rootA]++;
+            }
+        }
+        components--;
+        return true;
+    }
+
+    public boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    /**
+     * Número de elementos.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Número de conjuntos disjuntos.
+     */
+    public int components() {
+        return components;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.challenges;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class EncodeAndDecodeStrings {
+
+    private static final char DELIMITER = '#';
+
+    public static void main(String[] args) {
+        List<String> strs = Arrays.asList("Hello", "World");
+        String encoded = encode(strs); // "5#Hello5#World"
+        System.out.println(encoded);
+        System.out.println(decode(encoded)); // [Hello, World]
+    }
+
+    /**
+     * Formato {@code length#string} por cada string: el separador puede aparecer dentro de los strings porque
+     * siempre se salta por longitud.
+     */
+    public static String encode(List<String> strs) {
+        StringBuilder sb = new StringBuilder();
+        for (String s : strs) {
+            sb.append(s.length()).append(DELIMITER).append(s);
+        }
+        return sb.toString();
+    }
+
+    public static List<String> decode(String s) {
+        List<String> result = new ArrayList<>();
+        int i = 0;
+        while (i < s.length()) {
+            int delimiter = s.indexOf(DELIMITER, i);
+            int length = Integer.parseInt(s, i, delimiter, 10);
+            int start = delimiter + 1;
+            result.add(s.substring(start, start + length));
+            i = start + length;
+        }
+        return result;
+    }
+
+    /**
+     * Igual que {@link #encode(List)} pero en binario directamente sobre un canal, sin construir el
+     * {@code String} con todo el lote. Ver {@link StringFrameCodec}.
+     */
+    public static void encode(List<String> strs, WritableByteChannel channel) throws IOException {
+        StringFrameCodec.write(strs, channel);
+    }
+
+    /**
+     * Lee lo escrito por {@link #encode(List, WritableByteChannel)} hasta el final del canal.
+     */
+    public static List<String> decode(ReadableByteChannel channel) throws IOException {
+        List<String> result = new ArrayList<>();
+        StringFrameCodec.read(channel, s -> result.add(s.toString()));
+        return result;
+    }
+}
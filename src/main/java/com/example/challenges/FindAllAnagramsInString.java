@@ -0,0 +1,34 @@
+package com.example.challenges;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FindAllAnagramsInString {
+
+    public static void main(String[] args) {
+        System.out.println(findAnagrams("cbaebabacd", "abc")); // [0, 6]
+        System.out.println(findAnagrams("abab", "ab")); // [0, 1, 2]
+    }
+
+    /**
+     * Ventana deslizante de tamaño {@code p.length()} que sabe cuántos caracteres de {@code p} le faltan: cada paso
+     * es O(1). Ver {@link AnagramFingerprint#findAnagrams(CharSequence, CharSequence)}.
+     */
+    public static List<Integer> findAnagrams(String s, String p) {
+        int[] starts = AnagramFingerprint.findAnagrams(s, p);
+        List<Integer> result = new ArrayList<>(starts.length);
+        for (int start : starts) {
+            result.add(start);
+        }
+        return result;
+    }
+
+    /**
+     * Igual que {@link #findAnagrams(String, String)} sobre los bytes entre la posición y el límite de cada buffer,
+     * con posiciones relativas a la de {@code s}.
+     */
+    public static int[] findAnagrams(ByteBuffer s, ByteBuffer p) {
+        return AnagramFingerprint.findAnagrams(s, p);
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.challenges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Motor de {@link CloneGraph}. Trabaja en dos fases:
+ * <ol>
+ *   <li>Descubrimiento: un BFS desde el nodo de partida asigna a cada nodo un id denso en orden de descubrimiento y
+ *       guarda sus vecinos como ids en arrays CSR. Como los ids se asignan en el orden en que se encolan, la cola
+ *       del BFS es el propio array de originales indexado por id.</li>
+ *   <li>Materialización: crea los clones en un {@code Node[]} indexado por id y después conecta sus vecinos leyendo
+ *       el CSR. Cada nodo se procesa de forma independiente, así que las dos pasadas se pueden repartir por rangos de
+ *       ids en un {@link ForkJoinPool} con work-stealing.</li>
+ * </ol>
+ *
+ * <p>Para saber si un nodo ya tiene id no hay un {@code HashMap<Node, Node>} con una entrada por nodo: una tabla de
+ * hash abierta guarda solo {@code id + 1} por slot (4 bytes) y compara por identidad contra el array de originales.
+ * El descubrimiento es secuencial y el grafo original no se puede modificar mientras tanto.
+ */
+final class GraphCloner {
+
+    // Tamaño de rango por debajo del cual una tarea de materialización ya no se divide
+    static final int CHUNK = 1 << 14;
+
+    private Node[] originals = new Node[16];
+    private int count;
+    private int[] start = new int[17];
+    private int[] targets = new int[16];
+    private int edges;
+
+    private int[] slots = new int[32];
+    private int shift = 32 - 5;
+
+    private GraphCloner() {
+    }
+
+    /**
+     * Descubre todo el grafo alcanzable desde {@code root}, que recibe el id 0.
+     */
+    static GraphCloner index(Node root) {
+        GraphCloner cloner = new GraphCloner();
+        cloner.idOf(root);
+        for (int id = 0; id < cloner.count; id++) {
+            cloner.start[id] = cloner.edges;
+            List<Node> neighbors = cloner.originals[id].neighbors;
+            if (neighbors != null) {
+                for (Node neighbor : neighbors) {
+                    if (neighbor == null) {
+                        throw new IllegalArgumentException(
+                                "El nodo " + cloner.originals[id].val + " tiene un vecino null");
+                    }
+                    cloner.addTarget(cloner.idOf(neighbor));
+                }
+            }
+        }
+        cloner.start[cloner.count] = cloner.edges;
+        return cloner;
+    }
+
+    int size() {
+        return count;
+    }
+
+    /**
+     * Crea los clones y retorna el del nodo de partida. Con {@code pool == null} se hace en el hilo actual.
+     */
+    Node materialize(ForkJoinPool pool, int chunk) {
+        Node[] clones = new Node[count];
+        if (pool == null) {
+            create(clones, 0, count);
+            wire(clones, 0, count);
+        } else {
+            pool.invoke(new Materialize(clones, 0, count, chunk, true));
+            pool.invoke(new Materialize(clones, 0, count, chunk, false));
+        }
+        return clones[0];
+    }
+
+    GraphSnapshot snapshot() {
+        int[] values = new int[count];
+        for (int id = 0; id < count; id++) {
+            values[id] = originals[id].val;
+        }
+        return new GraphSnapshot(values, Arrays.copyOf(start, count + 1), Arrays.copyOf(targets, edges));
+    }
+
+    private void create(Node[] clones, int from, int to) {
+        for (int id = from; id < to; id++) {
+            clones[id] = new Node(originals[id].val, new ArrayList<>(start[id + 1] - start[id]));
+        }
+    }
+
+    private void wire(Node[] clones, int from, int to) {
+        for (int id = from; id < to; id++) {
+            List<Node> neighbors = clones[id].neighbors;
+            for (int e = start[id]; e < start[id + 1]; e++) {
+                neighbors.add(clones[targets[e]]);
+            }
+        }
+    }
+
+    private int idOf(Node node) {
+        int mask = slots.length - 1;
+        for (int slot = hash(node); ; slot = (slot + 1) & mask) {
+            int entry = slots[slot];
+            if (entry == 0) {
+                return register(node, slot);
+            }
+            if (originals[entry - 1] == node) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private int register(Node node, int slot) {
+        int id = count++;
+        if (id == originals.length) {
+            originals = Arrays.copyOf(originals, id * 2);
+            start = Arrays.copyOf(start, id * 2 + 1);
+        }
+        originals[id] = node;
+        slots[slot] = id + 1;
+        // Factor de carga máximo 1/2
+        if (count > slots.length >>> 1) {
+            rehash();
+        }
+        return id;
+    }
+
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        shift--;
+        int mask = slots.length - 1;
+        for (int id = 0; id < count; id++) {
+            int slot = hash(originals[id]);
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+
+    private void addTarget(int id) {
+        if (edges == targets.length) {
+            targets = Arrays.copyOf(targets, edges * 2);
+        }
+        targets[edges++] = id;
+    }
+
+    // Hash de Fibonacci sobre la identidad: usa los bits altos del producto
+    private int hash(Node node) {
+        return (System.identityHashCode(node) * 0x9E3779B9) >>> shift;
+    }
+
+    private final class Materialize extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Node[] clones;
+        private final int from;
+        private final int to;
+        private final int chunk;
+        private final boolean create;
+
+        Materialize(Node[] clones, int from, int to, int chunk, boolean create) {
+            this.clones = clones;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.create = create;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                if (create) {
+                    create(clones, from, to);
+                } else {
+                    wire(clones, from, to);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Materialize(clones, from, middle, chunk, create),
+                    new Materialize(clones, middle, to, chunk, create));
+        }
+    }
+}
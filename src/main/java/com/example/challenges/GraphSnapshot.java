@@ -0,0 +1,47 @@
+package com.example.challenges;
+
+import java.util.Objects;
+
+/**
+ * Copia aplanada de un grafo de {@link Node} en formato CSR: los nodos tienen ids densos {@code 0..size-1} (el 0 es
+ * el nodo de partida) y los vecinos del nodo {@code id} son {@code targets[start[id]..start[id+1])}, en el orden de
+ * su lista original. Pensada para consumidores que solo leen: unos pocos arrays en vez de un objeto y una lista por
+ * nodo. Inmutable.
+ */
+public final class GraphSnapshot {
+
+    private final int[] values;
+    private final int[] start;
+    private final int[] targets;
+
+    GraphSnapshot(int[] values, int[] start, int[] targets) {
+        this.values = values;
+        this.start = start;
+        this.targets = targets;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public int edgeCount() {
+        return start[values.length];
+    }
+
+    public int value(int id) {
+        return values[Objects.checkIndex(id, values.length)];
+    }
+
+    public int degree(int id) {
+        Objects.checkIndex(id, values.length);
+        return start[id + 1] - start[id];
+    }
+
+    /**
+     * Id del vecino {@code k} de {@code id}.
+     */
+    public int neighbor(int id, int k) {
+        Objects.checkIndex(k, degree(id));
+        return targets[start[id] + k];
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.challenges;
+
+public class GraphValidTree {
+
+    public static void main(String[] args) {
+        int[][] edgesA = { { 0, 1 }, { 0, 2 }, { 0, 3 }, { 1, 4 } }; // true
+        System.out.println(validTree(5, edgesA));
+        int[][] edgesB = { { 0, 1 }, { 1, 2 }, { 2, 3 }, { 1, 3 }, { 1, 4 } }; // false
+        System.out.println(validTree(5, edgesB));
+    }
+
+    /**
+     * Un árbol tiene exactamente {@code n - 1} aristas y ninguna cierra un ciclo; con esas dos condiciones el grafo
+     * queda conectado. Los ciclos se detectan con un {@link DisjointSet}.
+     */
+    public static boolean validTree(int n, int[][] edges) {
+        if (edges.length != n - 1) {
+            return false;
+        }
+        DisjointSet sets = new DisjointSet(n);
+        for (int[] edge : edges) {
+            if (!sets.union(edge[0], edge[1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.challenges;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GroupAnagrams {
+
+    public static void main(String[] args) {
+        String[] strs = { "eat", "tea", "tan", "ate", "nat", "bat" };
+        System.out.println(groupAnagrams(strs)); // [[eat, tea, ate], [tan, nat], [bat]]
+    }
+
+    /**
+     * Agrupa por la huella de anagrama (los contadores de letras empaquetados en dos {@code long}) en vez de por el
+     * string ordenado: O(n · k) y sin una clave por palabra. Ver {@link AnagramFingerprint#groupIds(String[])}. Los
+     * grupos salen en orden de primera aparición y cada uno conserva el orden de entrada.
+     */
+    public static List<List<String>> groupAnagrams(String[] strs) {
+        int[] ids = AnagramFingerprint.groupIds(strs);
+        int groups = 0;
+        for (int id : ids) {
+            groups = Math.max(groups, id + 1);
+        }
+        int[] sizes = new int[groups];
+        for (int id : ids) {
+            sizes[id]++;
+        }
+        List<List<String>> result = new ArrayList<>(groups);
+        for (int g = 0; g < groups; g++) {
+            result.add(new ArrayList<>(sizes[g]));
+        }
+        for (int i = 0; i < strs.length; i++) {
+            result.get(ids[i]).add(strs[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+
+public class InsertInterval {
+
+    public static void main(String[] args) {
+        int[][] intervals = { { 1, 3 }, { 6, 9 } }; // [[1, 5], [6, 9]]
+        System.out.println(Arrays.deepToString(insert(intervals, new int[] { 2, 5 })));
+    }
+
+    /**
+     * Inserta {@code newInterval} y fusiona los que se solapen. Sobre un {@link IntervalSet} ya construido la
+     * inserción es {@link IntervalSet#add(int, int)}, sin volver a ordenar.
+     */
+    public static int[][] insert(int[][] intervals, int[] newInterval) {
+        IntervalSet set = new IntervalSet(intervals);
+        set.add(newInterval);
+        return set.merged();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.challenges;
+
+import java.nio.IntBuffer;
+
+/**
+ * Secuencia de {@code int} indexada por {@code long}, para ejecutar los ejercicios de arrays sobre datos que no
+ * caben en un {@code int[]} del heap (ver {@link MappedIntFile}).
+ *
+ * <p>Además del acceso aleatorio con {@link #get(long)}, expone los datos por bloques contiguos como
+ * {@link IntBuffer}: los recorridos secuenciales iteran cada bloque con índices {@code int} sin pasar por
+ * {@code get} en cada elemento y sin copiar nada.
+ */
+public interface IntSource {
+
+    long length();
+
+    int get(long index);
+
+    /**
+     * Bloque contiguo que contiene {@code index}. La posición 0 del buffer corresponde a
+     * {@link #chunkStart(long) chunkStart(index)} y su {@code limit()} es el número de elementos del bloque.
+     * El buffer es una vista: no se debe modificar su posición ni su límite.
+     */
+    IntBuffer chunk(long index);
+
+    /**
+     * Índice del primer elemento del bloque que contiene {@code index}.
+     */
+    long chunkStart(long index);
+
+    /**
+     * Vista sobre un array del heap, sin copiarlo.
+     */
+    static IntSource of(int[] values) {
+        return WritableIntSource.of(values);
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Conjunto persistente de intervalos {@code [start, end]} que responde las consultas de los ejercicios 24-27 sin
+ * volver a ordenar la entrada en cada llamada.
+ *
+ * <p>Mantiene tres vistas en arrays primitivos paralelos, siempre ordenadas:
+ * <ul>
+ *   <li>los intervalos tal cual se añadieron, ordenados por {@code (start, end)};</li>
+ *   <li>todos los {@code end} ordenados por separado, para el barrido de salas de reuniones;</li>
+ *   <li>la unión fusionada de los intervalos (disjuntos y ordenados).</li>
+ * </ul>
+ * {@link #add(int, int)} localiza la posición en cada vista con búsqueda binaria O(log n) y desplaza el resto con
+ * {@link System#arraycopy}. {@link #maxOverlap()} y {@link #minRemovalsToAvoidOverlap()} recorren las vistas ya
+ * ordenadas en O(n) y cachean el resultado hasta la siguiente inserción.
+ *
+ * <p>Al fusionar, los intervalos que se tocan ({@code [1,3]} y {@code [3,5]}) se unen. Al contar solapamientos se
+ * tratan como semiabiertos: una reunión que acaba a las 3 no choca con otra que empieza a las 3.
+ *
+ * <p>No es thread-safe.
+ */
+public class IntervalSet {
+
+    private static final int NOT_CACHED = -1;
+
+    private int[] starts;
+    private int[] ends;
+    private int[] sortedEnds;
+    private int size;
+
+    private int[] mergedStarts;
+    private int[] mergedEnds;
+    private int mergedSize;
+
+    private int maxOverlap = NOT_CACHED;
+    private int minRemovals = NOT_CACHED;
+
+    public IntervalSet() {
+        this(new int[0][]);
+    }
+
+    /**
+     * Construye el conjunto a partir de {@code intervals} ordenándolos una sola vez.
+     */
+    public IntervalSet(int[][] intervals) {
+        int n = intervals.length;
+        // (start, end) empaquetados en un long ordenable: evita ordenar int[] con un Comparator
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            int[] interval = intervals[i];
+            checkInterval(interval[0], interval[1]);
+            packed[i] = pack(interval[0], interval[1]);
+        }
+        Arrays.sort(packed);
+
+        int capacity = Math.max(n, 4);
+        starts = new int[capacity];
+        ends = new int[capacity];
+        sortedEnds = new int[capacity];
+        mergedStarts = new int[capacity];
+        mergedEnds = new int[capacity];
+        for (int i = 0; i < n; i++) {
+            int start = (int) (packed[i] >> 32);
+            int end = (int) packed[i] ^ Integer.MIN_VALUE;
+            starts[i] = start;
+            ends[i] = end;
+            sortedEnds[i] = end;
+            if (mergedSize > 0 && start <= mergedEnds[mergedSize - 1]) {
+                mergedEnds[mergedSize - 1] = Math.max(mergedEnds[mergedSize - 1], end);
+            } else {
+                mergedStarts[mergedSize] = start;
+                mergedEnds[mergedSize] = end;
+                mergedSize++;
+            }
+        }
+        size = n;
+        Arrays.sort(sortedEnds, 0, n);
+    }
+
+    /**
+     * Añade {@code [start, end]} a todas las vistas.
+     */
+    public void add(int start, int end) {
+        checkInterval(start, end);
+        ensureCapacity(size + 1);
+
+        int at = insertionPoint(start, end);
+        System.arraycopy(starts, at, starts, at + 1, size - at);
+        System.arraycopy(ends, at, ends, at + 1, size - at);
+        starts[at] = start;
+        ends[at] = end;
+
+        int endAt = upperBound(sortedEnds, size, end);
+        System.arraycopy(sortedEnds, endAt, sortedEnds, endAt + 1, size - endAt);
+        sortedEnds[endAt] = end;
+        size++;
+
+        mergeInto(start, end);
+        maxOverlap = NOT_CACHED;
+        minRemovals = NOT_CACHED;
+    }
+
+    public void add(int[] interval) {
+        add(interval[0], interval[1]);
+    }
+
+    /**
+     * Número de intervalos añadidos (sin fusionar).
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Número de intervalos disjuntos tras fusionar.
+     */
+    public int mergedSize() {
+        return mergedSize;
+    }
+
+    public int mergedStart(int index) {
+        return mergedStarts[checkMergedIndex(index)];
+    }
+
+    public int mergedEnd(int index) {
+        return mergedEnds[checkMergedIndex(index)];
+    }
+
+    /**
+     * Copia de la unión fusionada como {@code int[][]}, en el formato de {@link MergeIntervals#merge(int[][])}.
+     */
+    public int[][] merged() {
+        int[][] result = new int[mergedSize][];
+        for (int i = 0; i < mergedSize; i++) {
+            result[i] = new int[] { mergedStarts[i], mergedEnds[i] };
+        }
+        return result;
+    }
+
+    /**
+     * Máximo número de intervalos que se solapan en un mismo instante (salas de reuniones necesarias).
+     */
+    public int maxOverlap() {
+        if (maxOverlap == NOT_CACHED) {
+            // Barrido sobre starts y ends ya ordenados: con empate el end va primero (intervalos semiabiertos)
+            int active = 0;
+            int peak = 0;
+            for (int i = 0, j = 0; i < size; i++) {
+                while (j < size && sortedEnds[j] <= starts[i]) {
+                    j++;
+                    active--;
+                }
+                peak = Math.max(peak, ++active);
+            }
+            maxOverlap = peak;
+        }
+        return maxOverlap;
+    }
+
+    /**
+     * Mínimo número de intervalos a quitar para que el resto no se solape.
+     */
+    public int minRemovalsToAvoidOverlap() {
+        if (minRemovals == NOT_CACHED) {
+            // Greedy por inicio: ante un choque se descarta el que termina más tarde
+            int removals = 0;
+            long lastEnd = Long.MIN_VALUE;
+            for (int i = 0; i < size; i++) {
+                if (starts[i] < lastEnd) {
+                    removals++;
+                    lastEnd = Math.min(lastEnd, ends[i]);
+                } else {
+                    lastEnd = ends[i];
+                }
+            }
+            minRemovals = removals;
+        }
+        return minRemovals;
+    }
+
+    private void mergeInto(int start, int end) {
+        // Primer intervalo fusionado que toca [start, end]: mergedEnds está ordenado porque son disjuntos
+        int first = lowerBound(mergedEnds, mergedSize, start);
+        // Primer intervalo fusionado que empieza después de end
+        int last = upperBound(mergedStarts, mergedSize, end);
+
+        if (first == last) {
+            System.arraycopy(mergedStarts, first, mergedStarts, first + 1, mergedSize - first);
+            System.arraycopy(mergedEnds, first, mergedEnds, first + 1, mergedSize - first);
+            mergedStarts[first] = start;
+            mergedEnds[first] = end;
+            mergedSize++;
+            return;
+        }
+
+        mergedStarts[first] = Math.min(start, mergedStarts[first]);
+        mergedEnds[first] = Math.max(end, mergedEnds[last - 1]);
+        int removed = last - first - 1;
+        System.arraycopy(mergedStarts, last, mergedStarts, first + 1, mergedSize - last);
+        System.arraycopy(mergedEnds, last, mergedEnds, first + 1, mergedSize - last);
+        mergedSize -= removed;
+    }
+
+    private int insertionPoint(int start, int end) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < start || (starts[mid] == start && ends[mid] <= end)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Primer índice con values[i] >= key
+    private static int lowerBound(int[] values, int length, int key) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Primer índice con values[i] > key
+    private static int upperBound(int[] values, int length, int key) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= starts.length) {
+            return;
+        }
+        int capacity = Math.max(needed, starts.length + (starts.length >> 1));
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        sortedEnds = Arrays.copyOf(sortedEnds, capacity);
+        mergedStarts = Arrays.copyOf(mergedStarts, capacity);
+        mergedEnds = Arrays.copyOf(mergedEnds, capacity);
+    }
+
+    private int checkMergedIndex(int index) {
+        return Objects.checkIndex(index, mergedSize);
+    }
+
+    private static long pack(int start, int end) {
+        // Invertir el bit de signo del end hace que el orden sin signo de los 32 bits bajos sea el orden con signo
+        return ((long) start << 32) | ((end ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+    }
+
+    private static void checkInterval(int start, int end) {
+        if (start > end) {
+            throw new IllegalArgumentException("Intervalo inválido: [" + start + ", " + end + "]");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.challenges;
+
+import java.util.Objects;
+
+/**
+ * Cuenta islas de una cuadrícula que empieza toda de agua y a la que se va añadiendo tierra celda a celda.
+ *
+ * <p>Cada celda es un elemento de un {@link DisjointSet} ({@code r * cols + c}) y la tierra se marca en un bitset.
+ * {@link #addLand(int, int)} une la celda nueva con sus vecinas de tierra: cada unión efectiva fusiona dos islas,
+ * así que el conteo se mantiene en O(α(n)) por celda sin recorrer la cuadrícula.
+ */
+public class IslandCounter {
+
+    private final int rows;
+    private final int cols;
+    private final DisjointSet sets;
+    private final long[] land;
+    private int islands;
+
+    public IslandCounter(int rows, int cols) {
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("Dimensiones inválidas: " + rows + "x" + cols);
+        }
+        long cells = (long) rows * cols;
+        if (cells > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Demasiadas celdas: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.sets = new DisjointSet((int) cells);
+        this.land = new long[(int) ((cells + 63) >>> 6)];
+    }
+
+    /**
+     * Convierte {@code (r, c)} en tierra y retorna el número de islas resultante. Añadir tierra donde ya la hay no
+     * cambia nada.
+     */
+    public int addLand(int r, int c) {
+        Objects.checkIndex(r, rows);
+        Objects.checkIndex(c, cols);
+        int cell = r * cols + c;
+        if (isLand(cell)) {
+            return islands;
+        }
+        land[cell >>> 6] |= 1L << cell;
+        islands++;
+        if (r > 0) {
+            join(cell, cell - cols);
+        }
+        if (r + 1 < rows) {
+            join(cell, cell + cols);
+        }
+        if (c > 0) {
+            join(cell, cell - 1);
+        }
+        if (c + 1 < cols) {
+            join(cell, cell + 1);
+        }
+        return islands;
+    }
+
+    public boolean isLand(int r, int c) {
+        Objects.checkIndex(r, rows);
+        Objects.checkIndex(c, cols);
+        return isLand(r * cols + c);
+    }
+
+    public int islands() {
+        return islands;
+    }
+
+    private boolean isLand(int cell) {
+        return (land[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    private void join(int cell, int neighbor) {
+        if (isLand(neighbor) && sets.union(cell, neighbor)) {
+            islands--;
+        }
+    }
+}
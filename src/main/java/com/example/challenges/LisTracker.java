@@ -0,0 +1,149 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+
+/**
+ * Subsecuencia estrictamente creciente más larga de una secuencia que llega elemento a elemento (por ejemplo los
+ * ids de un log de eventos), con la subsecuencia reconstruible en cualquier momento.
+ *
+ * <p>Patience sorting: {@code tails[k]} es el menor valor en el que termina alguna subsecuencia creciente de
+ * longitud {@code k + 1}, así que {@code tails} es creciente y cada elemento nuevo se coloca con una búsqueda
+ * binaria. Además de su valor se guarda qué elemento ocupa cada posición de {@code tails} y, por cada elemento, su
+ * predecesor (el que ocupaba la posición anterior al insertarlo): siguiendo los predecesores desde el último de
+ * {@code tails} sale la subsecuencia. Todo en arrays primitivos que crecen un 50% cuando se llenan: 12 bytes por
+ * elemento y O(log n) por {@link #add(long)}.
+ *
+ * <p>No es thread-safe.
+ */
+public class LisTracker {
+
+    private static final int NONE = -1;
+
+    private long[] values;
+    private int[] predecessor;
+    private int size;
+
+    private long[] tailValue;
+    private int[] tailIndex;
+    private int length;
+
+    public LisTracker() {
+        this(16);
+    }
+
+    public LisTracker(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity no puede ser negativa: " + capacity);
+        }
+        values = new long[capacity];
+        predecessor = new int[capacity];
+        tailValue = new long[16];
+        tailIndex = new int[16];
+    }
+
+    /**
+     * Añade el siguiente elemento y retorna la longitud de la subsecuencia creciente más larga que termina en él.
+     */
+    public int add(long value) {
+        if (size == values.length) {
+            int capacity = Math.max(16, values.length + (values.length >> 1));
+            values = Arrays.copyOf(values, capacity);
+            predecessor = Arrays.copyOf(predecessor, capacity);
+        }
+        // Primera posición con tail >= value: ahí termina la mejor subsecuencia que acaba en value
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (tailValue[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low == length) {
+            if (length == tailValue.length) {
+                tailValue = Arrays.copyOf(tailValue, length * 2);
+                tailIndex = Arrays.copyOf(tailIndex, length * 2);
+            }
+            length++;
+        }
+        int index = size++;
+        values[index] = value;
+        predecessor[index] = low == 0 ? NONE : tailIndex[low - 1];
+        tailValue[low] = value;
+        tailIndex[low] = index;
+        return low + 1;
+    }
+
+    /**
+     * Número de elementos añadidos.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Longitud de la subsecuencia creciente más larga hasta ahora.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Posiciones (en orden de llegada) de una subsecuencia creciente más larga: la que termina en el menor valor
+     * posible. O({@link #length()}).
+     */
+    public int[] indices() {
+        int[] indices = new int[length];
+        int index = length == 0 ? NONE : tailIndex[length - 1];
+        for (int k = length - 1; k >= 0; k--) {
+            indices[k] = index;
+            index = predecessor[index];
+        }
+        return indices;
+    }
+
+    /**
+     * Valores de la subsecuencia de {@link #indices()}.
+     */
+    public long[] subsequence() {
+        int[] indices = indices();
+        long[] subsequence = new long[indices.length];
+        for (int k = 0; k < indices.length; k++) {
+            subsequence[k] = values[indices[k]];
+        }
+        return subsequence;
+    }
+
+    /**
+     * Longitud de la subsecuencia creciente más larga que termina en cada posición de {@code nums}, en una pasada
+     * con un árbol de Fenwick de máximos sobre los valores comprimidos a rangos {@code 1..m}: la longitud en
+     * {@code i} es 1 más el máximo ya registrado para los valores menores que {@code nums[i]}. O(n log n).
+     */
+    public static int[] lengthsEndingAt(int[] nums) {
+        int[] ranks = nums.clone();
+        Arrays.sort(ranks);
+        int distinct = 0;
+        for (int i = 0; i < ranks.length; i++) {
+            if (i == 0 || ranks[i] != ranks[i - 1]) {
+                ranks[distinct++] = ranks[i];
+            }
+        }
+
+        int[] tree = new int[distinct + 1];
+        int[] lengths = new int[nums.length];
+        for (int i = 0; i < nums.length; i++) {
+            int rank = Arrays.binarySearch(ranks, 0, distinct, nums[i]) + 1;
+            int best = 0;
+            for (int j = rank - 1; j > 0; j -= j & -j) {
+                best = Math.max(best, tree[j]);
+            }
+            lengths[i] = best + 1;
+            for (int j = rank; j <= distinct; j += j & -j) {
+                tree[j] = Math.max(tree[j], lengths[i]);
+            }
+        }
+        return lengths;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+
+/**
+ * Tabla hash de direccionamiento abierto (sondeo lineal) de claves {@code long} a contadores {@code int}.
+ *
+ * <p>No hace boxing y {@link #clear()} es O(1): cada slot guarda la generación en la que se escribió, así que
+ * vaciar la tabla solo incrementa la generación actual. Pensada para reutilizarse como buffer de trabajo entre
+ * llamadas sin volver a asignar memoria.
+ *
+ * <p>No es thread-safe.
+ */
+final class LongIntHashMap {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private int[] values;
+    private int[] stamps;
+    private int generation;
+    private int size;
+    private int mask;
+    private int shift;
+    private int resizeAt;
+
+    LongIntHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    LongIntHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Retorna el contador asociado a {@code key}, o 0 si la clave no existe.
+     */
+    int get(long key) {
+        int slot = hash(key);
+        while (stamps[slot] == generation) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Suma {@code delta} al contador de {@code key} (insertándola si no existía) y retorna el nuevo valor.
+     */
+    int add(long key, int delta) {
+        int slot = hash(key);
+        while (stamps[slot] == generation) {
+            if (keys[slot] == key) {
+                return values[slot] += delta;
+            }
+            slot = (slot + 1) & mask;
+        }
+        stamps[slot] = generation;
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    int increment(long key) {
+        return add(key, 1);
+    }
+
+    /**
+     * Vacía la tabla en O(1) conservando los arrays internos.
+     */
+    void clear() {
+        size = 0;
+        if (++generation == 0) {
+            // Desbordó el contador de generaciones: hay que limpiar de verdad una vez cada 2^32 llamadas
+            Arrays.fill(stamps, 0);
+            generation = 1;
+        }
+    }
+
+    /**
+     * Vacía la tabla y garantiza espacio para {@code expectedSize} claves sin redimensionar.
+     */
+    void reset(int expectedSize) {
+        int capacity = capacityFor(expectedSize);
+        if (capacity > keys.length) {
+            allocate(capacity);
+        } else {
+            clear();
+        }
+    }
+
+    /**
+     * Garantiza espacio para {@code expectedSize} claves conservando el contenido actual.
+     */
+    void ensureCapacity(int expectedSize) {
+        int capacity = capacityFor(expectedSize);
+        if (capacity > keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    /**
+     * Recorre las entradas vivas de la tabla.
+     */
+    void forEach(Visitor visitor) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (stamps[slot] == generation) {
+                visitor.visit(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(long key, int value);
+    }
+
+    private int hash(long key) {
+        return (int) ((key * GOLDEN_RATIO) >>> shift);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        stamps = new int[capacity];
+        generation = 1;
+        size = 0;
+        mask = capacity - 1;
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        resizeAt = (int) (capacity * 0.75f);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        int[] oldStamps = stamps;
+        int oldGeneration = generation;
+        allocate(capacity);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldStamps[slot] == oldGeneration) {
+                add(oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / 0.75));
+        if (needed > (1 << 30)) {
+            throw new IllegalArgumentException("Demasiadas claves para la tabla: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+
+/**
+ * Variante de {@link LongIntHashMap} con contadores {@code long}, para tablas de frecuencias que viven lo
+ * suficiente como para superar {@link Integer#MAX_VALUE} repeticiones de una misma clave (por ejemplo, los
+ * contadores en streaming, que no tienen un número máximo de elementos).
+ *
+ * <p>Mismo diseño: sondeo lineal, sin boxing y {@link #clear()} en O(1) por generaciones.
+ *
+ * <p>No es thread-safe.
+ */
+final class LongLongHashMap {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] keys;
+    private long[] values;
+    private int[] stamps;
+    private int generation;
+    private int size;
+    private int mask;
+    private int shift;
+    private int resizeAt;
+
+    LongLongHashMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Retorna el contador asociado a {@code key}, o 0 si la clave no existe.
+     */
+    long get(long key) {
+        int slot = hash(key);
+        while (stamps[slot] == generation) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Suma {@code delta} al contador de {@code key} (insertándola si no existía) y retorna el nuevo valor.
+     */
+    long add(long key, long delta) {
+        int slot = hash(key);
+        while (stamps[slot] == generation) {
+            if (keys[slot] == key) {
+                return values[slot] += delta;
+            }
+            slot = (slot + 1) & mask;
+        }
+        stamps[slot] = generation;
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size > resizeAt) {
+            if (keys.length == MAX_CAPACITY) {
+                throw new IllegalStateException("Demasiadas claves para la tabla: " + size);
+            }
+            rehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    long increment(long key) {
+        return add(key, 1);
+    }
+
+    /**
+     * Vacía la tabla en O(1) conservando los arrays internos.
+     */
+    void clear() {
+        size = 0;
+        if (++generation == 0) {
+            // Desbordó el contador de generaciones: hay que limpiar de verdad una vez cada 2^32 llamadas
+            Arrays.fill(stamps, 0);
+            generation = 1;
+        }
+    }
+
+    private int hash(long key) {
+        return (int) ((key * GOLDEN_RATIO) >>> shift);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        stamps = new int[capacity];
+        generation = 1;
+        size = 0;
+        mask = capacity - 1;
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        resizeAt = (int) (capacity * 0.75f);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        int[] oldStamps = stamps;
+        int oldGeneration = generation;
+        allocate(capacity);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldStamps[slot] == oldGeneration) {
+                add(oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+}
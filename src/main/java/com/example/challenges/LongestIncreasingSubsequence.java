@@ -0,0 +1,41 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+
+public class LongestIncreasingSubsequence {
+
+    public static void main(String[] args) {
+        int[] nums = { 10, 9, 2, 5, 3, 7, 101, 18 };
+        System.out.println(lengthOfLIS(nums)); // 4
+        System.out.println(Arrays.toString(longestIncreasingSubsequence(nums))); // [2, 3, 7, 18]
+        System.out.println(lengthOfLIS(new int[] { 0, 1, 0, 3, 2, 3 })); // 4
+    }
+
+    /**
+     * Patience sorting con búsqueda binaria sobre los "tails" de cada longitud, O(n log n). Para secuencias que
+     * llegan elemento a elemento o para recuperar la subsecuencia, ver {@link LisTracker}.
+     */
+    public static int lengthOfLIS(int[] nums) {
+        LisTracker tracker = new LisTracker(nums.length);
+        for (int num : nums) {
+            tracker.add(num);
+        }
+        return tracker.length();
+    }
+
+    /**
+     * Una subsecuencia creciente más larga de {@code nums}: la que termina en el menor valor posible.
+     */
+    public static int[] longestIncreasingSubsequence(int[] nums) {
+        LisTracker tracker = new LisTracker(nums.length);
+        for (int num : nums) {
+            tracker.add(num);
+        }
+        int[] indices = tracker.indices();
+        int[] subsequence = new int[indices.length];
+        for (int k = 0; k < indices.length; k++) {
+            subsequence[k] = nums[indices[k]];
+        }
+        return subsequence;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.challenges;
+
+public class LongestPalindromicSubstring {
+
+    public static void main(String[] args) {
+        System.out.println(longestPalindrome("babad")); // "bab" (o "aba")
+        System.out.println(longestPalindrome("cbbd")); // "bb"
+    }
+
+    /**
+     * Manacher en vez de expandir alrededor de cada centro: reutiliza los radios de los centros ya calculados dentro
+     * del palíndromo que llega más a la derecha, así que es O(n) en lugar de O(n²). Ver {@link PalindromeIndex}.
+     */
+    public static String longestPalindrome(String s) {
+        PalindromeIndex index = PalindromeIndex.of(s);
+        return s.substring(index.longestStart(), index.longestStart() + index.longestLength());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.challenges;
+
+import java.nio.ByteBuffer;
+
+public class LongestRepeatingCharacterReplacement {
+
+    public static void main(String[] args) {
+        System.out.println(characterReplacement("ABAB", 2)); // 4
+        System.out.println(characterReplacement("AABABBA", 1)); // 4
+    }
+
+    /**
+     * Ventana deslizante que solo crece: se contrae un carácter cuando tiene más de {@code k} caracteres distintos
+     * del más frecuente. La frecuencia máxima no se recalcula al contraer, porque una ventana solo mejora la
+     * respuesta si supera la frecuencia máxima ya vista. Ver {@link CountingWindow}.
+     */
+    public static int characterReplacement(String s, int k) {
+        Replacement replacement = new Replacement(k);
+        CountingWindow.forText(s).run(s, replacement);
+        return replacement.best;
+    }
+
+    /**
+     * Igual que {@link #characterReplacement(String, int)} sobre los bytes entre la posición y el límite de
+     * {@code bytes}.
+     */
+    public static int characterReplacement(ByteBuffer bytes, int k) {
+        Replacement replacement = new Replacement(k);
+        CountingWindow.bytes().run(bytes, replacement);
+        return replacement.best;
+    }
+
+    private static final class Replacement implements CountingWindow.Policy {
+
+        final int k;
+        int maxCount;
+        int best;
+
+        Replacement(int k) {
+            if (k < 0) {
+                throw new IllegalArgumentException("k no puede ser negativo: " + k);
+            }
+            this.k = k;
+        }
+
+        @Override
+        public boolean shrink(CountingWindow window, int first, int last) {
+            maxCount = Math.max(maxCount, window.count(last));
+            return window.length() - maxCount > k;
+        }
+
+        @Override
+        public void accept(CountingWindow window) {
+            best = Math.max(best, window.length());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.challenges;
+
+import java.nio.ByteBuffer;
+
+public class LongestSubstringWithoutRepeatingCharacters {
+
+    public static void main(String[] args) {
+        System.out.println(lengthOfLongestSubstring("abcabcbb")); // 3
+        System.out.println(lengthOfLongestSubstring("bbbbb")); // 1
+        System.out.println(lengthOfLongestSubstring("pwwkew")); // 3
+    }
+
+    /**
+     * Ventana deslizante que se contrae por la izquierda mientras el último carácter añadido está repetido. Ver
+     * {@link CountingWindow}.
+     */
+    public static int lengthOfLongestSubstring(String s) {
+        Longest longest = new Longest();
+        CountingWindow.forText(s).run(s, longest);
+        return longest.best;
+    }
+
+    /**
+     * Igual que {@link #lengthOfLongestSubstring(String)} sobre los bytes entre la posición y el límite de
+     * {@code bytes}.
+     */
+    public static int lengthOfLongestSubstring(ByteBuffer bytes) {
+        Longest longest = new Longest();
+        CountingWindow.bytes().run(bytes, longest);
+        return longest.best;
+    }
+
+    private static final class Longest implements CountingWindow.Policy {
+
+        int best;
+
+        @Override
+        public boolean shrink(CountingWindow window, int first, int last) {
+            return window.count(last) > 1;
+        }
+
+        @Override
+        public void accept(CountingWindow window) {
+            best = Math.max(best, window.length());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.challenges;
+
+public class LowestCommonAncestorOfBST {
+
+    public static void main(String[] args) {
+        TreeNode p = new TreeNode(2, new TreeNode(0), new TreeNode(4, new TreeNode(3), new TreeNode(5)));
+        TreeNode q = new TreeNode(8, new TreeNode(7), new TreeNode(9));
+        TreeNode root = new TreeNode(6, p, q);
+        System.out.println(lowestCommonAncestor(root, p, q).val); // 6
+    }
+
+    /**
+     * Se baja desde la raíz mientras {@code p} y {@code q} queden del mismo lado; el primer nodo que los separa (o
+     * que es uno de ellos) es el ancestro común más bajo. Iterativo, O(h) tiempo y O(1) espacio.
+     */
+    public static TreeNode lowestCommonAncestor(TreeNode root, TreeNode p, TreeNode q) {
+        int low = Math.min(p.val, q.val);
+        int high = Math.max(p.val, q.val);
+        TreeNode node = root;
+        while (node != null) {
+            if (high < node.val) {
+                node = node.left;
+            } else if (low > node.val) {
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Igual que {@link #lowestCommonAncestor(TreeNode, TreeNode, TreeNode)} sobre un {@link TreeArena}, con
+     * {@code p} y {@code q} como ids de nodo. Retorna el id del ancestro.
+     */
+    public static int lowestCommonAncestor(TreeArena tree, int p, int q) {
+        return tree.lowestCommonAncestor(p, q);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.challenges;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Fichero de {@code int} little-endian de 32 bits accedido con {@link java.nio.MappedByteBuffer}.
+ *
+ * <p>Un {@code MappedByteBuffer} no puede pasar de 2 GB, así que el fichero se proyecta por segmentos de
+ * {@code 2^SEGMENT_SHIFT} ints (1 GB por defecto) que se mapean la primera vez que se accede a ellos. Los datos
+ * nunca se copian al heap: la memoria que ocupan es page cache del sistema operativo, no {@code -Xmx}, y un
+ * recorrido secuencial se traduce en lecturas secuenciales del fichero.
+ *
+ * <p>Los segmentos mapeados siguen siendo válidos después de {@link #close()}; se liberan cuando el GC recoge
+ * este objeto. No es thread-safe.
+ */
+public final class MappedIntFile implements WritableIntSource, AutoCloseable {
+
+    static final int SEGMENT_SHIFT = 28;
+
+    private final FileChannel channel;
+    private final FileChannel.MapMode mode;
+    private final long length;
+    private final int segmentShift;
+    private final long segmentMask;
+    private final IntBuffer[] segments;
+
+    private MappedIntFile(FileChannel channel, FileChannel.MapMode mode, long length, int segmentShift) {
+        this.channel = channel;
+        this.mode = mode;
+        this.length = length;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+        this.segments = new IntBuffer[Math.toIntExact((length + segmentMask) >>> segmentShift)];
+    }
+
+    /**
+     * Abre {@code path} en solo lectura. Su tamaño debe ser múltiplo de 4 bytes.
+     */
+    public static MappedIntFile open(Path path) throws IOException {
+        return open(path, SEGMENT_SHIFT);
+    }
+
+    /**
+     * Crea (o trunca) {@code path} con espacio para {@code length} ints a cero, en lectura y escritura.
+     */
+    public static MappedIntFile create(Path path, long length) throws IOException {
+        return create(path, length, SEGMENT_SHIFT);
+    }
+
+    static MappedIntFile open(Path path, int segmentShift) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        long size = channel.size();
+        if (size % Integer.BYTES != 0) {
+            channel.close();
+            throw new IllegalArgumentException("El tamaño de " + path + " no es múltiplo de 4 bytes: " + size);
+        }
+        return new MappedIntFile(channel, FileChannel.MapMode.READ_ONLY, size / Integer.BYTES, segmentShift);
+    }
+
+    static MappedIntFile create(Path path, long length, int segmentShift) throws IOException {
+        if (length < 0) {
+            throw new IllegalArgumentException("Longitud negativa: " + length);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        if (length > 0) {
+            // Reservar el tamaño final de una vez en lugar de ir extendiéndolo segmento a segmento
+            channel.write(ByteBuffer.allocate(1), length * Integer.BYTES - 1);
+        }
+        return new MappedIntFile(channel, FileChannel.MapMode.READ_WRITE, length, segmentShift);
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public int get(long index) {
+        return segment(index).get((int) (index & segmentMask));
+    }
+
+    @Override
+    public void set(long index, int value) {
+        segment(index).put((int) (index & segmentMask), value);
+    }
+
+    @Override
+    public IntBuffer chunk(long index) {
+        return segment(index);
+    }
+
+    @Override
+    public long chunkStart(long index) {
+        Objects.checkIndex(index, length);
+        return index & ~segmentMask;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private IntBuffer segment(long index) {
+        Objects.checkIndex(index, length);
+        int segment = (int) (index >>> segmentShift);
+        IntBuffer buffer = segments[segment];
+        return buffer != null ? buffer : map(segment);
+    }
+
+    private IntBuffer map(int segment) {
+        long first = (long) segment << segmentShift;
+        long ints = Math.min(segmentMask + 1, length - first);
+        try {
+            IntBuffer buffer = channel.map(mode, first * Integer.BYTES, ints * Integer.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asIntBuffer();
+            segments[segment] = buffer;
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo mapear el segmento " + segment, e);
+        }
+    }
+}
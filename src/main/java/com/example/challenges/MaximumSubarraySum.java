@@ -0,0 +1,54 @@
+package com.example.challenges;
+
+import java.nio.IntBuffer;
+
+public class MaximumSubarraySum {
+
+    public static void main(String[] args) {
+        int[] numsA = { -2, 1, -3, 4, -1, 2, 1, -5, 4 }; // 6
+        System.out.println(maxSubarraySum(numsA));
+        int[] numsB = { 5, 4, -1, 7, 8 }; // 23
+        System.out.println(maxSubarraySum(numsB));
+    }
+
+    public static int maxSubarraySum(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            throw new IllegalArgumentException("El array no puede estar vacío");
+        }
+
+        int currentSum = nums[0];
+        int maxSum = currentSum;
+        for (int i = 1; i < nums.length; i++) {
+            // Si lo acumulado es negativo, empezar de nuevo en nums[i]
+            currentSum = Math.max(nums[i], currentSum + nums[i]);
+            maxSum = Math.max(maxSum, currentSum);
+        }
+        return maxSum;
+    }
+
+    /**
+     * Kadane sobre una fuente que puede no caber en el heap (ver {@link MappedIntFile}). Acumula en {@code long}
+     * porque la fuente puede tener miles de millones de elementos.
+     */
+    public static long maxSubarraySum(IntSource nums) {
+        long n = nums.length();
+        if (n == 0) {
+            throw new IllegalArgumentException("El array no puede estar vacío");
+        }
+
+        long currentSum = 0;
+        long maxSum = Long.MIN_VALUE;
+        // Bloque a bloque: el bucle interno es un recorrido con índice int sobre un IntBuffer
+        for (long base = 0; base < n; ) {
+            IntBuffer chunk = nums.chunk(base);
+            int chunkLength = chunk.limit();
+            for (int i = 0; i < chunkLength; i++) {
+                int num = chunk.get(i);
+                currentSum = Math.max(num, currentSum + num);
+                maxSum = Math.max(maxSum, currentSum);
+            }
+            base += chunkLength;
+        }
+        return maxSum;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.challenges;
+
+public class MeetingRoomsII {
+
+    public static void main(String[] args) {
+        int[][] intervals = { { 0, 30 }, { 5, 10 }, { 15, 20 } }; // 2
+        System.out.println(minMeetingRooms(intervals));
+    }
+
+    /**
+     * Máximo número de reuniones simultáneas; ver {@link IntervalSet#maxOverlap()}.
+     */
+    public static int minMeetingRooms(int[][] intervals) {
+        return new IntervalSet(intervals).maxOverlap();
+    }
+}
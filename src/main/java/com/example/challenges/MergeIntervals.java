@@ -0,0 +1,19 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+
+public class MergeIntervals {
+
+    public static void main(String[] args) {
+        int[][] intervals = { { 1, 3 }, { 2, 6 }, { 8, 10 }, { 15, 18 } }; // [[1, 6], [8, 10], [15, 18]]
+        System.out.println(Arrays.deepToString(merge(intervals)));
+    }
+
+    /**
+     * Ordena por inicio y fusiona si {@code current.start <= previous.end}. Para consultas repetidas sobre los
+     * mismos intervalos conviene construir un {@link IntervalSet} una vez.
+     */
+    public static int[][] merge(int[][] intervals) {
+        return new IntervalSet(intervals).merged();
+    }
+}
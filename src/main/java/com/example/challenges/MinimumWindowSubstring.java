@@ -0,0 +1,60 @@
+package com.example.challenges;
+
+import java.nio.ByteBuffer;
+
+public class MinimumWindowSubstring {
+
+    public static void main(String[] args) {
+        System.out.println(minWindow("ADOBECODEBANC", "ABC")); // BANC
+        System.out.println(minWindow("a", "a")); // a
+        System.out.println(minWindow("a", "aa")); // ""
+    }
+
+    /**
+     * Ventana deslizante con los caracteres de {@code t} como objetivo: tras cada carácter añadido se quitan por la
+     * izquierda los que sobran, y si la ventana ya cubre {@code t} es la más corta que termina ahí. Ver
+     * {@link CountingWindow}. Retorna {@code ""} si no hay ninguna.
+     */
+    public static String minWindow(String s, String t) {
+        if (t.isEmpty()) {
+            return "";
+        }
+        Shortest shortest = new Shortest();
+        CountingWindow.forText(s, t).require(t).run(s, shortest);
+        return shortest.length == Integer.MAX_VALUE ? ""
+                : s.substring(shortest.start, shortest.start + shortest.length);
+    }
+
+    /**
+     * Igual que {@link #minWindow(String, String)} sobre los bytes entre la posición y el límite de cada buffer.
+     * Retorna una vista de {@code s} con la ventana, vacía si no hay ninguna.
+     */
+    public static ByteBuffer minWindow(ByteBuffer s, ByteBuffer t) {
+        if (!t.hasRemaining()) {
+            return s.slice(s.position(), 0);
+        }
+        Shortest shortest = new Shortest();
+        CountingWindow.bytes().require(t).run(s, shortest);
+        return shortest.length == Integer.MAX_VALUE ? s.slice(s.position(), 0)
+                : s.slice(shortest.start, shortest.length);
+    }
+
+    private static final class Shortest implements CountingWindow.Policy {
+
+        int start;
+        int length = Integer.MAX_VALUE;
+
+        @Override
+        public boolean shrink(CountingWindow window, int first, int last) {
+            return window.count(first) > window.target(first);
+        }
+
+        @Override
+        public void accept(CountingWindow window) {
+            if (window.deficit() == 0 && window.length() < length) {
+                start = window.start();
+                length = window.length();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.challenges;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Nodo de grafo no dirigido de {@link CloneGraph}: un valor y la lista de vecinos.
+ */
+public class Node {
+
+    public int val;
+    public List<Node> neighbors;
+
+    public Node() {
+        this(0);
+    }
+
+    public Node(int val) {
+        this(val, new ArrayList<>());
+    }
+
+    public Node(int val, List<Node> neighbors) {
+        this.val = val;
+        this.neighbors = neighbors;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.challenges;
+
+public class NonOverlappingIntervals {
+
+    public static void main(String[] args) {
+        int[][] intervals = { { 1, 2 }, { 2, 3 }, { 3, 4 }, { 1, 3 } }; // 1
+        System.out.println(eraseOverlapIntervals(intervals));
+    }
+
+    /**
+     * Greedy sobre los intervalos ordenados; ver {@link IntervalSet#minRemovalsToAvoidOverlap()}.
+     */
+    public static int eraseOverlapIntervals(int[][] intervals) {
+        return new IntervalSet(intervals).minRemovalsToAvoidOverlap();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+
+public class NumberOfIslands {
+
+    private static final int WATER = -1;
+
+    // Por debajo de este número de celdas el coste de repartir el trabajo supera al del recorrido secuencial
+    static final long PARALLEL_THRESHOLD = 1L << 22;
+    // Varias franjas por hilo para repartir mejor la carga cuando la tierra no está distribuida uniformemente
+    static final int BANDS_PER_THREAD = 4;
+
+    public static void main(String[] args) {
+        char[][] grid = {
+                { '1', '1', '0', '0', '0' },
+                { '1', '1', '0', '0', '0' },
+                { '0', '0', '1', '0', '0' },
+                { '0', '0', '0', '1', '1' }
+        }; // 3
+        System.out.println(numIslands(grid));
+    }
+
+    /**
+     * Recorrido fila a fila con un {@link DisjointSet} en vez de DFS: cada tramo horizontal de tierra es un conjunto
+     * que se une con los tramos de la fila anterior que toca. Solo guarda dos filas de etiquetas y un conjunto por
+     * tramo, y no usa recursión, así que cuadrículas de cientos de millones de celdas no desbordan la pila.
+     */
+    public static int numIslands(char[][] grid) {
+        if (grid.length == 0 || grid[0].length == 0) {
+            return 0;
+        }
+        int cols = grid[0].length;
+        int[] previous = new int[cols];
+        int[] current = new int[cols];
+        Arrays.fill(previous, WATER);
+        DisjointSet runs = new DisjointSet();
+
+        for (char[] row : grid) {
+            for (int c = 0; c < cols; c++) {
+                if (row[c] != '1') {
+                    current[c] = WATER;
+                    continue;
+                }
+                boolean continuesRun = c > 0 && current[c - 1] != WATER;
+                int run = continuesRun ? current[c - 1] : runs.makeSet();
+                current[c] = run;
+                // Basta una unión por cada par de tramos que se tocan, no una por columna
+                if (previous[c] != WATER && !(continuesRun && previous[c - 1] == previous[c])) {
+                    runs.union(run, previous[c]);
+                }
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return runs.components();
+    }
+
+    /**
+     * Igual que {@link #numIslands(char[][])} sobre una cuadrícula de 1 bit por celda. Los tramos de tierra se
+     * extraen palabra a palabra, así que el agua cuesta una operación cada 64 celdas.
+     */
+    public static long numIslands(BitGrid grid) {
+        return BitGridIslands.count(grid);
+    }
+
+    /**
+     * Igual que {@link #numIslands(BitGrid)} pero etiquetando franjas de filas en {@code parallelism} hilos de un
+     * {@link java.util.concurrent.ForkJoinPool} y uniendo después las islas que cruzan las fronteras entre franjas.
+     * Retorna exactamente el mismo conteo; recurre a la versión secuencial si {@code parallelism == 1} o si la
+     * cuadrícula tiene menos de {@link #PARALLEL_THRESHOLD} celdas.
+     */
+    public static long numIslands(BitGrid grid, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism debe ser positivo: " + parallelism);
+        }
+        if (parallelism == 1 || (long) grid.rows() * grid.cols() < PARALLEL_THRESHOLD) {
+            return numIslands(grid);
+        }
+        return BitGridIslands.count(grid, parallelism, parallelism * BANDS_PER_THREAD);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.challenges;
+
+/**
+ * Flood multi-origen de {@link PacificAtlanticWaterFlow} sobre un mapa de alturas plano: {@code (r, c)} está en
+ * {@code heights[r * stride + c]}.
+ *
+ * <p>El flood sube desde el borde de un océano: una celda alcanza el océano si se llega a ella desde el borde
+ * pasando solo a vecinas de altura mayor o igual. Es un BFS con una cola circular de índices que crece bajo demanda
+ * (el frente de un BFS sobre una cuadrícula suele ser del orden de su perímetro, no del área) y las celdas
+ * alcanzadas se marcan en un bitset {@code long[]} indexado por {@code r * cols + c}. Sin recursión.
+ */
+final class OceanFlood {
+
+    private final int[] heights;
+    private final int rows;
+    private final int cols;
+    private final int stride;
+    private final long[] reached;
+    private long[] queue;
+    private int head;
+    private int size;
+
+    private OceanFlood(int[] heights, int rows, int cols, int stride) {
+        this.heights = heights;
+        this.rows = rows;
+        this.cols = cols;
+        this.stride = stride;
+        this.reached = new long[(int) (((long) rows * cols + 63) >>> 6)];
+        this.queue = new long[Integer.highestOneBit(Math.max(2 * (rows + cols), 16) - 1) << 1];
+    }
+
+    /**
+     * Bitset de celdas que alcanzan el Pacífico (bordes superior e izquierdo) o, si {@code pacific} es
+     * {@code false}, el Atlántico (bordes inferior y derecho).
+     */
+    static long[] flood(int[] heights, int rows, int cols, int stride, boolean pacific) {
+        OceanFlood flood = new OceanFlood(heights, rows, cols, stride);
+        int edgeRow = pacific ? 0 : rows - 1;
+        int edgeCol = pacific ? 0 : cols - 1;
+        for (int c = 0; c < cols; c++) {
+            flood.seed(edgeRow, c);
+        }
+        for (int r = 0; r < rows; r++) {
+            flood.seed(r, edgeCol);
+        }
+        flood.run();
+        return flood.reached;
+    }
+
+    private void run() {
+        while (size > 0) {
+            long packed = queue[head];
+            head = (head + 1) & (queue.length - 1);
+            size--;
+            int r = (int) (packed >>> 32);
+            int c = (int) packed;
+            int height = heights[r * stride + c];
+            if (r > 0) {
+                visit(r - 1, c, height);
+            }
+            if (r + 1 < rows) {
+                visit(r + 1, c, height);
+            }
+            if (c > 0) {
+                visit(r, c - 1, height);
+            }
+            if (c + 1 < cols) {
+                visit(r, c + 1, height);
+            }
+        }
+    }
+
+    private void visit(int r, int c, int from) {
+        if (heights[r * stride + c] >= from) {
+            seed(r, c);
+        }
+    }
+
+    private void seed(int r, int c) {
+        int cell = r * cols + c;
+        long bit = 1L << cell;
+        if ((reached[cell >>> 6] & bit) != 0) {
+            return; // Las esquinas están en dos bordes
+        }
+        reached[cell >>> 6] |= bit;
+        if (size == queue.length) {
+            grow();
+        }
+        // (r, c) empaquetados: evita dividir por cols al sacar cada celda
+        queue[(head + size) & (queue.length - 1)] = (long) r << 32 | c;
+        size++;
+    }
+
+    private void grow() {
+        long[] grown = new long[queue.length * 2];
+        // Desenrolla la cola circular al principio del array nuevo
+        int firstPart = queue.length - head;
+        System.arraycopy(queue, head, grown, 0, firstPart);
+        System.arraycopy(queue, 0, grown, firstPart, head);
+        queue = grown;
+        head = 0;
+    }
+
+    /**
+     * Intersección de dos bitsets de flood, sobre el primero.
+     */
+    static long[] intersect(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] &= b[i];
+        }
+        return a;
+    }
+
+    static int[] cells(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        int[] cells = new int[count];
+        int next = 0;
+        for (int w = 0; w < bits.length; w++) {
+            for (long word = bits[w]; word != 0; word &= word - 1) {
+                cells[next++] = (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return cells;
+    }
+
+    static void checkShape(int[] heights, int rows, int cols, int stride) {
+        String shape = rows + "x" + cols + " (stride " + stride + ")";
+        if (rows < 0 || cols < 0 || stride < cols || (long) rows * cols > Integer.MAX_VALUE - 64) {
+            throw new IllegalArgumentException("Dimensiones inválidas: " + shape);
+        }
+        if (rows > 0 && cols > 0 && heights.length < (long) (rows - 1) * stride + cols) {
+            throw new IllegalArgumentException("El array no cubre el mapa " + shape + ": " + heights.length
+                    + " alturas");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.challenges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class PacificAtlanticWaterFlow {
+
+    // Por debajo de este número de celdas lanzar el segundo flood en otro hilo cuesta más de lo que ahorra
+    static final int CONCURRENT_THRESHOLD = 1 << 16;
+
+    public static void main(String[] args) {
+        int[][] heights = {
+                { 1, 2, 2, 3, 5 },
+                { 3, 2, 3, 4, 4 },
+                { 2, 4, 5, 3, 1 },
+                { 6, 7, 1, 4, 5 },
+                { 5, 1, 1, 2, 4 }
+        }; // [[0, 4], [1, 3], [1, 4], [2, 2], [3, 0], [3, 1], [4, 0]]
+        System.out.println(pacificAtlantic(heights));
+    }
+
+    /**
+     * Adaptador de {@link #pacificAtlantic(int[], int, int, int)} para mapas pequeños: coordenadas {@code [r, c]}
+     * en orden de filas.
+     */
+    public static List<List<Integer>> pacificAtlantic(int[][] heights) {
+        int rows = heights.length;
+        int cols = rows == 0 ? 0 : heights[0].length;
+        int[] flat = new int[rows * cols];
+        for (int r = 0; r < rows; r++) {
+            System.arraycopy(heights[r], 0, flat, r * cols, cols);
+        }
+        List<List<Integer>> result = new ArrayList<>();
+        for (int cell : pacificAtlanticCells(flat, rows, cols, cols)) {
+            result.add(Arrays.asList(cell / cols, cell % cols));
+        }
+        return result;
+    }
+
+    /**
+     * Celdas desde las que el agua llega a los dos océanos, como bitset de índices {@code r * cols + c}. La altura
+     * de {@code (r, c)} está en {@code heights[r * stride + c]}.
+     *
+     * <p>Dos floods multi-origen que suben desde el borde de cada océano ({@link OceanFlood}), sin recursión; con
+     * mapas de al menos {@link #CONCURRENT_THRESHOLD} celdas el del Pacífico corre en otro hilo mientras el del
+     * Atlántico corre en el actual (si hay más de un procesador).
+     */
+    public static BitSet pacificAtlantic(int[] heights, int rows, int cols, int stride) {
+        return BitSet.valueOf(reachBoth(heights, rows, cols, stride));
+    }
+
+    /**
+     * Igual que {@link #pacificAtlantic(int[], int, int, int)} pero como array ordenado de índices
+     * {@code r * cols + c}.
+     */
+    public static int[] pacificAtlanticCells(int[] heights, int rows, int cols, int stride) {
+        return OceanFlood.cells(reachBoth(heights, rows, cols, stride));
+    }
+
+    private static long[] reachBoth(int[] heights, int rows, int cols, int stride) {
+        OceanFlood.checkShape(heights, rows, cols, stride);
+        // Con un solo procesador los dos floods se turnarían en el mismo núcleo
+        boolean concurrent = (long) rows * cols >= CONCURRENT_THRESHOLD
+                && Runtime.getRuntime().availableProcessors() > 1;
+        return reachBoth(heights, rows, cols, stride, concurrent);
+    }
+
+    static long[] reachBoth(int[] heights, int rows, int cols, int stride, boolean concurrent) {
+        if (rows == 0 || cols == 0) {
+            return new long[0];
+        }
+        if (!concurrent) {
+            return OceanFlood.intersect(OceanFlood.flood(heights, rows, cols, stride, true),
+                    OceanFlood.flood(heights, rows, cols, stride, false));
+        }
+        CompletableFuture<long[]> pacific = CompletableFuture.supplyAsync(
+                () -> OceanFlood.flood(heights, rows, cols, stride, true));
+        long[] atlantic = OceanFlood.flood(heights, rows, cols, stride, false);
+        return OceanFlood.intersect(pacific.join(), atlantic);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.challenges;
+
+import java.util.Objects;
+
+/**
+ * Radios de Manacher de un texto, calculados una vez en O(n) y compartidos por {@link LongestPalindromicSubstring} y
+ * {@link PalindromicSubstrings}.
+ *
+ * <p>Manacher trabaja sobre el texto con un separador entre cada par de letras y en los extremos ({@code #a#b#a#}),
+ * así que los palíndromos pares e impares tienen todos un centro. Ese texto no se construye: el separador se
+ * reconoce por la paridad de la posición. {@code radius[c]}, para {@code c} en {@code 0..2n}, es la longitud en el
+ * texto original del palíndromo más largo con centro {@code c}: una letra si {@code c} es impar, el hueco entre dos
+ * letras si es par. Con eso el palíndromo más largo, el número total de palíndromos y si {@code s[from..to)} es un
+ * palíndromo se responden en O(1).
+ *
+ * <p>Ocupa un {@code int[2n + 1]} (unos 8 MB para un texto de 1 MB). Inmutable.
+ */
+public final class PalindromeIndex {
+
+    private final int length;
+    private final int[] radius;
+    private final int longestStart;
+    private final int longestLength;
+    private final long count;
+
+    private PalindromeIndex(int length, int[] radius) {
+        this.length = length;
+        this.radius = radius;
+        int bestCenter = 0;
+        long total = 0;
+        for (int c = 0; c < radius.length; c++) {
+            if (radius[c] > radius[bestCenter]) {
+                bestCenter = c;
+            }
+            // Cada palíndromo con ese centro, del más corto al más largo, es otro substring
+            total += (radius[c] + 1) >>> 1;
+        }
+        this.longestLength = radius[bestCenter];
+        this.longestStart = (bestCenter - longestLength) >>> 1;
+        this.count = total;
+    }
+
+    public static PalindromeIndex of(CharSequence s) {
+        char[] chars = new char[s.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = s.charAt(i);
+        }
+        return of(chars);
+    }
+
+    public static PalindromeIndex of(char[] s) {
+        return new PalindromeIndex(s.length, radii(s.length, (i, j) -> s[i] == s[j]));
+    }
+
+    /**
+     * Igual que {@link #of(char[])} sobre bytes, para textos ASCII grandes (DNA, logs) sin pasarlos a
+     * {@code char}.
+     */
+    public static PalindromeIndex of(byte[] s) {
+        return new PalindromeIndex(s.length, radii(s.length, (i, j) -> s[i] == s[j]));
+    }
+
+    /**
+     * Manacher sobre un texto de {@code n} símbolos, accedido solo a través de {@code same}.
+     */
+    private static int[] radii(int n, SameSymbol same) {
+        int[] radius = new int[transformedLength(n)];
+        int center = 0;
+        int right = 0;
+        for (int c = 0; c < radius.length; c++) {
+            // Un palíndromo máximo siempre acaba en separador, así que r tiene la paridad de c y la expansión compara
+            // solo letras: los separadores intermedios son iguales por definición
+            int r = c < right ? Math.min(right - c, radius[2 * center - c]) : c & 1;
+            int left = (c - r - 2) >> 1;
+            int end = (c + r) >> 1;
+            while (left >= 0 && end < n && same.test(left, end)) {
+                left--;
+                end++;
+            }
+            r = end - left - 1;
+            radius[c] = r;
+            if (c + r > right) {
+                center = c;
+                right = c + r;
+            }
+        }
+        return radius;
+    }
+
+    /**
+     * Longitud del texto.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Inicio del primer palíndromo de longitud máxima (el de centro más a la izquierda).
+     */
+    public int longestStart() {
+        return longestStart;
+    }
+
+    public int longestLength() {
+        return longestLength;
+    }
+
+    /**
+     * Número de substrings palindrómicos, contando cada posición por separado ({@code "aaa"} tiene 6).
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * {@code true} si {@code s[from..to)} es un palíndromo. El substring vacío lo es.
+     */
+    public boolean isPalindrome(int from, int to) {
+        Objects.checkFromToIndex(from, to, length);
+        // El centro de s[from..to) en el texto con separadores es from + to
+        return radius[from + to] >= to - from;
+    }
+
+    /**
+     * Longitud del palíndromo más largo con centro {@code center}, en {@code 0..2n}: impar para una letra, par para
+     * el hueco entre dos letras.
+     */
+    public int radius(int center) {
+        return radius[Objects.checkIndex(center, radius.length)];
+    }
+
+    private static int transformedLength(int n) {
+        if (n > (Integer.MAX_VALUE - 9) / 2) {
+            throw new IllegalArgumentException("Texto demasiado largo: " + n);
+        }
+        return 2 * n + 1;
+    }
+
+    /**
+     * {@code true} si los símbolos {@code i} y {@code j} del texto son iguales.
+     */
+    private interface SameSymbol {
+        boolean test(int i, int j);
+    }
+}
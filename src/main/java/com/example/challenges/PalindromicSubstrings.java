@@ -0,0 +1,18 @@
+package com.example.challenges;
+
+public class PalindromicSubstrings {
+
+    public static void main(String[] args) {
+        System.out.println(countSubstrings("abc")); // 3
+        System.out.println(countSubstrings("aaa")); // 6
+    }
+
+    /**
+     * Con los radios de Manacher cada centro aporta tantos palíndromos como longitudes caben en su radio, así que el
+     * conteo es O(n) en lugar de O(n²). Ver {@link PalindromeIndex#count()}, que retorna {@code long} para textos
+     * cuyo conteo no cabe en un {@code int}.
+     */
+    public static int countSubstrings(String s) {
+        return Math.toIntExact(PalindromeIndex.of(s).count());
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.challenges;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Conteo de subarrays con suma {@code k} repartido en un {@link ForkJoinPool}. Usado por
+ * {@link CountSubarraysWithSumK#subarraySumParallel(int[], int, int)}.
+ *
+ * <p>Trabaja sobre los prefix sums globales {@code P[0..n]} y cuenta los pares {@code i < j} con
+ * {@code P[j] - P[i] = k} en tres fases:
+ * <ol>
+ *   <li>Cada segmento calcula su suma total; un scan secuencial sobre esas sumas da el offset de cada segmento.</li>
+ *   <li>Cada segmento recorre sus prefix sums en orden, cuenta los pares internos y construye su histograma.
+ *       El histograma se guarda partido por hash de la clave: {@code left} con las claves {@code P[i]} y
+ *       {@code right} con las claves ya desplazadas {@code P[j] - k}, así que un par que cruza segmentos cae
+ *       siempre en la misma partición de ambos lados.</li>
+ *   <li>Cada partición se fusiona de forma independiente: se recorren los segmentos en orden acumulando los
+ *       {@code left} de los anteriores y consultando los {@code right} del actual.</li>
+ * </ol>
+ * Ninguna fase tiene una parte secuencial proporcional a {@code n}. A cambio guarda dos histogramas por
+ * segmento, aproximadamente el doble de memoria que la versión secuencial: la fusión suelta cada histograma en
+ * cuanto lo consume, así que el acumulado de cada partición ocupa el sitio de los {@code left} ya fusionados.
+ */
+final class ParallelPrefixSumCounter {
+
+    private final int[] nums;
+    private final long k;
+    private final int segments;
+    private final int partitionBits;
+    private final LongIntHashMap[][] left;
+    private final LongIntHashMap[][] right;
+    private final long[] offsets;
+
+    private ParallelPrefixSumCounter(int[] nums, int k, int parallelism) {
+        this.nums = nums;
+        this.k = k;
+        this.segments = parallelism;
+        this.partitionBits = 32 - Integer.numberOfLeadingZeros(parallelism - 1);
+        this.left = new LongIntHashMap[segments][];
+        this.right = new LongIntHashMap[segments][];
+        this.offsets = new long[segments];
+    }
+
+    static long count(int[] nums, int k, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return new ParallelPrefixSumCounter(nums, k, parallelism).run(pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private long run(ForkJoinPool pool) {
+        List<Callable<Long>> sums = new ArrayList<>(segments);
+        for (int s = 0; s < segments; s++) {
+            int segment = s;
+            sums.add(() -> segmentSum(segment));
+        }
+        List<Long> segmentSums = invokeAll(pool, sums);
+        for (int s = 1; s < segments; s++) {
+            offsets[s] = offsets[s - 1] + segmentSums.get(s - 1);
+        }
+
+        List<Callable<Long>> within = new ArrayList<>(segments);
+        for (int s = 0; s < segments; s++) {
+            int segment = s;
+            within.add(() -> countWithinSegment(segment));
+        }
+
+        List<Callable<Long>> across = new ArrayList<>(1 << partitionBits);
+        for (int p = 0; p < (1 << partitionBits); p++) {
+            int partition = p;
+            across.add(() -> countAcrossSegments(partition));
+        }
+
+        long count = 0;
+        for (long c : invokeAll(pool, within)) {
+            count += c;
+        }
+        for (long c : invokeAll(pool, across)) {
+            count += c;
+        }
+        return count;
+    }
+
+    private long segmentSum(int segment) {
+        long sum = 0;
+        for (int i = from(segment), to = from(segment + 1); i < to; i++) {
+            sum += nums[i];
+        }
+        return sum;
+    }
+
+    private long countWithinSegment(int segment) {
+        int from = from(segment);
+        int to = from(segment + 1);
+        int partitions = 1 << partitionBits;
+        int expected = (to - from) / partitions + 1;
+        LongIntHashMap[] segmentLeft = new LongIntHashMap[partitions];
+        LongIntHashMap[] segmentRight = new LongIntHashMap[partitions];
+        for (int p = 0; p < partitions; p++) {
+            segmentLeft[p] = new LongIntHashMap(expected);
+            segmentRight[p] = new LongIntHashMap(expected);
+        }
+
+        long sum = offsets[segment];
+        if (segment == 0) {
+            segmentLeft[partition(0)].increment(0); // P[0]: subarrays que empiezan desde el inicio
+        }
+        long count = 0;
+        for (int i = from; i < to; i++) {
+            sum += nums[i];
+            long wanted = sum - k;
+            count += segmentLeft[partition(wanted)].get(wanted);
+            segmentLeft[partition(sum)].increment(sum);
+            segmentRight[partition(wanted)].increment(wanted);
+        }
+
+        left[segment] = segmentLeft;
+        right[segment] = segmentRight;
+        return count;
+    }
+
+    private long countAcrossSegments(int partition) {
+        LongIntHashMap before = new LongIntHashMap();
+        long[] count = new long[1];
+        // Cada histograma se suelta en cuanto se consume: lo que ya está en before deja de ocupar memoria en left
+        for (int s = 0; s < segments; s++) {
+            if (s > 0) {
+                right[s][partition].forEach((wanted, c) -> count[0] += (long) c * before.get(wanted));
+            }
+            right[s][partition] = null;
+            if (s < segments - 1) {
+                LongIntHashMap segmentLeft = left[s][partition];
+                before.ensureCapacity(before.size() + segmentLeft.size());
+                segmentLeft.forEach(before::add);
+            }
+            left[s][partition] = null;
+        }
+        return count[0];
+    }
+
+    private int from(int segment) {
+        return (int) ((long) nums.length * segment / segments);
+    }
+
+    // Mezcla distinta de la de LongIntHashMap (que usa los bits altos) para no agrupar claves dentro de cada tabla
+    private int partition(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+        return (int) key & ((1 << partitionBits) - 1);
+    }
+
+    private static List<Long> invokeAll(ForkJoinPool pool, List<Callable<Long>> tasks) {
+        List<Long> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<Long> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Conteo paralelo interrumpido", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Fallo en el conteo paralelo", e.getCause());
+        }
+        return results;
+    }
+}
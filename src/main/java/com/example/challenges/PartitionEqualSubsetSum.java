@@ -0,0 +1,23 @@
+package com.example.challenges;
+
+public class PartitionEqualSubsetSum {
+
+    public static void main(String[] args) {
+        System.out.println(canPartition(new int[] { 1, 5, 11, 5 })); // true
+        System.out.println(canPartition(new int[] { 1, 2, 3, 5 })); // false
+    }
+
+    /**
+     * Hay partición si la suma es par y algún subconjunto suma la mitad. Las sumas alcanzables se calculan con un
+     * bitset desplazado palabra a palabra en vez de un {@code boolean[]} recorrido suma a suma: 64 veces menos
+     * operaciones y 8 veces menos memoria. Ver {@link SubsetSums}.
+     */
+    public static boolean canPartition(int[] nums) {
+        long total = 0;
+        for (int num : nums) {
+            total += num;
+        }
+        // Con suma impar no hace falta calcular nada
+        return total % 2 == 0 && new SubsetSums(nums).canReach(total / 2);
+    }
+}
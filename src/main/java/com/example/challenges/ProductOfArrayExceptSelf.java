@@ -0,0 +1,76 @@
+package com.example.challenges;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+public class ProductOfArrayExceptSelf {
+
+    public static void main(String[] args) {
+        int[] numsA = { 1, 2, 3, 4 }; // [24, 12, 8, 6]
+        System.out.println(Arrays.toString(productExceptSelf(numsA)));
+        int[] numsB = { -1, 1, 0, -3, 3 }; // [0, 0, 9, 0, 0]
+        System.out.println(Arrays.toString(productExceptSelf(numsB)));
+    }
+
+    /**
+     * Sin división: primera pasada hacia delante con los productos de la izquierda, segunda hacia atrás
+     * multiplicando por los de la derecha.
+     */
+    public static int[] productExceptSelf(int[] nums) {
+        int n = nums.length;
+        int[] output = new int[n];
+
+        int leftProduct = 1;
+        for (int i = 0; i < n; i++) {
+            output[i] = leftProduct;
+            leftProduct *= nums[i];
+        }
+
+        int rightProduct = 1;
+        for (int i = n - 1; i >= 0; i--) {
+            output[i] *= rightProduct;
+            rightProduct *= nums[i];
+        }
+        return output;
+    }
+
+    /**
+     * Igual que {@link #productExceptSelf(int[])} escribiendo en {@code output}, que puede ser un
+     * {@link MappedIntFile} creado con la misma longitud que {@code nums}.
+     */
+    public static void productExceptSelf(IntSource nums, WritableIntSource output) {
+        long n = nums.length();
+        if (output.length() != n) {
+            throw new IllegalArgumentException("output debe tener " + n + " elementos, tiene " + output.length());
+        }
+
+        // Los bloques de nums y output no tienen por qué coincidir: cada tramo llega hasta la frontera más cercana
+        int leftProduct = 1;
+        for (long i = 0; i < n; ) {
+            IntBuffer in = nums.chunk(i);
+            IntBuffer out = output.chunk(i);
+            int inOffset = (int) (i - nums.chunkStart(i));
+            int outOffset = (int) (i - output.chunkStart(i));
+            int length = Math.min(in.limit() - inOffset, out.limit() - outOffset);
+            for (int j = 0; j < length; j++) {
+                out.put(outOffset + j, leftProduct);
+                leftProduct *= in.get(inOffset + j);
+            }
+            i += length;
+        }
+
+        int rightProduct = 1;
+        for (long i = n - 1; i >= 0; ) {
+            IntBuffer in = nums.chunk(i);
+            IntBuffer out = output.chunk(i);
+            int inOffset = (int) (i - nums.chunkStart(i));
+            int outOffset = (int) (i - output.chunkStart(i));
+            int length = Math.min(inOffset, outOffset) + 1;
+            for (int j = 0; j < length; j++) {
+                out.put(outOffset - j, out.get(outOffset - j) * rightProduct);
+                rightProduct *= in.get(inOffset - j);
+            }
+            i -= length;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.challenges;
+
+public class RegularExpressionMatching {
+
+    public static void main(String[] args) {
+        System.out.println(isMatch("aa", "a")); // false
+        System.out.println(isMatch("aa", "a*")); // true
+        System.out.println(isMatch("ab", ".*")); // true
+    }
+
+    /**
+     * Matching de {@code s} completo contra {@code p} con {@code .} y {@code *}, a través de la caché de
+     * {@link CompiledPattern}: el patrón se compila una vez y cada llamada es un recorrido lineal de {@code s}.
+     */
+    public static boolean isMatch(String s, String p) {
+        return CompiledPattern.compile(p).matches(s);
+    }
+
+    /**
+     * DP 2D clásico: {@code dp[i][j]} es {@code true} si {@code s[0:i]} casa con {@code p[0:j]}. Se mantiene como
+     * referencia para validar {@link CompiledPattern}.
+     */
+    static boolean isMatchDp(String s, String p) {
+        int n = s.length();
+        int m = p.length();
+        boolean[][] dp = new boolean[n + 1][m + 1];
+        dp[0][0] = true;
+        // Patrones como a*b*c* casan con el string vacío
+        for (int j = 2; j <= m; j++) {
+            dp[0][j] = p.charAt(j - 1) == '*' && dp[0][j - 2];
+        }
+
+        for (int i = 1; i <= n; i++) {
+            for (int j = 1; j <= m; j++) {
+                char pc = p.charAt(j - 1);
+                if (pc == '*') {
+                    // Cero repeticiones del carácter previo, o una más si casa con s[i-1]
+                    char previous = p.charAt(j - 2);
+                    dp[i][j] = dp[i][j - 2] || (dp[i - 1][j] && (previous == '.' || previous == s.charAt(i - 1)));
+                } else {
+                    dp[i][j] = dp[i - 1][j - 1] && (pc == '.' || pc == s.charAt(i - 1));
+                }
+            }
+        }
+        return dp[n][m];
+    }
+}
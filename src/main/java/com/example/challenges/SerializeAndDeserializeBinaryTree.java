@@ -0,0 +1,63 @@
+package com.example.challenges;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+
+public class SerializeAndDeserializeBinaryTree {
+
+    private static final String NULL = "null";
+    private static final String SEPARATOR = ",";
+
+    public static void main(String[] args) {
+        TreeNode root = new TreeNode(1, new TreeNode(2), new TreeNode(3, new TreeNode(4), new TreeNode(5)));
+        SerializeAndDeserializeBinaryTree codec = new SerializeAndDeserializeBinaryTree();
+        String serialized = codec.serialize(root); // "1,2,null,null,3,4,null,null,5,null,null"
+        System.out.println(serialized);
+        System.out.println(codec.serialize(codec.deserialize(serialized))); // mismo string
+        // Formato binario compacto: 1 byte de cabecera, 2 bytes de estructura y 5 varints
+        System.out.println(BinaryTreeCodec.encodedSize(root)); // 8
+    }
+
+    /**
+     * Preorder con marcadores {@code null}. Para árboles muy grandes conviene {@link BinaryTreeCodec}, que escribe
+     * un formato binario compacto en streaming.
+     */
+    public String serialize(TreeNode root) {
+        StringBuilder sb = new StringBuilder();
+        serialize(root, sb);
+        return sb.toString();
+    }
+
+    private void serialize(TreeNode node, StringBuilder sb) {
+        if (sb.length() > 0) {
+            sb.append(SEPARATOR);
+        }
+        if (node == null) {
+            sb.append(NULL);
+            return;
+        }
+        sb.append(node.val);
+        serialize(node.left, sb);
+        serialize(node.right, sb);
+    }
+
+    /**
+     * Reconstruye el árbol consumiendo los tokens del preorder desde una cola.
+     */
+    public TreeNode deserialize(String data) {
+        Queue<String> tokens = new ArrayDeque<>(Arrays.asList(data.split(SEPARATOR)));
+        return deserialize(tokens);
+    }
+
+    private TreeNode deserialize(Queue<String> tokens) {
+        String token = tokens.poll();
+        if (token == null || token.equals(NULL)) {
+            return null;
+        }
+        TreeNode node = new TreeNode(Integer.parseInt(token));
+        node.left = deserialize(tokens);
+        node.right = deserialize(tokens);
+        return node;
+    }
+}
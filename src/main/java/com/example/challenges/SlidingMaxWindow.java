@@ -0,0 +1,103 @@
+package com.example.challenges;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Máximo (o mínimo) de una ventana deslizante de tamaño {@code k} sobre un flujo de enteros sin fin.
+ *
+ * <p>Es el deque monótono de {@link SlidingWindowMaximum} sobre dos buffers circulares primitivos de capacidad fija:
+ * los últimos {@code k} valores y los slots candidatos a máximo, en orden decreciente de valor. Cada vez que la
+ * ventana está llena se emite su máximo al {@link IntConsumer} recibido. No asigna memoria por elemento.
+ *
+ * <p>El modo mínimo reutiliza el mismo código: {@code ~x} invierte el orden de los {@code int} sin desbordar, así que
+ * el mínimo de la ventana es {@code ~max(~x)}.
+ *
+ * <p>No es thread-safe.
+ */
+public class SlidingMaxWindow implements IntConsumer {
+
+    private final int k;
+    private final int mask;
+    private final int flip;
+    private final IntConsumer sink;
+    private final int[] values;
+    private final int[] deque;
+    private int head;
+    private int tail;
+    private int next;
+    private long seen;
+
+    private SlidingMaxWindow(int k, boolean min, IntConsumer sink) {
+        if (k < 1 || k >= (1 << 30)) {
+            throw new IllegalArgumentException("Tamaño de ventana inválido: " + k);
+        }
+        this.k = k;
+        this.sink = Objects.requireNonNull(sink, "sink");
+        this.flip = min ? -1 : 0;
+        // Potencia de dos estrictamente mayor que k: el elemento que sale queda a distancia k del nuevo, no 0
+        this.mask = (Integer.highestOneBit(k) << 1) - 1;
+        this.values = new int[mask + 1];
+        this.deque = new int[mask + 1];
+    }
+
+    /**
+     * Ventana que emite el máximo de cada {@code k} elementos consecutivos.
+     */
+    public static SlidingMaxWindow max(int k, IntConsumer sink) {
+        return new SlidingMaxWindow(k, false, sink);
+    }
+
+    /**
+     * Ventana que emite el mínimo de cada {@code k} elementos consecutivos.
+     */
+    public static SlidingMaxWindow min(int k, IntConsumer sink) {
+        return new SlidingMaxWindow(k, true, sink);
+    }
+
+    @Override
+    public void accept(int value) {
+        int stored = value ^ flip;
+        int slot = next;
+        values[slot] = stored;
+
+        // Sacar el candidato que acaba de salir de la ventana (está a k posiciones del nuevo)
+        if (head != tail && ((slot - deque[head & mask]) & mask) >= k) {
+            head++;
+        }
+        // Los valores menores o iguales al nuevo ya nunca serán máximo
+        while (head != tail && values[deque[(tail - 1) & mask]] <= stored) {
+            tail--;
+        }
+        deque[tail++ & mask] = slot;
+        next = (slot + 1) & mask;
+
+        if (++seen >= k) {
+            sink.accept(values[deque[head & mask]] ^ flip);
+        }
+    }
+
+    public void acceptAll(int[] chunk, int off, int len) {
+        Objects.checkFromIndexSize(off, len, chunk.length);
+        for (int i = off, end = off + len; i < end; i++) {
+            accept(chunk[i]);
+        }
+    }
+
+    /**
+     * Elementos recibidos hasta ahora.
+     */
+    public long count() {
+        return seen;
+    }
+
+    /**
+     * Vacía la ventana para empezar un flujo nuevo.
+     */
+    public void reset() {
+        head = 0;
+        tail = 0;
+        next = 0;
+        seen = 0;
+    }
+}
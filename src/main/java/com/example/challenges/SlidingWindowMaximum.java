@@ -0,0 +1,27 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+
+public class SlidingWindowMaximum {
+
+    public static void main(String[] args) {
+        int[] nums = { 1, 3, -1, -3, 5, 3, 6, 7 }; // [3, 3, 5, 5, 6, 7]
+        System.out.println(Arrays.toString(maxSlidingWindow(nums, 3)));
+    }
+
+    /**
+     * Deque monótono de índices en orden decreciente de valor; ver {@link SlidingMaxWindow} para la versión
+     * en streaming. Si {@code k} es mayor que el array no hay ninguna ventana completa y retorna un array vacío.
+     */
+    public static int[] maxSlidingWindow(int[] nums, int k) {
+        if (nums == null || nums.length < k) {
+            return new int[0];
+        }
+
+        int[] result = new int[nums.length - k + 1];
+        int[] written = new int[1];
+        SlidingMaxWindow window = SlidingMaxWindow.max(k, max -> result[written[0]++] = max);
+        window.acceptAll(nums, 0, nums.length);
+        return result;
+    }
+}
@@ -0,0 +1,402 @@
+package com.example.challenges;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Framing binario de strings para {@link EncodeAndDecodeStrings}: cada string se escribe como su longitud en bytes
+ * (varint) seguida de su UTF-8, directamente en un {@link ByteBuffer} del llamador, sin construir un {@code String}
+ * intermedio con todo el lote.
+ *
+ * <p>{@link Encoder} y {@link Decoder} guardan el estado de un frame a medias, así que un frame puede quedar
+ * partido entre dos buffers en cualquier byte: encajan en un bucle de lectura/escritura sobre un
+ * {@code SocketChannel} o {@code FileChannel}. El decoder entrega cada frame como un {@link CharSequence} perezoso
+ * sobre los bytes del propio buffer, sin copiarlos; solo los frames partidos se copian a un buffer interno.
+ *
+ * <p>Los surrogates sueltos se codifican como {@code '?'}, igual que {@link String#getBytes(java.nio.charset.Charset)}.
+ */
+public final class StringFrameCodec {
+
+    static final int BUFFER_SIZE = 1 << 16;
+    /**
+     * Longitud máxima de frame por defecto del {@link Decoder}: un prefijo mayor se rechaza antes de reservar nada.
+     */
+    public static final int DEFAULT_MAX_FRAME_LENGTH = 1 << 26;
+    // Un code point ocupa como mucho 4 bytes en UTF-8 y la longitud 5 como varint
+    static final int MIN_BUFFER_SIZE = 5;
+
+    private StringFrameCodec() {
+    }
+
+    /**
+     * Bytes que ocupa {@code s} en UTF-8, sin el prefijo de longitud.
+     */
+    public static int utf8Length(CharSequence s) {
+        int n = s.length();
+        long length = n;
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    length += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    length += 2; // 4 bytes por los 2 chars del par
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    length += 2;
+                }
+            }
+        }
+        return Math.toIntExact(length);
+    }
+
+    /**
+     * Bytes que ocupa el frame completo de {@code s}: prefijo de longitud más UTF-8.
+     */
+    public static int frameLength(CharSequence s) {
+        int length = utf8Length(s);
+        return varintSize(length) + length;
+    }
+
+    /**
+     * Escribe todos los frames de {@code strings} en {@code channel} a través de un buffer directo de
+     * {@link #BUFFER_SIZE} bytes.
+     */
+    public static void write(Iterable<? extends CharSequence> strings, WritableByteChannel channel)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        Encoder encoder = new Encoder();
+        for (CharSequence s : strings) {
+            while (!encoder.encode(s, buffer)) {
+                flush(buffer, channel);
+            }
+        }
+        flush(buffer, channel);
+    }
+
+    /**
+     * Lee frames de {@code channel} hasta el final y entrega cada uno a {@code sink}. Retorna el número de frames
+     * leídos; lanza {@link EOFException} si el canal termina en mitad de un frame y
+     * {@link IllegalArgumentException} si un frame supera {@link #DEFAULT_MAX_FRAME_LENGTH} bytes.
+     */
+    public static long read(ReadableByteChannel channel, Consumer<? super CharSequence> sink) throws IOException {
+        return read(channel, sink, DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    /**
+     * Igual que {@link #read(ReadableByteChannel, Consumer)} con frames de como mucho {@code maxFrameLength} bytes.
+     */
+    public static long read(ReadableByteChannel channel, Consumer<? super CharSequence> sink, int maxFrameLength)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        Decoder decoder = new Decoder(maxFrameLength);
+        long frames = 0;
+        while (channel.read(buffer) >= 0) {
+            buffer.flip();
+            frames += decoder.decode(buffer, sink);
+            buffer.clear();
+        }
+        if (decoder.hasPartialFrame()) {
+            throw new EOFException("El canal terminó en mitad de un frame");
+        }
+        return frames;
+    }
+
+    private static void flush(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static int varintSize(int value) {
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * Escribe frames en buffers, continuando en el siguiente buffer los que no caben en el actual. No es
+     * thread-safe.
+     */
+    public static final class Encoder {
+
+        private CharSequence pending;
+        private int next;
+
+        /**
+         * Escribe el frame de {@code s} (o lo que falte de él) en {@code out}. Retorna {@code true} si el frame
+         * quedó completo; si retorna {@code false} el buffer está lleno y hay que vaciarlo y volver a llamar con el
+         * mismo {@code s}. {@code out} necesita al menos {@link #MIN_BUFFER_SIZE} bytes libres para avanzar siempre.
+         */
+        public boolean encode(CharSequence s, ByteBuffer out) {
+            if (pending == null) {
+                int length = utf8Length(s);
+                if (out.remaining() < varintSize(length)) {
+                    return false;
+                }
+                putVarint(out, length);
+                pending = s;
+                next = 0;
+            } else if (pending != s) {
+                throw new IllegalStateException("Hay un frame a medio escribir");
+            }
+
+            int i = next;
+            int n = s.length();
+            // Tramo ASCII inicial: un byte por char, sin comprobar el espacio libre en cada uno
+            for (int limit = Math.min(n, i + out.remaining()); i < limit; i++) {
+                char c = s.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                out.put((byte) c);
+            }
+            while (i < n) {
+                char c = s.charAt(i);
+                if (c < 0x80) {
+                    if (!out.hasRemaining()) {
+                        break;
+                    }
+                    out.put((byte) c);
+                    i++;
+                } else if (c < 0x800) {
+                    if (out.remaining() < 2) {
+                        break;
+                    }
+                    out.put((byte) (0xC0 | c >> 6));
+                    out.put((byte) (0x80 | c & 0x3F));
+                    i++;
+                } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    if (out.remaining() < 4) {
+                        break;
+                    }
+                    int cp = Character.toCodePoint(c, s.charAt(i + 1));
+                    out.put((byte) (0xF0 | cp >> 18));
+                    out.put((byte) (0x80 | cp >> 12 & 0x3F));
+                    out.put((byte) (0x80 | cp >> 6 & 0x3F));
+                    out.put((byte) (0x80 | cp & 0x3F));
+                    i += 2;
+                } else if (Character.isSurrogate(c)) {
+                    if (!out.hasRemaining()) {
+                        break;
+                    }
+                    out.put((byte) '?');
+                    i++;
+                } else {
+                    if (out.remaining() < 3) {
+                        break;
+                    }
+                    out.put((byte) (0xE0 | c >> 12));
+                    out.put((byte) (0x80 | c >> 6 & 0x3F));
+                    out.put((byte) (0x80 | c & 0x3F));
+                    i++;
+                }
+            }
+            if (i < n) {
+                next = i;
+                return false;
+            }
+            pending = null;
+            return true;
+        }
+
+        /**
+         * {@code true} si hay un frame empezado que todavía no se terminó de escribir.
+         */
+        public boolean hasPendingFrame() {
+            return pending != null;
+        }
+
+        private static void putVarint(ByteBuffer out, int value) {
+            while ((value & ~0x7F) != 0) {
+                out.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.put((byte) value);
+        }
+    }
+
+    /**
+     * Separa frames de una secuencia de buffers. No es thread-safe.
+     */
+    public static final class Decoder {
+
+        private static final int UNKNOWN = -1;
+
+        private final int maxFrameLength;
+        private byte[] carry = new byte[64];
+        private ByteBuffer carryBuffer = ByteBuffer.wrap(carry);
+        private int carried;
+        private int frameLength = UNKNOWN;
+        private int prefix;
+        private int prefixShift;
+
+        /**
+         * Decoder con frames de como mucho {@link #DEFAULT_MAX_FRAME_LENGTH} bytes.
+         */
+        public Decoder() {
+            this(DEFAULT_MAX_FRAME_LENGTH);
+        }
+
+        /**
+         * Decoder que rechaza con {@link IllegalArgumentException} los frames de más de {@code maxFrameLength} bytes
+         * en cuanto lee su prefijo, así que un stream corrupto no puede forzar un buffer enorme.
+         */
+        public Decoder(int maxFrameLength) {
+            if (maxFrameLength < 0) {
+                throw new IllegalArgumentException("maxFrameLength no puede ser negativo: " + maxFrameLength);
+            }
+            this.maxFrameLength = maxFrameLength;
+        }
+
+        /**
+         * Consume todo {@code in} y entrega a {@code sink} cada frame que se completa. Retorna el número de frames
+         * entregados; un frame incompleto al final de {@code in} se guarda y se completa en la siguiente llamada.
+         *
+         * <p>Cada {@link CharSequence} es una vista sobre {@code in} (o sobre el buffer interno si el frame venía
+         * partido) y solo es válida durante la llamada a {@code sink}: para conservarla hay que llamar a
+         * {@code toString()}.
+         */
+        public int decode(ByteBuffer in, Consumer<? super CharSequence> sink) {
+            int frames = 0;
+            while (true) {
+                if (frameLength == UNKNOWN && !readPrefix(in)) {
+                    return frames;
+                }
+                if (carried == 0 && in.remaining() >= frameLength) {
+                    int offset = in.position();
+                    int length = frameLength;
+                    in.position(offset + length);
+                    frameLength = UNKNOWN;
+                    sink.accept(new Utf8View(in, offset, offset + length));
+                } else {
+                    if (carry.length < frameLength) {
+                        carry = Arrays.copyOf(carry, Math.max(frameLength, carry.length * 2));
+                        carryBuffer = ByteBuffer.wrap(carry);
+                    }
+                    int chunk = Math.min(in.remaining(), frameLength - carried);
+                    in.get(carry, carried, chunk);
+                    carried += chunk;
+                    if (carried < frameLength) {
+                        return frames;
+                    }
+                    int length = frameLength;
+                    carried = 0;
+                    frameLength = UNKNOWN;
+                    sink.accept(new Utf8View(carryBuffer, 0, length));
+                }
+                frames++;
+            }
+        }
+
+        /**
+         * {@code true} si hay un frame (o su prefijo) empezado que todavía no se completó.
+         */
+        public boolean hasPartialFrame() {
+            return frameLength != UNKNOWN || prefixShift > 0;
+        }
+
+        private boolean readPrefix(ByteBuffer in) {
+            while (in.hasRemaining()) {
+                byte b = in.get();
+                prefix |= (b & 0x7F) << prefixShift;
+                prefixShift += 7;
+                if (b >= 0) {
+                    if (prefix < 0) {
+                        throw new IllegalArgumentException(
+                                "Longitud de frame inválida: " + Integer.toUnsignedString(prefix));
+                    }
+                    if (prefix > maxFrameLength) {
+                        throw new IllegalArgumentException(
+                                "Frame de " + prefix + " bytes, el máximo es " + maxFrameLength);
+                    }
+                    frameLength = prefix;
+                    prefix = 0;
+                    prefixShift = 0;
+                    return true;
+                }
+                if (prefixShift >= 35) {
+                    throw new IllegalArgumentException("Prefijo de longitud inválido");
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * {@link CharSequence} sobre los bytes UTF-8 {@code [from, to)} de un buffer. Si todos los bytes son ASCII
+     * (lo habitual) cada char se lee directamente del buffer; si no, se decodifica una vez a {@code String} en el
+     * primer acceso.
+     */
+    static final class Utf8View implements CharSequence {
+
+        private final ByteBuffer buffer;
+        private final int from;
+        private final int to;
+        private int ascii = -1;
+        private String decoded;
+
+        Utf8View(ByteBuffer buffer, int from, int to) {
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public int length() {
+            return isAscii() ? to - from : toString().length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (isAscii()) {
+                return (char) buffer.get(from + Objects.checkIndex(index, to - from));
+            }
+            return toString().charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (isAscii()) {
+                Objects.checkFromToIndex(start, end, to - from);
+                return new Utf8View(buffer, from + start, from + end);
+            }
+            return toString().subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            if (decoded == null) {
+                if (buffer.hasArray()) {
+                    decoded = new String(buffer.array(), buffer.arrayOffset() + from, to - from,
+                            StandardCharsets.UTF_8);
+                } else {
+                    byte[] bytes = new byte[to - from];
+                    buffer.get(from, bytes);
+                    decoded = new String(bytes, StandardCharsets.UTF_8);
+                }
+            }
+            return decoded;
+        }
+
+        private boolean isAscii() {
+            if (ascii < 0) {
+                ascii = 1;
+                for (int i = from; i < to; i++) {
+                    if (buffer.get(i) < 0) {
+                        ascii = 0;
+                        break;
+                    }
+                }
+            }
+            return ascii == 1;
+        }
+    }
+}
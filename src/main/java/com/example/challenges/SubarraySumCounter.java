@@ -0,0 +1,104 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Versión incremental de {@link CountSubarraysWithSumK}: recibe los elementos de uno en uno o por bloques y
+ * mantiene la tabla de frecuencias de prefix sums entre llamadas, así que nunca hace falta materializar el
+ * array completo.
+ *
+ * <p>Puede seguir varios valores de {@code k} en una sola pasada. La memoria crece con el número de prefix sums
+ * distintos vistos, no con el número de elementos.
+ *
+ * <p>No es thread-safe.
+ */
+public class SubarraySumCounter {
+
+    private final long[] targets;
+    private final long[] counts;
+    private final LongLongHashMap prefixSumCount = new LongLongHashMap();
+    private long sum;
+    private long length;
+
+    public SubarraySumCounter(int... targets) {
+        Objects.requireNonNull(targets, "targets");
+        if (targets.length == 0) {
+            throw new IllegalArgumentException("Se necesita al menos un valor de k");
+        }
+        this.targets = new long[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            this.targets[i] = targets[i];
+        }
+        this.counts = new long[targets.length];
+        prefixSumCount.increment(0); // Para subarrays que empiezan desde el inicio
+    }
+
+    public void accept(int num) {
+        sum += num;
+        long[] targets = this.targets;
+        for (int i = 0; i < targets.length; i++) {
+            counts[i] += prefixSumCount.get(sum - targets[i]);
+        }
+        prefixSumCount.increment(sum);
+        length++;
+    }
+
+    public void acceptAll(int[] chunk, int off, int len) {
+        Objects.checkFromIndexSize(off, len, chunk.length);
+        if (targets.length == 1) {
+            acceptAllSingleTarget(chunk, off, off + len);
+            return;
+        }
+        for (int i = off; i < off + len; i++) {
+            accept(chunk[i]);
+        }
+    }
+
+    // Camino rápido para el caso habitual de un solo k: sin bucle interno sobre los targets
+    private void acceptAllSingleTarget(int[] chunk, int from, int to) {
+        long k = targets[0];
+        long count = counts[0];
+        long sum = this.sum;
+        for (int i = from; i < to; i++) {
+            sum += chunk[i];
+            count += prefixSumCount.get(sum - k);
+            prefixSumCount.increment(sum);
+        }
+        this.sum = sum;
+        counts[0] = count;
+        length += to - from;
+    }
+
+    /**
+     * Número de subarrays que suman el primer {@code k} recibido en el constructor.
+     */
+    public long count() {
+        return counts[0];
+    }
+
+    /**
+     * Número de subarrays que suman el {@code k} en la posición {@code targetIndex} del constructor.
+     */
+    public long count(int targetIndex) {
+        return counts[targetIndex];
+    }
+
+    /**
+     * Elementos consumidos hasta ahora.
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Vuelve al estado inicial conservando la memoria ya reservada.
+     */
+    public void reset() {
+        prefixSumCount.clear();
+        prefixSumCount.increment(0);
+        Arrays.fill(counts, 0);
+        sum = 0;
+        length = 0;
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sumas alcanzables con subconjuntos de un array de enteros no negativos, para {@link PartitionEqualSubsetSum} y
+ * para repartir cargas en dos mitades lo más parecidas posible.
+ *
+ * <p>Las sumas alcanzables se guardan en un bitset {@code long[]} (1 bit por suma, 8 veces menos que un
+ * {@code boolean[]}) y añadir un elemento {@code v} es {@code bits |= bits << v} palabra a palabra: 64 sumas por
+ * operación. Como una suma {@code s} es alcanzable si y solo si {@code total - s} lo es (el complemento del
+ * subconjunto), solo se guardan las sumas hasta {@code total / 2}. Además:
+ * <ul>
+ *   <li>los valores repetidos se agrupan en potencias de dos ({@code c} copias de {@code v} pasan a ser
+ *       {@code v, 2v, 4v, ...} y un resto), así que {@code c} copias cuestan O(log c) desplazamientos;</li>
+ *   <li>cada desplazamiento solo recorre las palabras hasta la suma de los elementos ya añadidos.</li>
+ * </ul>
+ * Secuencialmente el desplazamiento se hace en el sitio, de la palabra más alta a la más baja. Con varios hilos y un
+ * bitset de al menos {@link #PARALLEL_THRESHOLD} palabras, cada desplazamiento se reparte por rangos de palabras en
+ * un {@link ForkJoinPool} sobre dos buffers alternos (en el sitio, un rango leería palabras que otro ya modificó).
+ *
+ * <p>Inmutable una vez construido.
+ */
+public final class SubsetSums {
+
+    // Por debajo de este número de palabras repartir cada desplazamiento cuesta más que hacerlo en un hilo
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    // Palabras por tarea en la versión paralela
+    private static final int CHUNK = 1 << 12;
+
+    private final long total;
+    private final long half;
+    private final long[] bits;
+
+    public SubsetSums(int[] nums) {
+        this(nums, 1);
+    }
+
+    /**
+     * Igual que {@link #SubsetSums(int[])} repartiendo los desplazamientos en {@code parallelism} hilos cuando el
+     * bitset tiene al menos {@link #PARALLEL_THRESHOLD} palabras.
+     */
+    public SubsetSums(int[] nums, int parallelism) {
+        this(nums, parallelism, PARALLEL_THRESHOLD);
+    }
+
+    SubsetSums(int[] nums, int parallelism, int threshold) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism debe ser positivo: " + parallelism);
+        }
+        long sum = 0;
+        for (int num : nums) {
+            if (num < 0) {
+                throw new IllegalArgumentException("Los valores no pueden ser negativos: " + num);
+            }
+            sum += num;
+        }
+        total = sum;
+        half = sum / 2;
+        long words = (half >>> 6) + 1;
+        if (words > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Suma total demasiado grande: " + sum);
+        }
+        long[] shifts = shifts(nums);
+        long[] current = new long[(int) words];
+        current[0] = 1L;
+        if (parallelism == 1 || words < threshold) {
+            long reach = 0;
+            for (long shift : shifts) {
+                reach = Math.min(half, reach + shift);
+                shiftOrInPlace(current, shift, (int) (reach >>> 6));
+            }
+            bits = current;
+        } else {
+            bits = parallelShiftOr(current, shifts, parallelism);
+        }
+    }
+
+    /**
+     * Suma de todos los elementos.
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * {@code true} si algún subconjunto suma exactamente {@code target}.
+     */
+    public boolean canReach(long target) {
+        if (target < 0 || target > total) {
+            return false;
+        }
+        long sum = Math.min(target, total - target);
+        return (bits[(int) (sum >>> 6)] & (1L << sum)) != 0;
+    }
+
+    /**
+     * Menor diferencia posible entre las sumas de dos mitades que reparten todos los elementos: {@code total - 2s}
+     * con {@code s} la mayor suma alcanzable que no pasa de {@code total / 2}.
+     */
+    public long closestPartitionDiff() {
+        int w = (int) (half >>> 6);
+        // Se ignoran los bits por encima de half en su palabra
+        long word = bits[w] & (-1L >>> (63 - (half & 63)));
+        while (word == 0) {
+            word = bits[--w]; // La suma 0 siempre es alcanzable, así que termina
+        }
+        long best = ((long) w << 6) + 63 - Long.numberOfLeadingZeros(word);
+        return total - 2 * best;
+    }
+
+    /**
+     * Desplazamientos equivalentes a añadir los elementos uno a uno: los ceros se descartan y cada valor repetido
+     * {@code c} veces se descompone en {@code v, 2v, 4v, ...} más un resto, que combinados dan cualquier número de
+     * copias entre 0 y {@code c}.
+     */
+    private static long[] shifts(int[] nums) {
+        int[] sorted = nums.clone();
+        Arrays.sort(sorted);
+        long[] shifts = new long[sorted.length];
+        int count = 0;
+        for (int i = 0; i < sorted.length; ) {
+            int value = sorted[i];
+            int end = i;
+            while (end < sorted.length && sorted[end] == value) {
+                end++;
+            }
+            if (value > 0) {
+                int copies = end - i;
+                for (int group = 1; copies > 0; group <<= 1) {
+                    int taken = Math.min(group, copies);
+                    shifts[count++] = (long) value * taken;
+                    copies -= taken;
+                }
+            }
+            i = end;
+        }
+        return Arrays.copyOf(shifts, count);
+    }
+
+    /**
+     * {@code bits |= bits << shift} sobre las palabras {@code 0..top}. De arriba abajo, cada palabra se calcula con
+     * palabras más bajas que todavía no se han modificado.
+     */
+    private static void shiftOrInPlace(long[] bits, long shift, int top) {
+        long wordShift = shift >>> 6;
+        if (wordShift > top) {
+            return;
+        }
+        int ws = (int) wordShift;
+        int bs = (int) (shift & 63);
+        if (bs == 0) {
+            for (int i = top; i >= ws; i--) {
+                bits[i] |= bits[i - ws];
+            }
+            return;
+        }
+        for (int i = top; i > ws; i--) {
+            bits[i] |= (bits[i - ws] << bs) | (bits[i - ws - 1] >>> (64 - bs));
+        }
+        bits[ws] |= bits[0] << bs;
+    }
+
+    private long[] parallelShiftOr(long[] current, long[] shifts, int parallelism) {
+        long[] next = new long[current.length];
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long reach = 0;
+            for (long shift : shifts) {
+                reach = Math.min(half, reach + shift);
+                pool.invoke(new ShiftOr(current, next, shift, 0, (int) (reach >>> 6) + 1));
+                long[] swap = current;
+                current = next;
+                next = swap;
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return current;
+    }
+
+    /**
+     * {@code to[i] = from[i] | (from << shift)[i]} para las palabras {@code [start, end)}.
+     */
+    private static final class ShiftOr extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] from;
+        private final long[] to;
+        private final long shift;
+        private final int start;
+        private final int end;
+
+        ShiftOr(long[] from, long[] to, long shift, int start, int end) {
+            this.from = from;
+            this.to = to;
+            this.shift = shift;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > CHUNK) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new ShiftOr(from, to, shift, start, middle), new ShiftOr(from, to, shift, middle, end));
+                return;
+            }
+            long ws = shift >>> 6;
+            int bs = (int) (shift & 63);
+            for (int i = start; i < end; i++) {
+                long shifted = 0;
+                long j = i - ws;
+                if (j >= 0) {
+                    shifted = from[(int) j] << bs;
+                    if (bs != 0 && j > 0) {
+                        shifted |= from[(int) j - 1] >>> (64 - bs);
+                    }
+                }
+                to[i] = from[i] | shifted;
+            }
+        }
+    }
+}
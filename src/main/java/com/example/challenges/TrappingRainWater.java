@@ -0,0 +1,93 @@
+package com.example.challenges;
+
+import java.nio.IntBuffer;
+
+public class TrappingRainWater {
+
+    public static void main(String[] args) {
+        int[] height = { 0, 1, 0, 2, 1, 0, 1, 3, 2, 1, 2, 1 }; // 6
+        System.out.println(trap(height));
+    }
+
+    /**
+     * Two pointers con {@code leftMax} y {@code rightMax}: el agua sobre cada posición es
+     * {@code min(leftMax, rightMax) - height[i]}, y el lado más bajo es el que la limita.
+     */
+    public static int trap(int[] height) {
+        int left = 0;
+        int right = height.length - 1;
+        int leftMax = 0;
+        int rightMax = 0;
+        int water = 0;
+
+        while (left < right) {
+            if (height[left] < height[right]) {
+                // El lado derecho garantiza una pared al menos tan alta como leftMax
+                if (height[left] >= leftMax) {
+                    leftMax = height[left];
+                } else {
+                    water += leftMax - height[left];
+                }
+                left++;
+            } else {
+                if (height[right] >= rightMax) {
+                    rightMax = height[right];
+                } else {
+                    water += rightMax - height[right];
+                }
+                right--;
+            }
+        }
+        return water;
+    }
+
+    /**
+     * Igual que {@link #trap(int[])} sobre una fuente que puede no caber en el heap. Cada puntero avanza en un solo
+     * sentido, así que sobre un {@link MappedIntFile} son dos lecturas secuenciales (una desde cada extremo).
+     */
+    public static long trap(IntSource height) {
+        long left = 0;
+        long right = height.length() - 1;
+        if (right < 2) {
+            return 0;
+        }
+        int leftMax = 0;
+        int rightMax = 0;
+        long water = 0;
+
+        // Un bloque por puntero; solo se cambia de bloque al cruzar su frontera
+        IntBuffer leftChunk = height.chunk(left);
+        long leftBase = height.chunkStart(left);
+        IntBuffer rightChunk = height.chunk(right);
+        long rightBase = height.chunkStart(right);
+        int leftHeight = leftChunk.get(0);
+        int rightHeight = rightChunk.get((int) (right - rightBase));
+
+        while (left < right) {
+            if (leftHeight < rightHeight) {
+                if (leftHeight >= leftMax) {
+                    leftMax = leftHeight;
+                } else {
+                    water += leftMax - leftHeight;
+                }
+                if (++left - leftBase == leftChunk.limit()) {
+                    leftChunk = height.chunk(left);
+                    leftBase = left;
+                }
+                leftHeight = leftChunk.get((int) (left - leftBase));
+            } else {
+                if (rightHeight >= rightMax) {
+                    rightMax = rightHeight;
+                } else {
+                    water += rightMax - rightHeight;
+                }
+                if (--right < rightBase) {
+                    rightChunk = height.chunk(right);
+                    rightBase = height.chunkStart(right);
+                }
+                rightHeight = rightChunk.get((int) (right - rightBase));
+            }
+        }
+        return water;
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Árbol binario guardado en tres arrays paralelos {@code val/left/right} indexados por id de nodo, alternativa a
+ * {@link TreeNode} para árboles de millones de nodos: 12 bytes por nodo en lugar de un objeto de unos 24 bytes más
+ * sus referencias, nada que recorrer para el GC y nodos contiguos en memoria. Los hijos que faltan valen
+ * {@link #NONE}.
+ *
+ * <p>Los nodos solo se añaden como raíz o como hijo de un nodo existente en un hueco libre, así que la estructura es
+ * siempre un árbol (sin ciclos ni nodos compartidos). Todos los recorridos son iterativos con pilas y colas de
+ * {@code int}: un árbol degenerado de un millón de niveles no desborda la pila. No es thread-safe.
+ */
+public final class TreeArena {
+
+    public static final int NONE = -1;
+
+    private int[] val;
+    private int[] left;
+    private int[] right;
+    private int size;
+    private int root = NONE;
+
+    public TreeArena() {
+        this(16);
+    }
+
+    public TreeArena(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity no puede ser negativa: " + capacity);
+        }
+        val = new int[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+    }
+
+    /**
+     * Copia de un árbol de {@link TreeNode}. Los ids se asignan por niveles (la raíz es el 0), así que un recorrido
+     * por niveles lee los arrays en orden.
+     */
+    public static TreeArena of(TreeNode root) {
+        TreeArena arena = new TreeArena();
+        if (root == null) {
+            return arena;
+        }
+        // Los ids se asignan al encolar, así que la posición en la cola es el id
+        TreeNode[] queue = new TreeNode[16];
+        queue[0] = root;
+        arena.addRoot(root.val);
+        for (int id = 0; id < arena.size; id++) {
+            TreeNode node = queue[id];
+            if (arena.size + 2 > queue.length) {
+                queue = Arrays.copyOf(queue, queue.length * 2);
+            }
+            if (node.left != null) {
+                queue[arena.addLeft(id, node.left.val)] = node.left;
+            }
+            if (node.right != null) {
+                queue[arena.addRight(id, node.right.val)] = node.right;
+            }
+            queue[id] = null;
+        }
+        return arena;
+    }
+
+    /**
+     * Árbol de {@link TreeNode} equivalente, o {@code null} si está vacío.
+     */
+    public TreeNode toTreeNode() {
+        if (root == NONE) {
+            return null;
+        }
+        TreeNode[] nodes = new TreeNode[size];
+        for (int id = 0; id < size; id++) {
+            nodes[id] = new TreeNode(val[id]);
+        }
+        for (int id = 0; id < size; id++) {
+            nodes[id].left = left[id] == NONE ? null : nodes[left[id]];
+            nodes[id].right = right[id] == NONE ? null : nodes[right[id]];
+        }
+        return nodes[root];
+    }
+
+    public int addRoot(int value) {
+        if (root != NONE) {
+            throw new IllegalStateException("El árbol ya tiene raíz");
+        }
+        root = add(value);
+        return root;
+    }
+
+    /**
+     * Añade un nodo como hijo izquierdo de {@code parent} y retorna su id.
+     */
+    public int addLeft(int parent, int value) {
+        checkNode(parent);
+        if (left[parent] != NONE) {
+            throw new IllegalStateException("El nodo " + parent + " ya tiene hijo izquierdo");
+        }
+        int id = add(value);
+        left[parent] = id;
+        return id;
+    }
+
+    /**
+     * Añade un nodo como hijo derecho de {@code parent} y retorna su id.
+     */
+    public int addRight(int parent, int value) {
+        checkNode(parent);
+        if (right[parent] != NONE) {
+            throw new IllegalStateException("El nodo " + parent + " ya tiene hijo derecho");
+        }
+        int id = add(value);
+        right[parent] = id;
+        return id;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Id de la raíz, o {@link #NONE} si el árbol está vacío.
+     */
+    public int root() {
+        return root;
+    }
+
+    public int val(int id) {
+        checkNode(id);
+        return val[id];
+    }
+
+    public int left(int id) {
+        checkNode(id);
+        return left[id];
+    }
+
+    public int right(int id) {
+        checkNode(id);
+        return right[id];
+    }
+
+    /**
+     * Valores por niveles, de izquierda a derecha. BFS con una cola de ids en un único {@code int[]} de tamaño
+     * {@link #size()}: cada nodo entra una vez, así que no hace falta cola circular.
+     */
+    public int[][] levelOrder() {
+        if (root == NONE) {
+            return new int[0][];
+        }
+        int[] queue = new int[size];
+        int tail = 0;
+        queue[tail++] = root;
+        int[] levelEnd = new int[16];
+        int levels = 0;
+        for (int head = 0, end = 1; head < tail; end = tail) {
+            for (; head < end; head++) {
+                int node = queue[head];
+                if (left[node] != NONE) {
+                    queue[tail++] = left[node];
+                }
+                if (right[node] != NONE) {
+                    queue[tail++] = right[node];
+                }
+            }
+            if (levels == levelEnd.length) {
+                levelEnd = Arrays.copyOf(levelEnd, levels * 2);
+            }
+            levelEnd[levels++] = end;
+        }
+
+        int[][] result = new int[levels][];
+        for (int level = 0, from = 0; level < levels; from = levelEnd[level++]) {
+            int[] values = new int[levelEnd[level] - from];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = val[queue[from + i]];
+            }
+            result[level] = values;
+        }
+        return result;
+    }
+
+    /**
+     * {@code true} si el recorrido inorder es estrictamente creciente. Inorder iterativo con una pila de ids de
+     * altura máxima la del árbol.
+     */
+    public boolean isValidBST() {
+        int[] stack = new int[16];
+        int top = 0;
+        long previous = Long.MIN_VALUE;
+        int node = root;
+        while (node != NONE || top > 0) {
+            while (node != NONE) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top * 2);
+                }
+                stack[top++] = node;
+                node = left[node];
+            }
+            node = stack[--top];
+            if (val[node] <= previous) {
+                return false;
+            }
+            previous = val[node];
+            node = right[node];
+        }
+        return true;
+    }
+
+    /**
+     * Ancestro común más bajo de los nodos {@code p} y {@code q} suponiendo que el árbol es un BST: baja desde la
+     * raíz mientras los dos valores queden del mismo lado. Retorna su id en O(h) sin memoria adicional.
+     */
+    public int lowestCommonAncestor(int p, int q) {
+        int low = Math.min(val(p), val(q));
+        int high = Math.max(val(p), val(q));
+        int node = root;
+        while (node != NONE) {
+            if (high < val[node]) {
+                node = left[node];
+            } else if (low > val[node]) {
+                node = right[node];
+            } else {
+                return node;
+            }
+        }
+        return NONE;
+    }
+
+    private int add(int value) {
+        if (size == val.length) {
+            int capacity = Math.max(16, val.length + (val.length >> 1));
+            val = Arrays.copyOf(val, capacity);
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+        }
+        val[size] = value;
+        left[size] = NONE;
+        right[size] = NONE;
+        return size++;
+    }
+
+    private void checkNode(int id) {
+        Objects.checkIndex(id, size);
+    }
+}
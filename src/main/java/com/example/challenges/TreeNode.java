@@ -0,0 +1,21 @@
+package com.example.challenges;
+
+/**
+ * Nodo de árbol binario compartido por los ejercicios de árboles (31-34).
+ */
+public class TreeNode {
+
+    public int val;
+    public TreeNode left;
+    public TreeNode right;
+
+    public TreeNode(int val) {
+        this.val = val;
+    }
+
+    public TreeNode(int val, TreeNode left, TreeNode right) {
+        this.val = val;
+        this.left = left;
+        this.right = right;
+    }
+}
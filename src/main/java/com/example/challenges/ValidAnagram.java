@@ -0,0 +1,18 @@
+package com.example.challenges;
+
+public class ValidAnagram {
+
+    public static void main(String[] args) {
+        System.out.println(isAnagram("anagram", "nagaram")); // true
+        System.out.println(isAnagram("rat", "car")); // false
+    }
+
+    /**
+     * Array de frecuencias: suma por cada carácter de {@code s} y resta por cada uno de {@code t}. El array se
+     * reutiliza por hilo, así que no asigna memoria. Ver {@link AnagramFingerprint#isAnagram(CharSequence,
+     * CharSequence)}.
+     */
+    public static boolean isAnagram(String s, String t) {
+        return AnagramFingerprint.isAnagram(s, t);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+
+public class ValidateBinarySearchTree {
+
+    public static void main(String[] args) {
+        System.out.println(isValidBST(new TreeNode(2, new TreeNode(1), new TreeNode(3)))); // true
+        TreeNode root = new TreeNode(5, new TreeNode(1), new TreeNode(4, new TreeNode(3), new TreeNode(6)));
+        System.out.println(isValidBST(root)); // false
+    }
+
+    /**
+     * Un BST válido es el que tiene el recorrido inorder estrictamente creciente. Inorder iterativo con una pila
+     * explícita en vez de DFS recursivo con rangos: un árbol degenerado muy profundo no desborda la pila.
+     */
+    public static boolean isValidBST(TreeNode root) {
+        TreeNode[] stack = new TreeNode[16];
+        int top = 0;
+        long previous = Long.MIN_VALUE;
+        TreeNode node = root;
+        while (node != null || top > 0) {
+            while (node != null) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top * 2);
+                }
+                stack[top++] = node;
+                node = node.left;
+            }
+            node = stack[--top];
+            if (node.val <= previous) {
+                return false;
+            }
+            previous = node.val;
+            node = node.right;
+        }
+        return true;
+    }
+
+    /**
+     * Igual que {@link #isValidBST(TreeNode)} sobre un {@link TreeArena}, con una pila de ids primitivos.
+     */
+    public static boolean isValidBST(TreeArena tree) {
+        return tree.isValidBST();
+    }
+}
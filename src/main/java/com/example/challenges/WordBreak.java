@@ -0,0 +1,21 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class WordBreak {
+
+    public static void main(String[] args) {
+        System.out.println(wordBreak("leetcode", Arrays.asList("leet", "code"))); // true
+        System.out.println(wordBreak("catsandog", Arrays.asList("cats", "dog", "sand", "and", "cat"))); // false
+    }
+
+    /**
+     * DP sobre las posiciones alcanzables, buscando las palabras que empiezan en cada una con un trie en vez de
+     * probar todos los substrings contra un {@code HashSet}. Construye el índice en cada llamada; para muchas
+     * consultas contra el mismo diccionario conviene crear un {@link WordBreakIndex} y reutilizarlo.
+     */
+    public static boolean wordBreak(String s, List<String> wordDict) {
+        return new WordBreakIndex(wordDict).canSegment(s);
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Índice de un diccionario para Word Break, construido una vez y consultado muchas veces.
+ *
+ * <p>Las palabras se guardan en un trie compacto numerado por niveles: como los hijos de cada nodo reciben ids
+ * consecutivos, el trie son tres arrays ({@code firstChild} en formato CSR, la letra de cada nodo y un bitset de
+ * nodos terminales) sin ningún objeto por nodo. Los hijos de un nodo están ordenados por letra, así que buscar uno es
+ * un recorrido corto o una búsqueda binaria en los nodos con muchos hijos.
+ *
+ * <p>{@link #canSegment(CharSequence)} recorre el texto una vez de izquierda a derecha: desde cada posición
+ * alcanzable baja por el trie (como mucho {@link #maxWordLength()} letras) y marca las posiciones donde termina una
+ * palabra. Solo las siguientes {@code maxWordLength} posiciones pueden estar marcadas, así que el bitset de
+ * alcanzables es un anillo de ese tamaño que se reutiliza por hilo: una consulta no asigna memoria. Termina en cuanto
+ * una palabra llega al final del texto, o en cuanto la posición actual supera la más lejana alcanzada.
+ *
+ * <p>El índice es inmutable y se puede compartir entre hilos.
+ */
+public class WordBreakIndex {
+
+    private static final int ROOT = 0;
+    // Por encima de este número de hijos se busca con búsqueda binaria
+    private static final int LINEAR_CHILDREN = 8;
+
+    private final char[] label;
+    private final int[] firstChild;
+    private final long[] terminal;
+    private final int words;
+    private final int maxWordLength;
+
+    private final ThreadLocal<long[]> reachable;
+    private final int ringMask;
+
+    /**
+     * Índice de las palabras de {@code dictionary}. Los duplicados y la palabra vacía se ignoran.
+     */
+    public WordBreakIndex(Collection<String> dictionary) {
+        String[] sorted = dictionary.stream().filter(word -> !word.isEmpty()).distinct().sorted()
+                .toArray(String[]::new);
+        long totalChars = 0;
+        int longest = 0;
+        for (String word : sorted) {
+            totalChars += word.length();
+            longest = Math.max(longest, word.length());
+        }
+        int capacity = Math.toIntExact(totalChars + 1);
+        char[] label = new char[capacity];
+        int[] firstChild = new int[capacity + 1];
+        long[] terminal = new long[(capacity + 63) >>> 6];
+
+        // Cada nodo es el rango [from, to) de palabras ordenadas con su prefijo de longitud depth. Los nodos se
+        // procesan en el orden en que se crean, así que los hijos de un nodo quedan con ids consecutivos.
+        int[] from = new int[capacity];
+        int[] to = new int[capacity];
+        int[] depth = new int[capacity];
+        to[ROOT] = sorted.length;
+        int nodes = 1;
+        for (int node = 0; node < nodes; node++) {
+            firstChild[node] = nodes;
+            int a = from[node];
+            int b = to[node];
+            int d = depth[node];
+            // Una palabra que es exactamente el prefijo va la primera de su rango
+            if (a < b && sorted[a].length() == d) {
+                terminal[node >>> 6] |= 1L << node;
+                a++;
+            }
+            while (a < b) {
+                char c = sorted[a].charAt(d);
+                int end = a + 1;
+                while (end < b && sorted[end].charAt(d) == c) {
+                    end++;
+                }
+                int child = nodes++;
+                label[child] = c;
+                from[child] = a;
+                to[child] = end;
+                depth[child] = d + 1;
+                a = end;
+            }
+        }
+        firstChild[nodes] = nodes;
+
+        this.label = Arrays.copyOf(label, nodes);
+        this.firstChild = Arrays.copyOf(firstChild, nodes + 1);
+        this.terminal = Arrays.copyOf(terminal, (nodes + 63) >>> 6);
+        this.words = sorted.length;
+        this.maxWordLength = longest;
+        // El anillo necesita maxWordLength + 1 posiciones distintas: la actual y las que puede marcar
+        int ring = Math.max(64, Integer.highestOneBit(longest) << 1);
+        this.ringMask = ring - 1;
+        this.reachable = ThreadLocal.withInitial(() -> new long[ring >>> 6]);
+    }
+
+    /**
+     * Número de palabras distintas del diccionario.
+     */
+    public int size() {
+        return words;
+    }
+
+    public int maxWordLength() {
+        return maxWordLength;
+    }
+
+    /**
+     * Número de nodos del trie, raíz incluida.
+     */
+    int nodeCount() {
+        return label.length;
+    }
+
+    public boolean contains(CharSequence word) {
+        int node = ROOT;
+        for (int i = 0; i < word.length() && node >= 0; i++) {
+            node = child(node, word.charAt(i));
+        }
+        return node > ROOT && isTerminal(node);
+    }
+
+    /**
+     * {@code true} si {@code s} se puede partir en palabras del diccionario. El string vacío siempre se puede.
+     */
+    public boolean canSegment(CharSequence s) {
+        int n = s.length();
+        long[] ring = reachable.get();
+        Arrays.fill(ring, 0L);
+        ring[0] = 1L;
+        int furthest = 0;
+        for (int i = 0; i < n; i++) {
+            if (i > furthest) {
+                return false;
+            }
+            int slot = i & ringMask;
+            long bit = 1L << slot;
+            if ((ring[slot >>> 6] & bit) == 0) {
+                continue;
+            }
+            // La posición i se libera para reutilizarla como i + tamaño del anillo
+            ring[slot >>> 6] &= ~bit;
+            int node = ROOT;
+            for (int j = i; j < n; j++) {
+                node = child(node, s.charAt(j));
+                if (node < 0) {
+                    break;
+                }
+                if (isTerminal(node)) {
+                    if (j + 1 == n) {
+                        return true;
+                    }
+                    int end = (j + 1) & ringMask;
+                    ring[end >>> 6] |= 1L << end;
+                    furthest = Math.max(furthest, j + 1);
+                }
+            }
+        }
+        return n == 0;
+    }
+
+    /**
+     * Una segmentación de {@code s} con las palabras separadas por espacios, o {@code null} si no existe.
+     */
+    public String segment(CharSequence s) {
+        Iterator<String> segmentations = segmentations(s);
+        return segmentations.hasNext() ? segmentations.next() : null;
+    }
+
+    /**
+     * Todas las segmentaciones de {@code s} (palabras separadas por espacios), en orden lexicográfico de sus cortes
+     * y generadas bajo demanda: puede haber una cantidad exponencial, pero cada una se construye al pedirla. Primero
+     * se calcula en O(n · maxWordLength) desde qué posiciones se puede terminar de segmentar el resto, así que la
+     * búsqueda nunca entra en un camino sin salida y cada {@code next()} cuesta O(n · maxWordLength) como mucho.
+     *
+     * <p>El iterador se queda con {@code s}, que no debe cambiar mientras se usa.
+     */
+    public Iterator<String> segmentations(CharSequence s) {
+        return new Segmentations(s);
+    }
+
+    private int child(int node, char c) {
+        int from = firstChild[node];
+        int to = firstChild[node + 1];
+        if (to - from > LINEAR_CHILDREN) {
+            int index = Arrays.binarySearch(label, from, to, c);
+            return index >= 0 ? index : -1;
+        }
+        for (int i = from; i < to; i++) {
+            if (label[i] >= c) {
+                return label[i] == c ? i : -1;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isTerminal(int node) {
+        return (terminal[node >>> 6] & (1L << node)) != 0;
+    }
+
+    private final class Segmentations implements Iterator<String> {
+
+        private final CharSequence s;
+        // canFinish: bit i si s[i..] se puede segmentar
+        private final long[] canFinish;
+        // Posiciones de corte de la segmentación actual; la última es s.length()
+        private int[] cuts = new int[8];
+        private int count;
+        private boolean ready;
+        private boolean done;
+
+        Segmentations(CharSequence s) {
+            this.s = s;
+            int n = s.length();
+            canFinish = new long[(n >>> 6) + 1];
+            canFinish[n >>> 6] |= 1L << n;
+            for (int i = n - 1; i >= 0; i--) {
+                if (nextEnd(i, i) >= 0) {
+                    canFinish[i >>> 6] |= 1L << i;
+                }
+            }
+            if (canReach(0)) {
+                extend();
+                ready = true;
+            } else {
+                done = true;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!ready && !done) {
+                advance();
+            }
+            return ready;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            StringBuilder sentence = new StringBuilder(s.length() + count);
+            for (int k = 0, start = 0; k < count; start = cuts[k++]) {
+                if (k > 0) {
+                    sentence.append(' ');
+                }
+                sentence.append(s, start, cuts[k]);
+            }
+            return sentence.toString();
+        }
+
+        /**
+         * Pasa a la siguiente segmentación: cambia el último corte que tenga una alternativa y completa el resto con
+         * la primera opción en cada paso.
+         */
+        private void advance() {
+            while (count > 0) {
+                int start = count == 1 ? 0 : cuts[count - 2];
+                int end = nextEnd(start, cuts[count - 1]);
+                if (end >= 0) {
+                    cuts[count - 1] = end;
+                    extend();
+                    ready = true;
+                    return;
+                }
+                count--;
+            }
+            done = true;
+        }
+
+        private void extend() {
+            int position = count == 0 ? 0 : cuts[count - 1];
+            while (position < s.length()) {
+                position = nextEnd(position, position);
+                if (count == cuts.length) {
+                    cuts = Arrays.copyOf(cuts, count * 2);
+                }
+                cuts[count++] = position;
+            }
+        }
+
+        /**
+         * Menor {@code end > after} tal que {@code s[start..end)} es una palabra y el resto desde {@code end} se puede
+         * segmentar, o -1.
+         */
+        private int nextEnd(int start, int after) {
+            int node = ROOT;
+            for (int j = start; j < s.length(); j++) {
+                node = child(node, s.charAt(j));
+                if (node < 0) {
+                    return -1;
+                }
+                if (j + 1 > after && isTerminal(node) && canReach(j + 1)) {
+                    return j + 1;
+                }
+            }
+            return -1;
+        }
+
+        private boolean canReach(int position) {
+            return (canFinish[position >>> 6] & (1L << position)) != 0;
+        }
+    }
+}
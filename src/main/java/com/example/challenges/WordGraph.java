@@ -0,0 +1,311 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice de un diccionario para Word Ladder, construido una vez y consultado muchas veces.
+ *
+ * <p>Cada palabra recibe un id entero y se conecta con sus patrones comodín ({@code hot} → {@code *ot},
+ * {@code h*t}, {@code ho*}); dos palabras son vecinas si comparten patrón. Las dos direcciones (palabra → patrones
+ * y patrón → palabras) se guardan en arrays CSR de ids. Los patrones no se materializan como {@code String}: se
+ * identifican por una palabra representante y la posición del comodín, y se buscan en una tabla de hash propia,
+ * así que también se pueden calcular para una {@code beginWord} que no esté en el diccionario sin asignar memoria.
+ *
+ * <p>{@link #ladderLength(String, String)} es un BFS bidireccional por niveles que siempre expande el lado con la
+ * frontera más pequeña. Las marcas de visitado son arrays de sellos por generación (reiniciarlos es O(1)) que se
+ * reutilizan por hilo, así que una consulta no asigna memoria.
+ *
+ * <p>El índice es inmutable y se puede compartir entre hilos.
+ */
+public class WordGraph {
+
+    private final String[] words;
+    private final Map<String, Integer> ids;
+
+    // CSR palabra -> patrones
+    private final int[] wordPatternStart;
+    private final int[] wordPatterns;
+    // CSR patrón -> palabras
+    private final int[] patternWordStart;
+    private final int[] patternWords;
+
+    // Tabla de patrones: cada patrón es (palabra representante, posición del comodín)
+    private final int[] patternRepresentative;
+    private final int[] patternWildcard;
+    private final int[] patternSlots;
+    private final int patternMask;
+    private final int patternCount;
+    private final int maxWordLength;
+
+    // Compartido por todos los índices: no retiene ningún WordGraph y crece hasta el mayor consultado en cada hilo
+    private static final ThreadLocal<Search> SCRATCH = ThreadLocal.withInitial(Search::new);
+
+    public WordGraph(List<String> wordList) {
+        ids = new HashMap<>(wordList.size() * 2);
+        int totalChars = 0;
+        for (String word : wordList) {
+            if (ids.putIfAbsent(word, ids.size()) == null) {
+                totalChars += word.length();
+            }
+        }
+        words = new String[ids.size()];
+        for (Map.Entry<String, Integer> entry : ids.entrySet()) {
+            words[entry.getValue()] = entry.getKey();
+        }
+
+        patternRepresentative = new int[totalChars];
+        patternWildcard = new int[totalChars];
+        int slots = Integer.highestOneBit(Math.max(totalChars * 2, 2) - 1) << 1;
+        patternSlots = new int[slots];
+        patternMask = slots - 1;
+
+        wordPatternStart = new int[words.length + 1];
+        wordPatterns = new int[totalChars];
+        int[] wordsPerPattern = new int[totalChars];
+        int patterns = 0;
+        for (int w = 0; w < words.length; w++) {
+            String word = words[w];
+            int start = wordPatternStart[w];
+            for (int j = 0; j < word.length(); j++) {
+                int pattern = findPattern(word, j);
+                if (pattern < 0) {
+                    pattern = patterns++;
+                    addPattern(word, w, j, pattern);
+                }
+                wordPatterns[start + j] = pattern;
+                wordsPerPattern[pattern]++;
+            }
+            wordPatternStart[w + 1] = start + word.length();
+        }
+
+        patternCount = patterns;
+        patternWordStart = new int[patternCount + 1];
+        for (int p = 0; p < patternCount; p++) {
+            patternWordStart[p + 1] = patternWordStart[p] + wordsPerPattern[p];
+        }
+        patternWords = new int[totalChars];
+        int[] filled = new int[patternCount];
+        for (int w = 0; w < words.length; w++) {
+            for (int i = wordPatternStart[w]; i < wordPatternStart[w + 1]; i++) {
+                int pattern = wordPatterns[i];
+                patternWords[patternWordStart[pattern] + filled[pattern]++] = w;
+            }
+        }
+
+        int longest = 0;
+        for (String word : words) {
+            longest = Math.max(longest, word.length());
+        }
+        maxWordLength = longest;
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * Número de palabras de la transformación más corta de {@code beginWord} a {@code endWord}, o 0 si no existe.
+     * {@code endWord} debe estar en el diccionario; {@code beginWord} no hace falta.
+     */
+    public int ladderLength(String beginWord, String endWord) {
+        Integer endId = ids.get(endWord);
+        if (endId == null) {
+            return 0;
+        }
+        if (beginWord.equals(endWord)) {
+            return 1;
+        }
+
+        Integer beginId = ids.get(beginWord);
+        if (beginId == null && beginWord.length() > maxWordLength) {
+            return 0;
+        }
+        Search search = SCRATCH.get();
+        search.start(words.length + 1, patternCount, maxWordLength);
+        int begin;
+        if (beginId != null) {
+            begin = beginId;
+        } else {
+            // Nodo virtual para una beginWord fuera del diccionario; sus patrones se buscan sin crear Strings
+            begin = words.length;
+            for (int j = 0; j < beginWord.length(); j++) {
+                search.beginPatterns[j] = findPattern(beginWord, j);
+            }
+            search.beginPatternCount = beginWord.length();
+        }
+        return search.run(this, begin, endId);
+    }
+
+    /**
+     * Búsqueda en la tabla de patrones de {@code word} con comodín en {@code wildcard}; -1 si no existe.
+     */
+    private int findPattern(String word, int wildcard) {
+        for (int slot = patternHash(word, wildcard) & patternMask; ; slot = (slot + 1) & patternMask) {
+            int entry = patternSlots[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            int pattern = entry - 1;
+            if (patternWildcard[pattern] == wildcard && sameExceptAt(words[patternRepresentative[pattern]], word,
+                    wildcard)) {
+                return pattern;
+            }
+        }
+    }
+
+    private void addPattern(String word, int wordId, int wildcard, int pattern) {
+        patternRepresentative[pattern] = wordId;
+        patternWildcard[pattern] = wildcard;
+        int slot = patternHash(word, wildcard) & patternMask;
+        while (patternSlots[slot] != 0) {
+            slot = (slot + 1) & patternMask;
+        }
+        patternSlots[slot] = pattern + 1;
+    }
+
+    private static int patternHash(String word, int wildcard) {
+        int h = word.length() * 31 + wildcard;
+        for (int i = 0; i < word.length(); i++) {
+            if (i != wildcard) {
+                h = h * 31 + word.charAt(i);
+            }
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean sameExceptAt(String a, String b, int wildcard) {
+        if (a.length() != b.length()) {
+            return false;
+        }
+        for (int i = 0; i < a.length(); i++) {
+            if (i != wildcard && a.charAt(i) != b.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estado reutilizable de una consulta, válido para cualquier índice: los arrays crecen al del índice consultado.
+     * Los arrays {@code seen} y {@code patternSeen} guardan la generación en la que se marcó cada palabra o patrón,
+     * así que empezar una consulta nueva solo incrementa {@code generation}; las marcas que dejó otro índice son de
+     * generaciones anteriores y no cuentan.
+     */
+    private static final class Search {
+
+        final int[][] seen = { new int[0], new int[0] };
+        final int[][] distance = { new int[0], new int[0] };
+        final int[][] patternSeen = { new int[0], new int[0] };
+        final int[][] frontier = { new int[0], new int[0] };
+        final int[] frontierSize = new int[2];
+        int[] next = new int[0];
+        int[] beginPatterns = new int[0];
+        int beginPatternCount;
+        int generation;
+
+        void start(int nodes, int patterns, int maxWordLength) {
+            if (next.length < nodes) {
+                for (int side = 0; side < 2; side++) {
+                    seen[side] = new int[nodes];
+                    distance[side] = new int[nodes];
+                    frontier[side] = new int[nodes];
+                }
+                next = new int[nodes];
+            }
+            if (patternSeen[0].length < patterns) {
+                patternSeen[0] = new int[patterns];
+                patternSeen[1] = new int[patterns];
+            }
+            if (beginPatterns.length < maxWordLength) {
+                beginPatterns = new int[maxWordLength];
+            }
+            beginPatternCount = 0;
+            if (++generation == 0) {
+                for (int side = 0; side < 2; side++) {
+                    Arrays.fill(seen[side], 0);
+                    Arrays.fill(patternSeen[side], 0);
+                }
+                generation = 1;
+            }
+        }
+
+        int run(WordGraph graph, int begin, int end) {
+            visit(0, begin, 1);
+            visit(1, end, 1);
+            frontier[0][0] = begin;
+            frontier[1][0] = end;
+            frontierSize[0] = 1;
+            frontierSize[1] = 1;
+
+            while (frontierSize[0] > 0 && frontierSize[1] > 0) {
+                int side = frontierSize[0] <= frontierSize[1] ? 0 : 1;
+                int best = expand(graph, side);
+                if (best > 0) {
+                    return best;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Expande un nivel completo de {@code side}. Si alguna palabra nueva ya la vio el otro lado, retorna la
+         * longitud mínima entre todos los encuentros de este nivel.
+         */
+        private int expand(WordGraph graph, int side) {
+            int other = 1 - side;
+            int[] current = frontier[side];
+            int size = frontierSize[side];
+            int nextSize = 0;
+            int best = Integer.MAX_VALUE;
+
+            for (int f = 0; f < size; f++) {
+                int word = current[f];
+                int depth = distance[side][word] + 1;
+                int from;
+                int to;
+                int[] patterns;
+                if (word == graph.words.length) {
+                    patterns = beginPatterns;
+                    from = 0;
+                    to = beginPatternCount;
+                } else {
+                    patterns = graph.wordPatterns;
+                    from = graph.wordPatternStart[word];
+                    to = graph.wordPatternStart[word + 1];
+                }
+                for (int i = from; i < to; i++) {
+                    int pattern = patterns[i];
+                    // Un patrón ya recorrido desde este lado solo llevaría a palabras ya vistas
+                    if (pattern < 0 || patternSeen[side][pattern] == generation) {
+                        continue;
+                    }
+                    patternSeen[side][pattern] = generation;
+                    for (int j = graph.patternWordStart[pattern]; j < graph.patternWordStart[pattern + 1]; j++) {
+                        int neighbor = graph.patternWords[j];
+                        if (seen[side][neighbor] == generation) {
+                            continue;
+                        }
+                        visit(side, neighbor, depth);
+                        if (seen[other][neighbor] == generation) {
+                            best = Math.min(best, depth + distance[other][neighbor] - 1);
+                        }
+                        next[nextSize++] = neighbor;
+                    }
+                }
+            }
+
+            frontier[side] = next;
+            next = current;
+            frontierSize[side] = nextSize;
+            return best == Integer.MAX_VALUE ? 0 : best;
+        }
+
+        private void visit(int side, int word, int depth) {
+            seen[side][word] = generation;
+            distance[side][word] = depth;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class WordLadder {
+
+    public static void main(String[] args) {
+        List<String> wordList = Arrays.asList("hot", "dot", "dog", "lot", "log", "cog"); // 5
+        System.out.println(ladderLength("hit", "cog", wordList));
+    }
+
+    /**
+     * BFS sobre el grafo implícito de palabras que difieren en una letra. Construye el índice en cada llamada;
+     * para muchas consultas contra el mismo diccionario conviene crear un {@link WordGraph} y reutilizarlo.
+     */
+    public static int ladderLength(String beginWord, String endWord, List<String> wordList) {
+        return new WordGraph(wordList).ladderLength(beginWord, endWord);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.challenges;
+
+public class WordPattern {
+
+    public static void main(String[] args) {
+        System.out.println(wordPattern("abba", "dog cat cat dog")); // true
+        System.out.println(wordPattern("abba", "dog cat cat fish")); // false
+        System.out.println(wordPattern("aaaa", "dog cat cat dog")); // false
+    }
+
+    /**
+     * Compara las formas canónicas (orden de primera aparición de cada símbolo) del patrón y de las palabras, sin
+     * mapas en ninguno de los dos sentidos. Para muchos patrones contra cada frase, ver {@link WordPatternIndex}.
+     */
+    public static boolean wordPattern(String pattern, String s) {
+        return WordPatternIndex.matches(pattern, s);
+    }
+}
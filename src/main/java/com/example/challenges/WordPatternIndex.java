@@ -0,0 +1,309 @@
+package com.example.challenges;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Índice de patrones de {@link WordPattern} para comprobar muchos patrones contra cada frase.
+ *
+ * <p>Un patrón y una frase casan si y solo si tienen la misma forma canónica: cada símbolo (carácter del patrón o
+ * palabra de la frase) se sustituye por el orden de su primera aparición, así que {@code "abba"} y
+ * {@code "dog cat cat dog"} son los dos {@code 0 1 1 0}. Al construir el índice cada patrón se normaliza a su forma
+ * canónica y los patrones con la misma forma se agrupan en una tabla de hash abierta sobre las formas. Para una
+ * frase, {@link #match(CharSequence)} la tokeniza una vez internando cada palabra en una tabla por hilo (el id de una
+ * palabra es justamente su orden de primera aparición, así que la secuencia de ids ya es la forma canónica) y la
+ * busca en la tabla: el coste es O(palabras) con independencia del número de patrones.
+ *
+ * <p>Las palabras de una frase son los tramos separados por uno o más espacios. El índice es inmutable y se puede
+ * compartir entre hilos.
+ */
+public final class WordPatternIndex {
+
+    private static final int[] NONE = new int[0];
+    private static final ThreadLocal<Tokens> TOKENS = ThreadLocal.withInitial(Tokens::new);
+    private static final ThreadLocal<int[]> CHAR_MARKS =
+            ThreadLocal.withInitial(() -> new int[Character.MAX_VALUE + 1]);
+
+    private final int patterns;
+    // Formas canónicas de los grupos en CSR, con su hash
+    private final int[] formStart;
+    private final int[] forms;
+    private final int[] formHash;
+    // Patrones de cada grupo en CSR, en orden
+    private final int[] memberStart;
+    private final int[] members;
+    // Slot → id de grupo + 1 (0 = libre)
+    private final int[] slots;
+    private final int shift;
+
+    public WordPatternIndex(List<String> patterns) {
+        this(patterns.toArray(new String[0]));
+    }
+
+    /**
+     * Índice de {@code patterns}; el id de cada patrón es su posición en el array.
+     */
+    public WordPatternIndex(String... patterns) {
+        this.patterns = patterns.length;
+        int capacity = Integer.highestOneBit(Math.max(2, patterns.length) * 2 - 1) << 1;
+        slots = new int[capacity];
+        shift = Integer.numberOfLeadingZeros(capacity - 1);
+
+        int[] groupOf = new int[patterns.length];
+        int[] starts = new int[16];
+        int[] symbols = new int[16];
+        int[] hashes = new int[16];
+        int groups = 0;
+        int length = 0;
+        int[] form = new int[16];
+        for (int p = 0; p < patterns.length; p++) {
+            String pattern = patterns[p];
+            if (form.length < pattern.length()) {
+                form = new int[pattern.length()];
+            }
+            canonical(pattern, form);
+            int hash = hash(form, pattern.length());
+            int slot = hash * 0x9E3779B9 >>> shift;
+            int group = -1;
+            while (slots[slot] != 0) {
+                int candidate = slots[slot] - 1;
+                if (hashes[candidate] == hash && Arrays.equals(symbols, starts[candidate], starts[candidate + 1],
+                        form, 0, pattern.length())) {
+                    group = candidate;
+                    break;
+                }
+                slot = (slot + 1) & (capacity - 1);
+            }
+            if (group < 0) {
+                group = groups++;
+                slots[slot] = groups;
+                if (groups + 1 > starts.length) {
+                    starts = Arrays.copyOf(starts, starts.length * 2);
+                    hashes = Arrays.copyOf(hashes, hashes.length * 2);
+                }
+                if (length + pattern.length() > symbols.length) {
+                    symbols = Arrays.copyOf(symbols, Math.max(length + pattern.length(), symbols.length * 2));
+                }
+                System.arraycopy(form, 0, symbols, length, pattern.length());
+                length += pattern.length();
+                starts[group + 1] = length;
+                hashes[group] = hash;
+            }
+            groupOf[p] = group;
+        }
+        formStart = Arrays.copyOf(starts, groups + 1);
+        forms = Arrays.copyOf(symbols, length);
+        formHash = Arrays.copyOf(hashes, groups);
+
+        memberStart = new int[groups + 1];
+        for (int group : groupOf) {
+            memberStart[group + 1]++;
+        }
+        for (int g = 0; g < groups; g++) {
+            memberStart[g + 1] += memberStart[g];
+        }
+        members = new int[patterns.length];
+        int[] filled = Arrays.copyOf(memberStart, groups);
+        for (int p = 0; p < patterns.length; p++) {
+            members[filled[groupOf[p]]++] = p;
+        }
+    }
+
+    /**
+     * Número de patrones.
+     */
+    public int size() {
+        return patterns;
+    }
+
+    /**
+     * Número de formas canónicas distintas entre los patrones.
+     */
+    public int groupCount() {
+        return formHash.length;
+    }
+
+    /**
+     * Ids de los patrones que casan con {@code sentence}, en orden creciente.
+     */
+    public int[] match(CharSequence sentence) {
+        Tokens tokens = TOKENS.get();
+        int count = tokens.tokenize(sentence);
+        int hash = hash(tokens.ids, count);
+        for (int slot = hash * 0x9E3779B9 >>> shift; slots[slot] != 0; slot = (slot + 1) & (slots.length - 1)) {
+            int group = slots[slot] - 1;
+            if (formHash[group] == hash && Arrays.equals(forms, formStart[group], formStart[group + 1],
+                    tokens.ids, 0, count)) {
+                return Arrays.copyOfRange(members, memberStart[group], memberStart[group + 1]);
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * {@code true} si {@code sentence} sigue {@code pattern}, sin construir un índice: compara las dos formas
+     * canónicas símbolo a símbolo.
+     */
+    public static boolean matches(CharSequence pattern, CharSequence sentence) {
+        // Casi todos los pares que no casan se descartan por el número de palabras, sin internarlas
+        int count = Tokens.countWords(sentence);
+        if (count != pattern.length()) {
+            return false;
+        }
+        Tokens tokens = TOKENS.get();
+        tokens.tokenize(sentence, count);
+        int[] marks = CHAR_MARKS.get();
+        // Marca de cada carácter: id + 1 de su primera aparición en esta llamada, 0 si no apareció. Se limpian al final
+        int distinct = 0;
+        boolean matches = true;
+        for (int i = 0; i < count; i++) {
+            char c = pattern.charAt(i);
+            if (marks[c] == 0) {
+                marks[c] = ++distinct;
+            }
+            if (marks[c] - 1 != tokens.ids[i]) {
+                matches = false;
+                break;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            marks[pattern.charAt(i)] = 0;
+        }
+        return matches;
+    }
+
+    /**
+     * Escribe en {@code form} el orden de primera aparición de cada carácter de {@code pattern}.
+     */
+    private static void canonical(CharSequence pattern, int[] form) {
+        int[] marks = CHAR_MARKS.get();
+        int distinct = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (marks[c] == 0) {
+                marks[c] = ++distinct;
+            }
+            form[i] = marks[c] - 1;
+        }
+        for (int i = 0; i < pattern.length(); i++) {
+            marks[pattern.charAt(i)] = 0;
+        }
+    }
+
+    private static int hash(int[] form, int length) {
+        int hash = length;
+        for (int i = 0; i < length; i++) {
+            hash = hash * 0x01000193 ^ form[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Tokenizador con internado por frase: las palabras distintas reciben ids {@code 0, 1, 2...} en orden de
+     * primera aparición. La tabla de internado se reutiliza entre frases con marcas por generación, así que
+     * tokenizar no asigna memoria salvo al crecer.
+     */
+    private static final class Tokens {
+
+        int[] ids = new int[16];
+        // Tramo [start, end) y hash de cada palabra distinta, por id
+        private int[] wordStart = new int[16];
+        private int[] wordEnd = new int[16];
+        private int[] wordHash = new int[16];
+        // Slot → id + 1, válido solo si su generación es la actual
+        private int[] slots = new int[32];
+        private int[] slotGeneration = new int[32];
+        private int generation;
+
+        static int countWords(CharSequence s) {
+            int words = 0;
+            for (int i = 0; i < s.length(); i++) {
+                if (s.charAt(i) != ' ' && (i == 0 || s.charAt(i - 1) == ' ')) {
+                    words++;
+                }
+            }
+            return words;
+        }
+
+        int tokenize(CharSequence s) {
+            return tokenize(s, countWords(s));
+        }
+
+        /**
+         * Tokeniza {@code s}, que tiene {@code words} palabras. Retorna {@code words}.
+         */
+        int tokenize(CharSequence s, int words) {
+            int n = s.length();
+            prepare(words);
+
+            int count = 0;
+            int distinct = 0;
+            int mask = slots.length - 1;
+            int shift = Integer.numberOfLeadingZeros(mask);
+            for (int i = 0; i < n; ) {
+                if (s.charAt(i) == ' ') {
+                    i++;
+                    continue;
+                }
+                int start = i;
+                int hash = 0;
+                for (; i < n && s.charAt(i) != ' '; i++) {
+                    hash = 31 * hash + s.charAt(i);
+                }
+                int slot = hash * 0x9E3779B9 >>> shift;
+                int id = -1;
+                while (slotGeneration[slot] == generation) {
+                    int candidate = slots[slot] - 1;
+                    if (wordHash[candidate] == hash
+                            && sameWord(s, wordStart[candidate], wordEnd[candidate], start, i)) {
+                        id = candidate;
+                        break;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                if (id < 0) {
+                    id = distinct++;
+                    slots[slot] = distinct;
+                    slotGeneration[slot] = generation;
+                    wordStart[id] = start;
+                    wordEnd[id] = i;
+                    wordHash[id] = hash;
+                }
+                ids[count++] = id;
+            }
+            return count;
+        }
+
+        private void prepare(int words) {
+            if (ids.length < words) {
+                int length = Math.max(words, ids.length + (ids.length >> 1));
+                ids = new int[length];
+                wordStart = new int[length];
+                wordEnd = new int[length];
+                wordHash = new int[length];
+            }
+            if (slots.length < 2 * words) {
+                int capacity = Integer.highestOneBit(2 * words - 1) << 1;
+                slots = new int[capacity];
+                slotGeneration = new int[capacity];
+                generation = 0;
+            }
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(slotGeneration, 0);
+                generation = 1;
+            }
+        }
+
+        private static boolean sameWord(CharSequence s, int from, int to, int otherFrom, int otherTo) {
+            if (to - from != otherTo - otherFrom) {
+                return false;
+            }
+            for (int i = from, j = otherFrom; i < to; i++, j++) {
+                if (s.charAt(i) != s.charAt(j)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.challenges;
+
+/**
+ * {@link IntSource} que además admite escritura, usado como salida de los ejercicios que producen un array. Los
+ * buffers de {@link #chunk(long)} también son escribibles con {@code put(int, int)}.
+ */
+public interface WritableIntSource extends IntSource {
+
+    void set(long index, int value);
+
+    /**
+     * Vista sobre un array del heap, sin copiarlo; las escrituras modifican {@code values}.
+     */
+    static WritableIntSource of(int[] values) {
+        return new ArrayIntSource(values);
+    }
+}
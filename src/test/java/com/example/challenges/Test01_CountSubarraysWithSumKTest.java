@@ -2,6 +2,7 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
 
 class Test01_CountSubarraysWithSumKTest {
 
@@ -18,4 +19,107 @@ class Test01_CountSubarraysWithSumKTest {
         int k = 3;
         assertEquals(2, CountSubarraysWithSumK.subarraySumPrefixSum(nums, k));
     }
+
+    @Test
+    void shouldNotOverflowWhenPrefixSumsExceedIntRange() {
+        int[] nums = { Integer.MAX_VALUE, Integer.MAX_VALUE, -Integer.MAX_VALUE, 1 };
+        int k = Integer.MAX_VALUE;
+        // [MAX], [MAX], [MAX, MAX, -MAX]
+        assertEquals(3, CountSubarraysWithSumK.subarraySumCount(nums, k));
+    }
+
+    @Test
+    void shouldReturnLongCountWhenResultExceedsInt() {
+        int[] nums = new int[100_000];
+        // Con todos ceros cada uno de los n(n+1)/2 subarrays suma 0
+        assertEquals(5_000_050_000L, CountSubarraysWithSumK.subarraySumCount(nums, 0));
+        assertThrows(ArithmeticException.class, () -> CountSubarraysWithSumK.subarraySumPrefixSum(nums, 0));
+    }
+
+    @Test
+    void shouldMatchBruteForceOnMixedSigns() {
+        Random random = new Random(42);
+        int[] nums = new int[300];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = random.nextInt(11) - 5;
+        }
+        for (int k = -6; k <= 6; k++) {
+            long expected = 0;
+            for (int i = 0; i < nums.length; i++) {
+                long sum = 0;
+                for (int j = i; j < nums.length; j++) {
+                    sum += nums[j];
+                    if (sum == k) {
+                        expected++;
+                    }
+                }
+            }
+            assertEquals(expected, CountSubarraysWithSumK.subarraySumCount(nums, k));
+        }
+    }
+
+    @Test
+    void shouldCountAcrossChunksLikeTheWholeArray() {
+        int[] nums = { 1, 0, 1, 1, 2, 3, -1, 4, 0, 3 };
+        SubarraySumCounter counter = new SubarraySumCounter(3);
+        counter.acceptAll(nums, 0, 4);
+        counter.accept(nums[4]);
+        counter.acceptAll(nums, 5, nums.length - 5);
+        assertEquals(CountSubarraysWithSumK.subarraySumCount(nums, 3), counter.count());
+        assertEquals(nums.length, counter.length());
+    }
+
+    @Test
+    void shouldTrackSeveralTargetsInOnePass() {
+        int[] nums = { 1, 1, 1, 2, -1, 3 };
+        int[] targets = { 2, 3, 0 };
+        SubarraySumCounter counter = new SubarraySumCounter(targets);
+        counter.acceptAll(nums, 0, nums.length);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(CountSubarraysWithSumK.subarraySumCount(nums, targets[i]), counter.count(i));
+        }
+
+        counter.reset();
+        assertEquals(0, counter.count());
+        counter.acceptAll(new int[] { 1, 1 }, 0, 2);
+        assertEquals(1, counter.count());
+    }
+
+    @Test
+    void shouldKeepPrefixSumFrequenciesBeyondIntRange() {
+        // Un contador en streaming puede ver la misma prefix sum más de 2^31 veces (p. ej. una racha de ceros)
+        LongLongHashMap frequencies = new LongLongHashMap();
+        frequencies.add(-4L, Integer.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE + 1L, frequencies.increment(-4L));
+        for (long key = 0; key < 100; key++) {
+            frequencies.increment(key);
+        }
+        assertEquals(Integer.MAX_VALUE + 1L, frequencies.get(-4L));
+        assertEquals(101, frequencies.size());
+
+        frequencies.clear();
+        assertEquals(0, frequencies.get(-4L));
+    }
+
+    @Test
+    void shouldMatchSequentialCountWhenRunInParallel() {
+        Random random = new Random(7);
+        int[] nums = new int[CountSubarraysWithSumK.PARALLEL_THRESHOLD * 3 + 17];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = random.nextInt(7) - 3;
+        }
+        for (int k : new int[] { 0, 2, -5 }) {
+            long expected = CountSubarraysWithSumK.subarraySumCount(nums, k);
+            for (int parallelism : new int[] { 2, 3, 8 }) {
+                assertEquals(expected, CountSubarraysWithSumK.subarraySumParallel(nums, k, parallelism));
+            }
+        }
+    }
+
+    @Test
+    void shouldFallBackToSequentialForSmallInputs() {
+        int[] nums = { 1, 1, 1 };
+        assertEquals(2, CountSubarraysWithSumK.subarraySumParallel(nums, 2, 4));
+        assertThrows(IllegalArgumentException.class, () -> CountSubarraysWithSumK.subarraySumParallel(nums, 2, 0));
+    }
 }
@@ -2,6 +2,10 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.io.TempDir;
 
 class Test02_MaximumSubarraySumTest {
 
@@ -16,4 +20,22 @@ class Test02_MaximumSubarraySumTest {
         int[] nums = { 5, 4, -1, 7, 8 };
         assertEquals(23, MaximumSubarraySum.maxSubarraySum(nums));
     }
+
+    @Test
+    void shouldRunKadaneOverMappedFileAcrossSegments(@TempDir Path dir) throws IOException {
+        int[] nums = { -2, 1, -3, 4, -1, 2, 1, -5, 4, Integer.MAX_VALUE, Integer.MAX_VALUE, -7, 3 };
+        Path file = dir.resolve("nums.bin");
+        // Segmentos de 4 ints para cruzar varias fronteras de mapeo
+        try (MappedIntFile out = MappedIntFile.create(file, nums.length, 2)) {
+            for (int i = 0; i < nums.length; i++) {
+                out.set(i, nums[i]);
+            }
+        }
+        assertEquals(nums.length * 4L, Files.size(file));
+        try (MappedIntFile in = MappedIntFile.open(file, 2)) {
+            assertEquals(nums.length, in.length());
+            // 4 - 1 + 2 + 1 - 5 + 4 + 2 * MAX = 5 + 2 * MAX, no cabe en un int
+            assertEquals(5 + 2L * Integer.MAX_VALUE, MaximumSubarraySum.maxSubarraySum(in));
+        }
+    }
 }
@@ -2,6 +2,9 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.io.TempDir;
 
 class Test03_ProductOfArrayExceptSelfTest {
 
@@ -18,4 +21,17 @@ class Test03_ProductOfArrayExceptSelfTest {
         int[] expected = { 0, 0, 9, 0, 0 };
         assertArrayEquals(expected, ProductOfArrayExceptSelf.productExceptSelf(nums));
     }
+
+    @Test
+    void shouldWriteProductsToMappedFileWithDifferentSegments(@TempDir Path dir) throws IOException {
+        int[] nums = { 2, -1, 3, 1, 4, 2, 1, 5, -2, 1, 3 };
+        int[] expected = ProductOfArrayExceptSelf.productExceptSelf(nums);
+        // Entrada en el heap y salida en segmentos de 4 ints: las fronteras de bloque no coinciden
+        try (MappedIntFile output = MappedIntFile.create(dir.resolve("out.bin"), nums.length, 2)) {
+            ProductOfArrayExceptSelf.productExceptSelf(IntSource.of(nums), output);
+            for (int i = 0; i < nums.length; i++) {
+                assertEquals(expected[i], output.get(i));
+            }
+        }
+    }
 }
@@ -2,6 +2,10 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.io.TempDir;
 
 class Test04_ContainerWithMostWaterTest {
 
@@ -10,4 +14,21 @@ class Test04_ContainerWithMostWaterTest {
         int[] height = { 1, 8, 6, 2, 5, 4, 8, 3, 7 };
         assertEquals(49, ContainerWithMostWater.maxArea(height));
     }
+
+    @Test
+    void shouldMatchArrayVersionWhenPointersCrossSegments(@TempDir Path dir) throws IOException {
+        Random random = new Random(5);
+        for (int n = 0; n < 40; n++) {
+            int[] height = new int[n];
+            for (int i = 0; i < n; i++) {
+                height[i] = random.nextInt(10);
+            }
+            try (MappedIntFile file = MappedIntFile.create(dir.resolve("h" + n + ".bin"), n, 2)) {
+                for (int i = 0; i < n; i++) {
+                    file.set(i, height[i]);
+                }
+                assertEquals(ContainerWithMostWater.maxArea(height), ContainerWithMostWater.maxArea(file));
+            }
+        }
+    }
 }
@@ -2,8 +2,10 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 class Test06_SlidingWindowMaximumTest {
 
@@ -14,4 +16,48 @@ class Test06_SlidingWindowMaximumTest {
         int[] expected = { 3, 3, 5, 5, 6, 7 };
         assertArrayEquals(expected, SlidingWindowMaximum.maxSlidingWindow(nums, k));
     }
+
+    @Test
+    void shouldStreamMaxAndMinAcrossChunks() {
+        int[] nums = { 1, 3, -1, -3, 5, 3, 6, 7 };
+        List<Integer> maxima = new ArrayList<>();
+        List<Integer> minima = new ArrayList<>();
+        SlidingMaxWindow max = SlidingMaxWindow.max(3, maxima::add);
+        SlidingMaxWindow min = SlidingMaxWindow.min(3, minima::add);
+        for (SlidingMaxWindow window : Arrays.asList(max, min)) {
+            window.acceptAll(nums, 0, 5);
+            window.acceptAll(nums, 5, 3);
+        }
+        assertEquals(Arrays.asList(3, 3, 5, 5, 6, 7), maxima);
+        assertEquals(Arrays.asList(-1, -3, -3, -3, 3, 3), minima);
+    }
+
+    @Test
+    void shouldMatchBruteForceForEveryWindowSize() {
+        Random random = new Random(11);
+        int[] nums = new int[200];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = random.nextInt(20) - 10;
+        }
+        nums[17] = Integer.MIN_VALUE;
+        nums[42] = Integer.MAX_VALUE;
+        for (int k = 1; k <= 70; k++) {
+            int[] expectedMax = new int[nums.length - k + 1];
+            int[] expectedMin = new int[nums.length - k + 1];
+            for (int i = 0; i < expectedMax.length; i++) {
+                expectedMax[i] = Integer.MIN_VALUE;
+                expectedMin[i] = Integer.MAX_VALUE;
+                for (int j = i; j < i + k; j++) {
+                    expectedMax[i] = Math.max(expectedMax[i], nums[j]);
+                    expectedMin[i] = Math.min(expectedMin[i], nums[j]);
+                }
+            }
+            assertArrayEquals(expectedMax, SlidingWindowMaximum.maxSlidingWindow(nums, k));
+
+            int[] minima = new int[expectedMin.length];
+            int[] written = new int[1];
+            SlidingMaxWindow.min(k, value -> minima[written[0]++] = value).acceptAll(nums, 0, nums.length);
+            assertArrayEquals(expectedMin, minima);
+        }
+    }
 }
@@ -2,6 +2,13 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.io.TempDir;
 
 class Test07_TrappingRainWaterTest {
 
@@ -10,4 +17,35 @@ class Test07_TrappingRainWaterTest {
         int[] height = { 0, 1, 0, 2, 1, 0, 1, 3, 2, 1, 2, 1 };
         assertEquals(6, TrappingRainWater.trap(height));
     }
+
+    @Test
+    void shouldReadLittleEndianIntsFromFile(@TempDir Path dir) throws IOException {
+        int[] height = { 0, 1, 0, 2, 1, 0, 1, 3, 2, 1, 2, 1 };
+        ByteBuffer bytes = ByteBuffer.allocate(height.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        for (int h : height) {
+            bytes.putInt(h);
+        }
+        Path file = dir.resolve("height.bin");
+        Files.write(file, bytes.array());
+        try (MappedIntFile in = MappedIntFile.open(file, 3)) {
+            assertEquals(6, TrappingRainWater.trap(in));
+        }
+    }
+
+    @Test
+    void shouldMatchArrayVersionWhenPointersCrossSegments(@TempDir Path dir) throws IOException {
+        Random random = new Random(7);
+        for (int n = 0; n < 40; n++) {
+            int[] height = new int[n];
+            for (int i = 0; i < n; i++) {
+                height[i] = random.nextInt(10);
+            }
+            try (MappedIntFile file = MappedIntFile.create(dir.resolve("h" + n + ".bin"), n, 2)) {
+                for (int i = 0; i < n; i++) {
+                    file.set(i, height[i]);
+                }
+                assertEquals(TrappingRainWater.trap(height), TrappingRainWater.trap(file));
+            }
+        }
+    }
 }
@@ -2,6 +2,11 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
 
 class Test11_LongestSubstringWithoutRepeatingCharactersTest {
 
@@ -16,4 +21,37 @@ class Test11_LongestSubstringWithoutRepeatingCharactersTest {
         String s = "pwwkew";
         assertEquals(3, LongestSubstringWithoutRepeatingCharacters.lengthOfLongestSubstring(s));
     }
+
+    @Test
+    void shouldMatchBruteForceOnRandomStringsAndBuffers() {
+        Random random = new Random(11);
+        for (int round = 0; round < 1000; round++) {
+            String s = randomString(random, random.nextInt(40));
+            int expected = 0;
+            for (int from = 0; from < s.length(); from++) {
+                Set<Character> seen = new HashSet<>();
+                for (int to = from; to < s.length() && seen.add(s.charAt(to)); to++) {
+                    expected = Math.max(expected, to - from + 1);
+                }
+            }
+            assertEquals(expected, LongestSubstringWithoutRepeatingCharacters.lengthOfLongestSubstring(s));
+            if (s.chars().allMatch(c -> c < 256)) {
+                byte[] bytes = s.getBytes(StandardCharsets.ISO_8859_1);
+                ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 2).position(1);
+                direct.put(bytes).flip().position(1);
+                assertEquals(expected, LongestSubstringWithoutRepeatingCharacters.lengthOfLongestSubstring(direct));
+                assertEquals(1, direct.position());
+            }
+        }
+        assertEquals(0, LongestSubstringWithoutRepeatingCharacters.lengthOfLongestSubstring(""));
+    }
+
+    // Pocas letras para que haya repeticiones; a veces caracteres fuera de Latin-1 para la ventana de char
+    private static String randomString(Random random, int length) {
+        StringBuilder s = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            s.append(random.nextInt(20) == 0 ? "é€ÿ".charAt(random.nextInt(3)) : (char) ('a' + random.nextInt(5)));
+        }
+        return s.toString();
+    }
 }
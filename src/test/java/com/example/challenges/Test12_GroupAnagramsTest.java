@@ -2,6 +2,11 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
 import java.util.List;
 import java.util.Arrays;
 
@@ -26,4 +31,66 @@ class Test12_GroupAnagramsTest {
         expected.sort((a, b) -> a.get(0).compareTo(b.get(0)));
         assertEquals(expected, result);
     }
+
+    @Test
+    void shouldMatchSortedKeyGroupingOnRandomWords() {
+        Random random = new Random(12);
+        for (int round = 0; round < 200; round++) {
+            String[] words = new String[random.nextInt(200)];
+            for (int i = 0; i < words.length; i++) {
+                StringBuilder word = new StringBuilder();
+                // A veces palabras largas de pocas letras (más de 15 repeticiones) o con mayúsculas
+                int length = random.nextInt(10) == 0 ? 10 + random.nextInt(30) : random.nextInt(6);
+                int alphabet = 1 + random.nextInt(26);
+                for (int j = 0; j < length; j++) {
+                    char c = (char) ('a' + random.nextInt(alphabet));
+                    word.append(random.nextInt(50) == 0 ? Character.toUpperCase(c) : c);
+                }
+                words[i] = word.toString();
+            }
+            // Oráculo: clave ordenada, grupos en orden de primera aparición
+            Map<String, List<String>> groups = new LinkedHashMap<>();
+            for (String word : words) {
+                char[] chars = word.toCharArray();
+                Arrays.sort(chars);
+                groups.computeIfAbsent(new String(chars), key -> new ArrayList<>()).add(word);
+            }
+            assertEquals(new ArrayList<>(groups.values()), GroupAnagrams.groupAnagrams(words));
+        }
+    }
+
+    @Test
+    void shouldSeparateWordsThatOnlyDifferBeyondPackedRange() {
+        String fifteen = "a".repeat(15);
+        String[] words = { fifteen, "a".repeat(16), "a".repeat(31), "a".repeat(16), fifteen + "z", "z" + fifteen };
+        assertArrayEquals(new int[] { 0, 1, 2, 1, 3, 3 }, AnagramFingerprint.groupIds(words));
+        // Muchos grupos distintos para que la tabla crezca: ids iguales que con la clave ordenada
+        Random random = new Random(1212);
+        String[] many = new String[50_000];
+        for (int i = 0; i < many.length; i++) {
+            char[] chars = new char[8];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) ('a' + random.nextInt(26));
+            }
+            many[i] = i > 0 && random.nextBoolean() ? shuffled(many[random.nextInt(i)], random) : new String(chars);
+        }
+        Map<String, Integer> expected = new HashMap<>();
+        int[] ids = AnagramFingerprint.groupIds(many);
+        for (int i = 0; i < many.length; i++) {
+            char[] chars = many[i].toCharArray();
+            Arrays.sort(chars);
+            assertEquals(expected.computeIfAbsent(new String(chars), key -> expected.size()), ids[i]);
+        }
+    }
+
+    private static String shuffled(String word, Random random) {
+        char[] chars = word.toCharArray();
+        for (int i = chars.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            char swap = chars[i];
+            chars[i] = chars[j];
+            chars[j] = swap;
+        }
+        return new String(chars);
+    }
 }
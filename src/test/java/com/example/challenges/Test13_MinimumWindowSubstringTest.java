@@ -2,6 +2,9 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
 
 class Test13_MinimumWindowSubstringTest {
 
@@ -11,4 +14,62 @@ class Test13_MinimumWindowSubstringTest {
         String t = "ABC";
         assertEquals("BANC", MinimumWindowSubstring.minWindow(s, t));
     }
+
+    @Test
+    void shouldMatchBruteForceOnRandomStringsAndBuffers() {
+        Random random = new Random(13);
+        for (int round = 0; round < 1000; round++) {
+            String s = randomString(random, random.nextInt(30));
+            String t = randomString(random, 1 + random.nextInt(4));
+            String expected = "";
+            for (int from = 0; from < s.length(); from++) {
+                for (int to = from + 1; to <= s.length(); to++) {
+                    if ((expected.isEmpty() || to - from < expected.length()) && covers(s.substring(from, to), t)) {
+                        expected = s.substring(from, to);
+                    }
+                }
+            }
+            assertEquals(expected, MinimumWindowSubstring.minWindow(s, t));
+            if (s.chars().allMatch(c -> c < 256) && t.chars().allMatch(c -> c < 256)) {
+                ByteBuffer window = MinimumWindowSubstring.minWindow(
+                        ByteBuffer.wrap(s.getBytes(StandardCharsets.ISO_8859_1)),
+                        ByteBuffer.wrap(t.getBytes(StandardCharsets.ISO_8859_1)));
+                byte[] bytes = new byte[window.remaining()];
+                window.get(bytes);
+                assertEquals(expected, new String(bytes, StandardCharsets.ISO_8859_1));
+            }
+        }
+        assertEquals("", MinimumWindowSubstring.minWindow("abc", ""));
+    }
+
+    private static boolean covers(String window, String t) {
+        StringBuilder rest = new StringBuilder(window);
+        for (char c : t.toCharArray()) {
+            int index = rest.indexOf(String.valueOf(c));
+            if (index < 0) {
+                return false;
+            }
+            rest.deleteCharAt(index);
+        }
+        return true;
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder s = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            s.append(random.nextInt(20) == 0 ? "é€".charAt(random.nextInt(2)) : (char) ('A' + random.nextInt(4)));
+        }
+        return s.toString();
+    }
+
+    @Test
+    void shouldReturnWindowOfBufferWithArrayOffset() {
+        byte[] bytes = "xxxxADOBECODEBANCyy".getBytes(StandardCharsets.ISO_8859_1);
+        ByteBuffer s = ByteBuffer.wrap(bytes, 4, 13).slice(); // arrayOffset = 4
+        ByteBuffer t = ByteBuffer.wrap("ABC".getBytes(StandardCharsets.ISO_8859_1));
+        ByteBuffer window = MinimumWindowSubstring.minWindow(s, t);
+        byte[] found = new byte[window.remaining()];
+        window.get(found);
+        assertEquals("BANC", new String(found, StandardCharsets.ISO_8859_1));
+    }
 }
@@ -2,6 +2,8 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
 
 class Test15_LongestPalindromicSubstringTest {
 
@@ -11,4 +13,72 @@ class Test15_LongestPalindromicSubstringTest {
         String result = LongestPalindromicSubstring.longestPalindrome(s);
         assertTrue("bab".equals(result) || "aba".equals(result));
     }
+
+    @Test
+    void shouldMatchExpandAroundCenterOnRandomStrings() {
+        Random random = new Random(15);
+        for (int round = 0; round < 1000; round++) {
+            String s = randomString(random, random.nextInt(40), 1 + random.nextInt(3));
+            String result = LongestPalindromicSubstring.longestPalindrome(s);
+            assertEquals(expandAroundCenter(s).length(), result.length());
+            assertTrue(s.contains(result));
+            assertEquals(new StringBuilder(result).reverse().toString(), result);
+
+            PalindromeIndex index = PalindromeIndex.of(s);
+            for (int from = 0; from <= s.length(); from++) {
+                for (int to = from; to <= s.length(); to++) {
+                    String sub = s.substring(from, to);
+                    assertEquals(new StringBuilder(sub).reverse().toString().equals(sub), index.isPalindrome(from, to));
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldIndexBytesLikeChars() {
+        Random random = new Random(1515);
+        String dna = randomString(random, 100_000, 4).replace('a', 'A').replace('b', 'C').replace('c', 'G')
+                .replace('d', 'T');
+        PalindromeIndex chars = PalindromeIndex.of(dna);
+        PalindromeIndex bytes = PalindromeIndex.of(dna.getBytes(StandardCharsets.US_ASCII));
+        assertEquals(chars.longestStart(), bytes.longestStart());
+        assertEquals(chars.longestLength(), bytes.longestLength());
+        assertEquals(chars.count(), bytes.count());
+        for (int c = 0; c <= 2 * dna.length(); c++) {
+            assertEquals(chars.radius(c), bytes.radius(c));
+        }
+        assertEquals(expandAroundCenter(dna), LongestPalindromicSubstring.longestPalindrome(dna));
+
+        assertEquals("", LongestPalindromicSubstring.longestPalindrome(""));
+        assertTrue(PalindromeIndex.of("").isPalindrome(0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> PalindromeIndex.of("ab").isPalindrome(1, 3));
+    }
+
+    // Letras de un alfabeto de tamaño alphabet: 'a', 'b', ...
+    private static String randomString(Random random, int length, int alphabet) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(alphabet));
+        }
+        return new String(chars);
+    }
+
+    // Versión de referencia O(n²); con empates se queda con el de centro más a la izquierda
+    private static String expandAroundCenter(String s) {
+        int bestStart = 0;
+        int bestLength = 0;
+        for (int center = 0; center < 2 * s.length() - 1; center++) {
+            int left = center / 2;
+            int right = left + center % 2;
+            while (left >= 0 && right < s.length() && s.charAt(left) == s.charAt(right)) {
+                left--;
+                right++;
+            }
+            if (right - left - 1 > bestLength) {
+                bestStart = left + 1;
+                bestLength = right - left - 1;
+            }
+        }
+        return s.substring(bestStart, bestStart + bestLength);
+    }
 }
@@ -2,6 +2,10 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Random;
 import java.util.Arrays;
 import java.util.List;
 
@@ -14,4 +18,52 @@ class Test16_FindAllAnagramsInStringTest {
         List<Integer> expected = Arrays.asList(0, 6);
         assertEquals(expected, FindAllAnagramsInString.findAnagrams(s, p));
     }
+
+    @Test
+    void shouldMatchWindowSortingOnRandomStrings() {
+        Random random = new Random(16);
+        for (int round = 0; round < 1000; round++) {
+            String s = randomString(random, random.nextInt(40));
+            String p = randomString(random, 1 + random.nextInt(5));
+            List<Integer> expected = new ArrayList<>();
+            char[] sortedP = p.toCharArray();
+            Arrays.sort(sortedP);
+            for (int start = 0; start + p.length() <= s.length(); start++) {
+                char[] window = s.substring(start, start + p.length()).toCharArray();
+                Arrays.sort(window);
+                if (Arrays.equals(sortedP, window)) {
+                    expected.add(start);
+                }
+            }
+            assertEquals(expected, FindAllAnagramsInString.findAnagrams(s, p));
+            if (s.indexOf('€') < 0 && p.indexOf('€') < 0) {
+                int[] starts = FindAllAnagramsInString.findAnagrams(
+                        ByteBuffer.wrap(s.getBytes(StandardCharsets.ISO_8859_1)),
+                        ByteBuffer.wrap(p.getBytes(StandardCharsets.ISO_8859_1)));
+                assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), starts);
+            }
+        }
+        assertEquals(List.of(), FindAllAnagramsInString.findAnagrams("ab", "abc"));
+        assertEquals(List.of(0, 1, 2), FindAllAnagramsInString.findAnagrams("ab", ""));
+    }
+
+    // Minúsculas casi siempre; a veces caracteres fuera de a-z, y fuera de Latin-1 para la ventana de char
+    private static String randomString(Random random, int length) {
+        StringBuilder s = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            s.append(random.nextInt(20) == 0 ? "ÁB€".charAt(random.nextInt(3)) : (char) ('a' + random.nextInt(3)));
+        }
+        return s.toString();
+    }
+
+    @Test
+    void shouldReturnPositionsRelativeToBufferWithArrayOffset() {
+        byte[] bytes = "xxcbaebabacdyy".getBytes(StandardCharsets.ISO_8859_1);
+        ByteBuffer s = ByteBuffer.wrap(bytes, 2, 10).slice(); // arrayOffset = 2
+        ByteBuffer p = ByteBuffer.wrap("abc".getBytes(StandardCharsets.ISO_8859_1));
+        assertArrayEquals(new int[] { 0, 6 }, FindAllAnagramsInString.findAnagrams(s, p));
+        // Con posición distinta de cero, relativas a la posición
+        ByteBuffer shifted = ByteBuffer.wrap(bytes, 1, 11).slice().position(1);
+        assertArrayEquals(new int[] { 0, 6 }, FindAllAnagramsInString.findAnagrams(shifted, p));
+    }
 }
@@ -4,6 +4,16 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.Arrays;
 import java.util.List;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Random;
 
 class Test17_EncodeAndDecodeStringsTest {
 
@@ -14,4 +24,113 @@ class Test17_EncodeAndDecodeStringsTest {
         List<String> decoded = EncodeAndDecodeStrings.decode(encoded);
         assertEquals(input, decoded);
     }
+
+    @Test
+    void shouldKeepReadmeFormatWithDelimitersInside() {
+        assertEquals("5#Hello5#World", EncodeAndDecodeStrings.encode(Arrays.asList("Hello", "World")));
+        List<String> tricky = Arrays.asList("", "3#a", "##", "12#");
+        assertEquals(tricky, EncodeAndDecodeStrings.decode(EncodeAndDecodeStrings.encode(tricky)));
+    }
+
+    @Test
+    void shouldEncodeFramesAsVarintPrefixedUtf8() {
+        ByteBuffer out = ByteBuffer.allocate(64);
+        StringFrameCodec.Encoder encoder = new StringFrameCodec.Encoder();
+        assertTrue(encoder.encode("añ€😀", out));
+        assertTrue(encoder.encode("\uD800", out)); // Surrogate suelto
+        byte[] expected = "añ€😀".getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected.length, StringFrameCodec.utf8Length("añ€😀"));
+        assertEquals(expected.length + 3, out.position());
+        assertEquals(expected.length, out.get(0));
+        assertArrayEquals(expected, Arrays.copyOfRange(out.array(), 1, 1 + expected.length));
+        assertEquals('?', out.get(expected.length + 2));
+    }
+
+    @Test
+    void shouldRoundTripFramesSplitAcrossSmallBuffers() {
+        Random random = new Random(17);
+        List<String> input = randomStrings(random, 500);
+        for (int capacity : new int[] { StringFrameCodec.MIN_BUFFER_SIZE, 7, 64, 4096 }) {
+            // Cada buffer lleno se decodifica en cuanto se llena, como en un bucle sobre un socket
+            List<String> decoded = new ArrayList<>();
+            StringFrameCodec.Encoder encoder = new StringFrameCodec.Encoder();
+            StringFrameCodec.Decoder decoder = new StringFrameCodec.Decoder();
+            ByteBuffer buffer = capacity % 2 == 0 ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+            for (String s : input) {
+                while (!encoder.encode(s, buffer)) {
+                    decoder.decode(buffer.flip(), frame -> decoded.add(frame.toString()));
+                    buffer.clear();
+                }
+            }
+            decoder.decode(buffer.flip(), frame -> decoded.add(frame.toString()));
+            assertFalse(decoder.hasPartialFrame());
+            assertEquals(input, decoded, "capacity=" + capacity);
+        }
+    }
+
+    @Test
+    void shouldExposeFramesAsLazyCharSequenceViews() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        StringFrameCodec.Encoder encoder = new StringFrameCodec.Encoder();
+        encoder.encode("Hello", buffer);
+        encoder.encode("señal", buffer);
+        List<String> checks = new ArrayList<>();
+        new StringFrameCodec.Decoder().decode(buffer.flip(), frame -> checks.add(frame.length() + ":"
+                + frame.charAt(1) + ":" + frame.subSequence(1, 3) + ":" + frame));
+        assertEquals(Arrays.asList("5:e:el:Hello", "5:e:eñ:señal"), checks);
+    }
+
+    @Test
+    void shouldRoundTripThroughChannels() throws IOException {
+        Random random = new Random(1717);
+        List<String> input = randomStrings(random, 20_000);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        EncodeAndDecodeStrings.encode(input, Channels.newChannel(bytes));
+
+        InputStream trickle = new ByteArrayInputStream(bytes.toByteArray()) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 13));
+            }
+        };
+        assertEquals(input, EncodeAndDecodeStrings.decode(Channels.newChannel(trickle)));
+
+        byte[] truncated = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 1);
+        assertThrows(EOFException.class,
+                () -> EncodeAndDecodeStrings.decode(Channels.newChannel(new ByteArrayInputStream(truncated))));
+    }
+
+    @Test
+    void shouldRejectFramesLongerThanTheMaximumWhenReadingThePrefix() throws IOException {
+        // Prefijo de Integer.MAX_VALUE bytes sin contenido: se rechaza sin reservar el buffer
+        ByteBuffer hostile = ByteBuffer.wrap(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 7 });
+        StringFrameCodec.Decoder decoder = new StringFrameCodec.Decoder();
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(hostile, frame -> fail("sin frames")));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        StringFrameCodec.write(List.of("hi", "hello"), Channels.newChannel(bytes));
+        List<String> frames = new ArrayList<>();
+        assertThrows(IllegalArgumentException.class, () -> StringFrameCodec.read(
+                Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), f -> frames.add(f.toString()), 4));
+        assertEquals(List.of("hi"), frames);
+        assertEquals(2, StringFrameCodec.read(
+                Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), f -> { }, 5));
+        assertThrows(IllegalArgumentException.class, () -> new StringFrameCodec.Decoder(-1));
+    }
+
+    private static List<String> randomStrings(Random random, int count) {
+        String alphabet = "ab#1 ñ€😀";
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder sb = new StringBuilder();
+            // Algunos strings largos para que el prefijo ocupe más de un byte
+            int length = random.nextInt(20) == 0 ? 200 + random.nextInt(300) : random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                int at = alphabet.offsetByCodePoints(0, random.nextInt(alphabet.codePointCount(0, alphabet.length())));
+                sb.appendCodePoint(alphabet.codePointAt(at));
+            }
+            strings.add(sb.toString());
+        }
+        return strings;
+    }
 }
@@ -2,6 +2,11 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
 class Test18_WordPatternTest {
 
@@ -18,4 +23,54 @@ class Test18_WordPatternTest {
         String s = "dog cat cat fish";
         assertFalse(WordPattern.wordPattern(pattern, s));
     }
+
+    @Test
+    void shouldMatchBidirectionalMapsOnRandomPatternsAndSentences() {
+        Random random = new Random(18);
+        String[] patterns = new String[300];
+        for (int p = 0; p < patterns.length; p++) {
+            StringBuilder pattern = new StringBuilder();
+            for (int i = random.nextInt(6); i > 0; i--) {
+                pattern.append((char) ('a' + random.nextInt(3)));
+            }
+            patterns[p] = pattern.toString();
+        }
+        WordPatternIndex index = new WordPatternIndex(patterns);
+        assertEquals(patterns.length, index.size());
+        for (int round = 0; round < 500; round++) {
+            StringBuilder sentence = new StringBuilder(random.nextBoolean() ? "" : " ");
+            for (int i = random.nextInt(6); i > 0; i--) {
+                sentence.append(new String[] { "dog", "cat", "do", "g" }[random.nextInt(4)]);
+                sentence.append(random.nextInt(5) == 0 ? "  " : " ");
+            }
+            String s = sentence.toString();
+            List<Integer> expected = new ArrayList<>();
+            for (int p = 0; p < patterns.length; p++) {
+                boolean follows = follows(patterns[p], s);
+                if (follows) {
+                    expected.add(p);
+                }
+                assertEquals(follows, WordPattern.wordPattern(patterns[p], s));
+            }
+            assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), index.match(s));
+        }
+    }
+
+    // Versión de dos mapas, con las palabras separadas por uno o más espacios
+    private static boolean follows(String pattern, String s) {
+        String[] words = s.trim().isEmpty() ? new String[0] : s.trim().split(" +");
+        if (words.length != pattern.length()) {
+            return false;
+        }
+        Map<Character, String> toWord = new HashMap<>();
+        Map<String, Character> toChar = new HashMap<>();
+        for (int i = 0; i < words.length; i++) {
+            String word = toWord.putIfAbsent(pattern.charAt(i), words[i]);
+            Character c = toChar.putIfAbsent(words[i], pattern.charAt(i));
+            if ((word != null && !word.equals(words[i])) || (c != null && c != pattern.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
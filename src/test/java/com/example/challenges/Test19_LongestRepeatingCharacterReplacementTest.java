@@ -2,6 +2,9 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
 
 class Test19_LongestRepeatingCharacterReplacementTest {
 
@@ -11,4 +14,35 @@ class Test19_LongestRepeatingCharacterReplacementTest {
         int k = 1;
         assertEquals(4, LongestRepeatingCharacterReplacement.characterReplacement(s, k));
     }
+
+    @Test
+    void shouldMatchBruteForceOnRandomStringsAndBuffers() {
+        Random random = new Random(19);
+        for (int round = 0; round < 1000; round++) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = random.nextInt(30); i > 0; i--) {
+                builder.append(random.nextInt(20) == 0 ? '€' : (char) ('A' + random.nextInt(3)));
+            }
+            String s = builder.toString();
+            int k = random.nextInt(4);
+            int expected = 0;
+            for (int from = 0; from < s.length(); from++) {
+                int[] counts = new int[Character.MAX_VALUE + 1];
+                int max = 0;
+                for (int to = from; to < s.length(); to++) {
+                    max = Math.max(max, ++counts[s.charAt(to)]);
+                    if (to - from + 1 - max <= k) {
+                        expected = Math.max(expected, to - from + 1);
+                    }
+                }
+            }
+            assertEquals(expected, LongestRepeatingCharacterReplacement.characterReplacement(s, k));
+            if (s.indexOf('€') < 0) {
+                ByteBuffer bytes = ByteBuffer.wrap(s.getBytes(StandardCharsets.ISO_8859_1));
+                assertEquals(expected, LongestRepeatingCharacterReplacement.characterReplacement(bytes, k));
+            }
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> LongestRepeatingCharacterReplacement.characterReplacement("AB", -1));
+    }
 }
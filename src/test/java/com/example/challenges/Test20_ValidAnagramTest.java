@@ -2,6 +2,8 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
 
 class Test20_ValidAnagramTest {
 
@@ -11,4 +13,44 @@ class Test20_ValidAnagramTest {
         String t = "nagaram";
         assertTrue(ValidAnagram.isAnagram(s, t));
     }
+
+    @Test
+    void shouldMatchSortedComparisonOnRandomStrings() {
+        Random random = new Random(20);
+        for (int round = 0; round < 2000; round++) {
+            String s = randomString(random, random.nextInt(25));
+            String t = random.nextBoolean() ? shuffled(s, random)
+                    : randomString(random, s.length() + random.nextInt(2));
+            char[] sortedS = s.toCharArray();
+            char[] sortedT = t.toCharArray();
+            Arrays.sort(sortedS);
+            Arrays.sort(sortedT);
+            assertEquals(Arrays.equals(sortedS, sortedT), ValidAnagram.isAnagram(s, t));
+        }
+        assertFalse(ValidAnagram.isAnagram("rat", "car"));
+        assertTrue(ValidAnagram.isAnagram("", ""));
+        // Los contadores por hilo quedan a cero después de una comparación fallida
+        assertFalse(ValidAnagram.isAnagram("aab", "abb"));
+        assertTrue(ValidAnagram.isAnagram("ab", "ba"));
+        assertTrue(ValidAnagram.isAnagram("año", "oña"));
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder s = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            s.append(random.nextInt(30) == 0 ? 'Ñ' : (char) ('a' + random.nextInt(4)));
+        }
+        return s.toString();
+    }
+
+    private static String shuffled(String s, Random random) {
+        char[] chars = s.toCharArray();
+        for (int i = chars.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            char swap = chars[i];
+            chars[i] = chars[j];
+            chars[j] = swap;
+        }
+        return new String(chars);
+    }
 }
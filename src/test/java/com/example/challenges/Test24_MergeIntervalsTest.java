@@ -3,6 +3,9 @@ package com.example.challenges;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 class Test24_MergeIntervalsTest {
 
@@ -13,4 +16,25 @@ class Test24_MergeIntervalsTest {
         int[][] expected = { { 1, 6 }, { 8, 10 }, { 15, 18 } };
         assertArrayEquals(expected, result);
     }
+
+    @Test
+    void shouldKeepMergedViewUpToDateOnIncrementalAdds() {
+        Random random = new Random(3);
+        IntervalSet set = new IntervalSet();
+        List<int[]> added = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int start = random.nextInt(1000) - 500;
+            int[] interval = { start, start + random.nextInt(20) };
+            set.add(interval);
+            added.add(interval);
+            if (i % 25 == 0) {
+                assertArrayEquals(new IntervalSet(added.toArray(new int[0][])).merged(), set.merged());
+            }
+        }
+        assertEquals(300, set.size());
+        int[][] merged = set.merged();
+        for (int i = 1; i < merged.length; i++) {
+            assertTrue(merged[i - 1][1] < merged[i][0]);
+        }
+    }
 }
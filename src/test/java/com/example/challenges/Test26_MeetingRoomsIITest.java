@@ -11,4 +11,16 @@ class Test26_MeetingRoomsIITest {
         int[][] intervals = { { 0, 30 }, { 5, 10 }, { 15, 20 } };
         assertEquals(2, MeetingRoomsII.minMeetingRooms(intervals));
     }
+
+    @Test
+    void shouldRecomputePeakOverlapAfterAdd() {
+        IntervalSet set = new IntervalSet(new int[][] { { 0, 30 }, { 5, 10 }, { 15, 20 } });
+        assertEquals(2, set.maxOverlap());
+        // Termina justo cuando empieza otra: no se solapan
+        set.add(10, 15);
+        assertEquals(2, set.maxOverlap());
+        set.add(6, 9);
+        assertEquals(3, set.maxOverlap());
+        assertEquals(0, new IntervalSet().maxOverlap());
+    }
 }
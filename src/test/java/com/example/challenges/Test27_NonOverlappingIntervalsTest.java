@@ -11,4 +11,13 @@ class Test27_NonOverlappingIntervalsTest {
         int[][] intervals = { { 1, 2 }, { 2, 3 }, { 3, 4 }, { 1, 3 } };
         assertEquals(1, NonOverlappingIntervals.eraseOverlapIntervals(intervals));
     }
+
+    @Test
+    void shouldRecomputeRemovalsAfterAdd() {
+        IntervalSet set = new IntervalSet(new int[][] { { 1, 2 }, { 2, 3 }, { 3, 4 }, { 1, 3 } });
+        assertEquals(1, set.minRemovalsToAvoidOverlap());
+        set.add(1, 100);
+        assertEquals(2, set.minRemovalsToAvoidOverlap());
+        assertEquals(2, NonOverlappingIntervals.eraseOverlapIntervals(new int[][] { { 1, 2 }, { 1, 2 }, { 1, 2 } }));
+    }
 }
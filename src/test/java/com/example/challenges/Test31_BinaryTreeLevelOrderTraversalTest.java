@@ -2,6 +2,7 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
 import java.util.List;
 import java.util.Arrays;
 
@@ -20,4 +21,60 @@ class Test31_BinaryTreeLevelOrderTraversalTest {
                 Arrays.asList(15, 7));
         assertEquals(expected, BinaryTreeLevelOrderTraversal.levelOrder(root));
     }
+
+    @Test
+    void shouldMatchPointerTraversalOnArena() {
+        Random random = new Random(31);
+        for (int round = 0; round < 300; round++) {
+            TreeNode root = randomTree(random, random.nextInt(50));
+            TreeArena arena = TreeArena.of(root);
+            List<List<Integer>> expected = BinaryTreeLevelOrderTraversal.levelOrder(root);
+            assertEquals(expected, BinaryTreeLevelOrderTraversal.levelOrder(arena));
+            // Ida y vuelta por TreeNode conserva la forma
+            assertEquals(expected, BinaryTreeLevelOrderTraversal.levelOrder(arena.toTreeNode()));
+        }
+        assertTrue(BinaryTreeLevelOrderTraversal.levelOrder(TreeArena.of(null)).isEmpty());
+        assertNull(TreeArena.of(null).toTreeNode());
+    }
+
+    @Test
+    void shouldTraverseDegenerateArenaWithoutRecursion() {
+        int depth = 1_000_000;
+        TreeArena arena = new TreeArena();
+        int node = arena.addRoot(0);
+        for (int i = 1; i < depth; i++) {
+            node = i % 2 == 0 ? arena.addLeft(node, i) : arena.addRight(node, i);
+        }
+        int[][] levels = arena.levelOrder();
+        assertEquals(depth, levels.length);
+        assertArrayEquals(new int[] { depth - 1 }, levels[depth - 1]);
+        assertEquals(depth, TreeArena.of(arena.toTreeNode()).size());
+        assertThrows(IllegalStateException.class, () -> arena.addRoot(1));
+        assertThrows(IllegalStateException.class, () -> arena.addRight(0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> arena.addLeft(depth, 1));
+    }
+
+    // Árbol de forma aleatoria: cada nodo nuevo se cuelga de un hueco libre al azar
+    private static TreeNode randomTree(Random random, int n) {
+        if (n == 0) {
+            return null;
+        }
+        TreeNode[] nodes = new TreeNode[n];
+        nodes[0] = new TreeNode(random.nextInt(100));
+        for (int i = 1; i < n; i++) {
+            nodes[i] = new TreeNode(random.nextInt(100));
+            while (true) {
+                TreeNode parent = nodes[random.nextInt(i)];
+                if (random.nextBoolean() && parent.left == null) {
+                    parent.left = nodes[i];
+                    break;
+                }
+                if (parent.right == null) {
+                    parent.right = nodes[i];
+                    break;
+                }
+            }
+        }
+        return nodes[0];
+    }
 }
@@ -2,6 +2,9 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 class Test32_ValidateBinarySearchTreeTest {
 
@@ -22,4 +25,84 @@ class Test32_ValidateBinarySearchTreeTest {
         root.right.right = new TreeNode(6);
         assertFalse(ValidateBinarySearchTree.isValidBST(root));
     }
+
+    @Test
+    void shouldMatchInorderCheckOnRandomTrees() {
+        Random random = new Random(32);
+        for (int round = 0; round < 500; round++) {
+            TreeNode root = randomBst(random, random.nextInt(30));
+            if (root != null && random.nextBoolean()) {
+                // Cambia un valor al azar para que a veces deje de ser BST
+                List<TreeNode> nodes = inorder(root, new ArrayList<>());
+                nodes.get(random.nextInt(nodes.size())).val = random.nextInt(40);
+            }
+            boolean expected = true;
+            List<TreeNode> nodes = inorder(root, new ArrayList<>());
+            for (int i = 1; i < nodes.size(); i++) {
+                expected &= nodes.get(i - 1).val < nodes.get(i).val;
+            }
+            assertEquals(expected, ValidateBinarySearchTree.isValidBST(root));
+            assertEquals(expected, ValidateBinarySearchTree.isValidBST(TreeArena.of(root)));
+        }
+    }
+
+    @Test
+    void shouldHandleExtremeValuesAndDegenerateTrees() {
+        assertTrue(ValidateBinarySearchTree.isValidBST(new TreeNode(Integer.MIN_VALUE, null,
+                new TreeNode(Integer.MAX_VALUE))));
+        assertFalse(ValidateBinarySearchTree.isValidBST(new TreeNode(Integer.MIN_VALUE,
+                new TreeNode(Integer.MIN_VALUE), null)));
+        assertTrue(ValidateBinarySearchTree.isValidBST(new TreeArena()));
+
+        // Lista de un millón de nodos hacia la derecha: la versión recursiva desbordaría la pila
+        int depth = 1_000_000;
+        TreeNode root = new TreeNode(0);
+        TreeNode node = root;
+        TreeArena arena = new TreeArena(depth);
+        int id = arena.addRoot(0);
+        for (int i = 1; i < depth; i++) {
+            node.right = new TreeNode(i);
+            node = node.right;
+            id = arena.addRight(id, i);
+        }
+        assertTrue(ValidateBinarySearchTree.isValidBST(root));
+        assertTrue(ValidateBinarySearchTree.isValidBST(arena));
+        node.right = new TreeNode(depth - 1);
+        assertFalse(ValidateBinarySearchTree.isValidBST(root));
+    }
+
+    private static TreeNode randomBst(Random random, int n) {
+        TreeNode root = null;
+        for (int i = 0; i < n; i++) {
+            int value = random.nextInt(40);
+            if (root == null) {
+                root = new TreeNode(value);
+                continue;
+            }
+            TreeNode node = root;
+            while (value != node.val) {
+                if (value < node.val) {
+                    if (node.left == null) {
+                        node.left = new TreeNode(value);
+                    }
+                    node = node.left;
+                } else {
+                    if (node.right == null) {
+                        node.right = new TreeNode(value);
+                    }
+                    node = node.right;
+                }
+            }
+        }
+        return root;
+    }
+
+    private static List<TreeNode> inorder(TreeNode node, List<TreeNode> out) {
+        if (node != null) {
+            inorder(node.left, out);
+            out.add(node);
+            inorder(node.right, out);
+        }
+        return out;
+    }
 }
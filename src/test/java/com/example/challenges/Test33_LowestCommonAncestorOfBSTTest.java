@@ -2,6 +2,9 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 class Test33_LowestCommonAncestorOfBSTTest {
 
@@ -21,4 +24,68 @@ class Test33_LowestCommonAncestorOfBSTTest {
         TreeNode result = LowestCommonAncestorOfBST.lowestCommonAncestor(root, p, q);
         assertEquals(6, result.val);
     }
+
+    @Test
+    void shouldMatchAncestorPathsOnRandomBsts() {
+        Random random = new Random(33);
+        for (int round = 0; round < 300; round++) {
+            List<TreeNode> nodes = new ArrayList<>();
+            TreeNode root = null;
+            for (int i = 0; i < 1 + random.nextInt(40); i++) {
+                root = insert(root, random.nextInt(100), nodes);
+            }
+            TreeArena arena = TreeArena.of(root);
+            for (int query = 0; query < 20; query++) {
+                TreeNode p = nodes.get(random.nextInt(nodes.size()));
+                TreeNode q = nodes.get(random.nextInt(nodes.size()));
+                // Oráculo: el último nodo común de los caminos desde la raíz
+                List<TreeNode> pathP = path(root, p.val);
+                List<TreeNode> pathQ = path(root, q.val);
+                int common = 0;
+                while (common < Math.min(pathP.size(), pathQ.size()) && pathP.get(common) == pathQ.get(common)) {
+                    common++;
+                }
+                TreeNode expected = pathP.get(common - 1);
+                assertSame(expected, LowestCommonAncestorOfBST.lowestCommonAncestor(root, p, q));
+
+                int ancestor = LowestCommonAncestorOfBST.lowestCommonAncestor(arena, idOf(arena, p.val),
+                        idOf(arena, q.val));
+                assertEquals(expected.val, arena.val(ancestor));
+            }
+        }
+    }
+
+    private static TreeNode insert(TreeNode root, int value, List<TreeNode> nodes) {
+        if (root == null) {
+            TreeNode node = new TreeNode(value);
+            nodes.add(node);
+            return node;
+        }
+        if (value < root.val) {
+            root.left = insert(root.left, value, nodes);
+        } else if (value > root.val) {
+            root.right = insert(root.right, value, nodes);
+        }
+        return root;
+    }
+
+    private static int idOf(TreeArena arena, int value) {
+        for (int id = 0; id < arena.size(); id++) {
+            if (arena.val(id) == value) {
+                return id;
+            }
+        }
+        throw new AssertionError("No está el valor " + value);
+    }
+
+    private static List<TreeNode> path(TreeNode root, int value) {
+        List<TreeNode> path = new ArrayList<>();
+        for (TreeNode node = root; node != null; node = value < node.val ? node.left : node.right) {
+            path.add(node);
+            if (node.val == value) {
+                break;
+            }
+        }
+        return path;
+    }
 }
@@ -2,6 +2,17 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Random;
 
 class Test34_SerializeAndDeserializeBinaryTreeTest {
 
@@ -23,4 +34,113 @@ class Test34_SerializeAndDeserializeBinaryTreeTest {
         assertEquals(4, deserialized.right.left.val);
         assertEquals(5, deserialized.right.right.val);
     }
+
+    @Test
+    void shouldKeepReadmeStringFormat() {
+        TreeNode root = new TreeNode(1, new TreeNode(2), new TreeNode(3, new TreeNode(4), new TreeNode(5)));
+        SerializeAndDeserializeBinaryTree codec = new SerializeAndDeserializeBinaryTree();
+        assertEquals("1,2,null,null,3,4,null,null,5,null,null", codec.serialize(root));
+        assertNull(codec.deserialize(codec.serialize(null)));
+    }
+
+    @Test
+    void shouldRoundTripRandomTreesThroughByteBuffer() {
+        Random random = new Random(34);
+        for (int round = 0; round < 200; round++) {
+            TreeNode root = randomTree(random, random.nextInt(300));
+            long size = BinaryTreeCodec.encodedSize(root);
+            ByteBuffer buffer = round % 2 == 0 ? ByteBuffer.allocate((int) size + 3)
+                    : ByteBuffer.allocateDirect((int) size + 3);
+            buffer.put((byte) 7); // El codec escribe a partir de la posición actual
+            BinaryTreeCodec.write(root, buffer);
+            assertEquals(size + 1, buffer.position());
+            buffer.flip().get();
+            assertTreeEquals(root, BinaryTreeCodec.read(buffer));
+            assertEquals(size + 1, buffer.position());
+        }
+    }
+
+    @Test
+    void shouldRoundTripThroughChannelsWithSplitReads() throws IOException {
+        Random random = new Random(3434);
+        TreeNode root = randomTree(random, 50_000);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryTreeCodec.write(root, Channels.newChannel(bytes));
+        assertEquals(BinaryTreeCodec.encodedSize(root), bytes.size());
+
+        // Lecturas de pocos bytes: los grupos y los varints quedan partidos entre bloques
+        InputStream trickle = new ByteArrayInputStream(bytes.toByteArray()) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 7));
+            }
+        };
+        assertTreeEquals(root, BinaryTreeCodec.read(Channels.newChannel(trickle)));
+
+        byte[] truncated = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 3);
+        assertThrows(EOFException.class,
+                () -> BinaryTreeCodec.read(Channels.newChannel(new ByteArrayInputStream(truncated))));
+    }
+
+    @Test
+    void shouldHandleDegenerateTreesWithoutRecursion() {
+        TreeNode root = new TreeNode(Integer.MIN_VALUE);
+        TreeNode node = root;
+        for (int i = 1; i < 500_000; i++) {
+            TreeNode next = new TreeNode(i % 2 == 0 ? Integer.MAX_VALUE : -i);
+            if (i % 3 == 0) {
+                node.left = next;
+            } else {
+                node.right = next;
+            }
+            node = next;
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) BinaryTreeCodec.encodedSize(root));
+        BinaryTreeCodec.write(root, buffer);
+        assertFalse(buffer.hasRemaining());
+        assertTreeEquals(root, BinaryTreeCodec.read(buffer.flip()));
+
+        ByteBuffer empty = ByteBuffer.allocate(1);
+        BinaryTreeCodec.write(null, empty);
+        assertNull(BinaryTreeCodec.read(empty.flip()));
+    }
+
+    // Árbol aleatorio de n nodos: cada nodo nuevo cuelga de un hueco libre elegido al azar
+    private static TreeNode randomTree(Random random, int n) {
+        if (n == 0) {
+            return null;
+        }
+        TreeNode[] nodes = new TreeNode[n];
+        nodes[0] = new TreeNode(random.nextInt());
+        for (int i = 1; i < n; i++) {
+            nodes[i] = new TreeNode(random.nextInt(5) == 0 ? random.nextInt() : random.nextInt(200) - 100);
+            while (true) {
+                TreeNode parent = nodes[random.nextInt(i)];
+                if (random.nextBoolean() && parent.left == null) {
+                    parent.left = nodes[i];
+                    break;
+                }
+                if (parent.right == null) {
+                    parent.right = nodes[i];
+                    break;
+                }
+            }
+        }
+        return nodes[0];
+    }
+
+    private static void assertTreeEquals(TreeNode expected, TreeNode actual) {
+        Deque<TreeNode[]> pending = new ArrayDeque<>();
+        pending.push(new TreeNode[] { expected, actual });
+        while (!pending.isEmpty()) {
+            TreeNode[] pair = pending.pop();
+            if (pair[0] == null || pair[1] == null) {
+                assertSame(pair[0], pair[1]);
+                continue;
+            }
+            assertEquals(pair[0].val, pair[1].val);
+            pending.push(new TreeNode[] { pair[0].left, pair[1].left });
+            pending.push(new TreeNode[] { pair[0].right, pair[1].right });
+        }
+    }
 }
@@ -2,8 +2,16 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 class Test35_WordLadderTest {
 
@@ -14,4 +22,92 @@ class Test35_WordLadderTest {
         List<String> wordList = Arrays.asList("hot", "dot", "dog", "lot", "log", "cog");
         assertEquals(5, WordLadder.ladderLength(beginWord, endWord, wordList));
     }
+
+    @Test
+    void shouldAnswerRepeatedQueriesFromOneGraph() {
+        WordGraph graph = new WordGraph(Arrays.asList("hot", "dot", "dog", "lot", "log", "cog"));
+        assertEquals(5, graph.ladderLength("hit", "cog"));
+        assertEquals(2, graph.ladderLength("hot", "dot"));
+        assertEquals(1, graph.ladderLength("cog", "cog"));
+        assertEquals(0, graph.ladderLength("hit", "cat"));
+        assertEquals(0, graph.ladderLength("abc", "cog"));
+        assertEquals(5, graph.ladderLength("hit", "cog"));
+    }
+
+    @Test
+    void shouldShareScratchBetweenGraphsWithoutRetainingThem() {
+        WordGraph small = new WordGraph(Arrays.asList("hot", "dot", "dog", "cog"));
+        List<String> words = new ArrayList<>();
+        for (char a = 'a'; a <= 'z'; a++) {
+            for (char b = 'a'; b <= 'z'; b++) {
+                words.add("" + a + b + "xy");
+            }
+        }
+        WordGraph large = new WordGraph(words);
+        for (int round = 0; round < 3; round++) {
+            assertEquals(4, small.ladderLength("hot", "cog"));
+            assertEquals(3, large.ladderLength("abxy", "zzxy"));
+            assertEquals(0, small.ladderLength("abxy", "cog"));
+        }
+
+        // Un índice ya consultado no queda retenido por el scratch del hilo
+        WeakReference<WordGraph> reference = new WeakReference<>(large);
+        large = null;
+        for (int i = 0; i < 10 && reference.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(reference.get());
+    }
+
+    @Test
+    void shouldMatchPlainBfsOnRandomDictionaries() {
+        Random random = new Random(9);
+        for (int round = 0; round < 20; round++) {
+            Set<String> dictionary = new HashSet<>();
+            while (dictionary.size() < 150) {
+                dictionary.add(randomWord(random));
+            }
+            List<String> wordList = new ArrayList<>(dictionary);
+            WordGraph graph = new WordGraph(wordList);
+            for (int query = 0; query < 20; query++) {
+                String begin = random.nextBoolean() ? randomWord(random) : wordList.get(random.nextInt(150));
+                String end = wordList.get(random.nextInt(150));
+                assertEquals(plainBfs(begin, end, dictionary), graph.ladderLength(begin, end), begin + " -> " + end);
+            }
+        }
+    }
+
+    private static String randomWord(Random random) {
+        char[] word = new char[3];
+        for (int i = 0; i < word.length; i++) {
+            word[i] = (char) ('a' + random.nextInt(6));
+        }
+        return new String(word);
+    }
+
+    private static int plainBfs(String begin, String end, Set<String> dictionary) {
+        Map<String, Integer> distance = new HashMap<>();
+        ArrayDeque<String> queue = new ArrayDeque<>();
+        distance.put(begin, 1);
+        queue.add(begin);
+        while (!queue.isEmpty()) {
+            String word = queue.poll();
+            if (word.equals(end)) {
+                return distance.get(word);
+            }
+            for (String candidate : dictionary) {
+                int diff = 0;
+                for (int i = 0; i < word.length() && diff < 2; i++) {
+                    if (word.charAt(i) != candidate.charAt(i)) {
+                        diff++;
+                    }
+                }
+                if (diff == 1 && !distance.containsKey(candidate)) {
+                    distance.put(candidate, distance.get(word) + 1);
+                    queue.add(candidate);
+                }
+            }
+        }
+        return 0;
+    }
 }
@@ -2,6 +2,12 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 class Test36_CourseScheduleTest {
 
@@ -18,4 +24,138 @@ class Test36_CourseScheduleTest {
         int[][] prerequisites = { { 1, 0 }, { 0, 1 } };
         assertFalse(CourseSchedule.canFinish(numCourses, prerequisites));
     }
+
+    @Test
+    void shouldMatchReachabilityCheckOnRandomPrerequisites() {
+        Random random = new Random(36);
+        for (int round = 0; round < 500; round++) {
+            int n = 1 + random.nextInt(8);
+            int[][] prerequisites = new int[random.nextInt(12)][];
+            boolean[][] edge = new boolean[n][n];
+            for (int i = 0; i < prerequisites.length; i++) {
+                prerequisites[i] = new int[] { random.nextInt(n), random.nextInt(n) };
+                edge[prerequisites[i][1]][prerequisites[i][0]] = true;
+            }
+            boolean cyclic = false;
+            for (int node = 0; node < n; node++) {
+                cyclic |= reaches(edge, node, node, true);
+            }
+            assertEquals(!cyclic, CourseSchedule.canFinish(n, prerequisites));
+        }
+    }
+
+    @Test
+    void shouldKeepValidOrderWhileEdgesComeAndGo() {
+        Random random = new Random(3636);
+        for (int round = 0; round < 100; round++) {
+            int n = 2 + random.nextInt(20);
+            DependencyGraph graph = new DependencyGraph(n);
+            boolean[][] edge = new boolean[n][n];
+            for (int step = 0; step < 200; step++) {
+                int from = random.nextInt(n);
+                int to = random.nextInt(n);
+                if (random.nextInt(4) == 0) {
+                    assertEquals(edge[from][to], graph.removeEdge(from, to));
+                    edge[from][to] = false;
+                } else {
+                    // Se acepta salvo que to ya llegue a from (o sea un lazo)
+                    boolean closesCycle = !edge[from][to] && (from == to || reaches(edge, to, from, false));
+                    assertEquals(!closesCycle, graph.addEdge(from, to));
+                    edge[from][to] |= !closesCycle;
+                }
+                assertValidOrder(graph, edge);
+            }
+            assertWavesAreLongestPathDepths(graph, edge);
+        }
+    }
+
+    @Test
+    void shouldBuildFromEdgesAndRunWavesInOrder() {
+        // 0 -> 1 -> 3, 0 -> 2 -> 3, 4 suelto
+        DependencyGraph graph = new DependencyGraph(5, new int[][] { { 0, 1 }, { 1, 3 }, { 0, 2 }, { 2, 3 } });
+        int[][] waves = graph.waves();
+        assertEquals(3, waves.length);
+        assertEquals(Set.of(0, 4), Set.of(waves[0][0], waves[0][1]));
+        assertFalse(graph.addEdge(3, 0));
+        assertThrows(IllegalArgumentException.class, () -> new DependencyGraph(2, new int[][] { { 0, 1 }, { 1, 0 } }));
+
+        AtomicIntegerArray finishedAt = new AtomicIntegerArray(5);
+        int[] clock = { 0 };
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            graph.runWaves(node -> {
+                synchronized (clock) {
+                    finishedAt.set(node, ++clock[0]);
+                }
+            }, executor);
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(finishedAt.get(0) < finishedAt.get(1) && finishedAt.get(0) < finishedAt.get(2));
+        assertTrue(finishedAt.get(1) < finishedAt.get(3) && finishedAt.get(2) < finishedAt.get(3));
+    }
+
+    private static void assertValidOrder(DependencyGraph graph, boolean[][] edge) {
+        int[] order = graph.order();
+        int[] position = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            position[order[i]] = i;
+            assertEquals(i, graph.position(order[i]));
+        }
+        for (int from = 0; from < edge.length; from++) {
+            for (int to = 0; to < edge.length; to++) {
+                assertEquals(edge[from][to], graph.hasEdge(from, to));
+                if (edge[from][to]) {
+                    assertTrue(position[from] < position[to]);
+                }
+            }
+        }
+    }
+
+    private static void assertWavesAreLongestPathDepths(DependencyGraph graph, boolean[][] edge) {
+        int n = edge.length;
+        int[] depth = new int[n];
+        // Relajación de Bellman-Ford para el camino más largo en un DAG
+        for (int pass = 0; pass < n; pass++) {
+            for (int from = 0; from < n; from++) {
+                for (int to = 0; to < n; to++) {
+                    if (edge[from][to]) {
+                        depth[to] = Math.max(depth[to], depth[from] + 1);
+                    }
+                }
+            }
+        }
+        int[][] waves = graph.waves();
+        int seen = 0;
+        for (int d = 0; d < waves.length; d++) {
+            for (int node : waves[d]) {
+                assertEquals(depth[node], d);
+                seen++;
+            }
+        }
+        assertEquals(n, seen);
+    }
+
+    // ¿Hay camino de from a to? Con atLeastOneStep el camino vacío no cuenta
+    private static boolean reaches(boolean[][] edge, int from, int to, boolean atLeastOneStep) {
+        if (!atLeastOneStep && from == to) {
+            return true;
+        }
+        boolean[] seen = new boolean[edge.length];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(from);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int next = 0; next < edge.length; next++) {
+                if (edge[node][next] && !seen[next]) {
+                    if (next == to) {
+                        return true;
+                    }
+                    seen[next] = true;
+                    queue.add(next);
+                }
+            }
+        }
+        return false;
+    }
 }
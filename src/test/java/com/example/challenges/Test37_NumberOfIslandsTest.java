@@ -2,6 +2,9 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
 
 class Test37_NumberOfIslandsTest {
 
@@ -15,4 +18,114 @@ class Test37_NumberOfIslandsTest {
         };
         assertEquals(3, NumberOfIslands.numIslands(grid));
     }
+
+    @Test
+    void shouldMatchFloodFillOnRandomGrids() {
+        Random random = new Random(37);
+        for (int round = 0; round < 300; round++) {
+            char[][] grid = randomGrid(random, 1 + random.nextInt(20), 1 + random.nextInt(20), random.nextDouble());
+            assertEquals(floodFill(grid), NumberOfIslands.numIslands(grid));
+        }
+        assertEquals(0, NumberOfIslands.numIslands(new char[0][]));
+    }
+
+    @Test
+    void shouldCountIslandsIncrementally() {
+        Random random = new Random(3737);
+        for (int round = 0; round < 50; round++) {
+            int rows = 1 + random.nextInt(15);
+            int cols = 1 + random.nextInt(15);
+            char[][] grid = randomGrid(random, rows, cols, 0);
+            IslandCounter counter = new IslandCounter(rows, cols);
+            for (int step = 0; step < rows * cols; step++) {
+                int r = random.nextInt(rows);
+                int c = random.nextInt(cols);
+                grid[r][c] = '1';
+                assertEquals(floodFill(grid), counter.addLand(r, c));
+            }
+        }
+        IslandCounter counter = new IslandCounter(3, 3);
+        assertEquals(1, counter.addLand(0, 0));
+        assertEquals(2, counter.addLand(0, 2));
+        assertEquals(1, counter.addLand(0, 1));
+        assertEquals(1, counter.addLand(0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> counter.addLand(3, 0));
+    }
+
+    @Test
+    void shouldHandleSerpentineIslandWithoutRecursion() {
+        // Una sola isla en zigzag de ~2·10^6 celdas: un DFS recursivo desbordaría la pila
+        int rows = 2001;
+        int cols = 2000;
+        char[][] grid = randomGrid(new Random(), rows, cols, 0);
+        for (int r = 0; r < rows; r += 2) {
+            Arrays.fill(grid[r], '1');
+            if (r + 1 < rows) {
+                grid[r + 1][(r / 2) % 2 == 0 ? cols - 1 : 0] = '1';
+            }
+        }
+        assertEquals(1, NumberOfIslands.numIslands(grid));
+    }
+
+    @Test
+    void shouldCountBitPackedGridsInParallelBands() {
+        Random random = new Random(373737);
+        for (int round = 0; round < 300; round++) {
+            // Anchos que cruzan palabras de 64 bits, con tramos que siguen de una palabra a la siguiente
+            char[][] grid = randomGrid(random, 1 + random.nextInt(40), 1 + random.nextInt(200),
+                    0.3 + 0.6 * random.nextDouble());
+            BitGrid bits = BitGrid.of(grid);
+            long expected = floodFill(grid);
+            assertEquals(expected, NumberOfIslands.numIslands(bits));
+            assertEquals(expected, BitGridIslands.count(bits, 1 + random.nextInt(3), 1 + random.nextInt(12)));
+        }
+        BitGrid bits = new BitGrid(3, 130);
+        bits.set(1, 63, true);
+        bits.set(1, 64, true);
+        bits.set(2, 129, true);
+        assertTrue(bits.get(1, 64));
+        assertEquals(2, NumberOfIslands.numIslands(bits, 4));
+        assertThrows(IllegalArgumentException.class, () -> NumberOfIslands.numIslands(bits, 0));
+    }
+
+    private static char[][] randomGrid(Random random, int rows, int cols, double landRatio) {
+        char[][] grid = new char[rows][cols];
+        for (char[] row : grid) {
+            for (int c = 0; c < cols; c++) {
+                row[c] = random.nextDouble() < landRatio ? '1' : '0';
+            }
+        }
+        return grid;
+    }
+
+    private static int floodFill(char[][] grid) {
+        int rows = grid.length;
+        int cols = grid[0].length;
+        boolean[][] seen = new boolean[rows][cols];
+        int islands = 0;
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (grid[r][c] != '1' || seen[r][c]) {
+                    continue;
+                }
+                islands++;
+                seen[r][c] = true;
+                queue.add(new int[] { r, c });
+                while (!queue.isEmpty()) {
+                    int[] cell = queue.poll();
+                    int[][] next = { { cell[0] + 1, cell[1] }, { cell[0] - 1, cell[1] }, { cell[0], cell[1] + 1 },
+                            { cell[0], cell[1] - 1 } };
+                    for (int[] n : next) {
+                        if (n[0] >= 0 && n[0] < rows && n[1] >= 0 && n[1] < cols && grid[n[0]][n[1]] == '1'
+                                && !seen[n[0]][n[1]]) {
+                            seen[n[0]][n[1]] = true;
+                            queue.add(n);
+                        }
+                    }
+                }
+            }
+        }
+        return islands;
+    }
 }
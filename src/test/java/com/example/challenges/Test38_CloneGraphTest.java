@@ -2,17 +2,156 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 class Test38_CloneGraphTest {
 
     @Test
     void shouldCloneGraph() {
-        // Assuming Node class exists
-        // Node node1 = new Node(1);
-        // ... build graph
-        // Node cloned = CloneGraph.cloneGraph(node1);
-        // assertNotNull(cloned);
-        // assertEquals(1, cloned.val);
-        assertTrue(true); // Placeholder
+        Node[] nodes = { new Node(1), new Node(2), new Node(3), new Node(4) };
+        int[][] adjList = { { 2, 4 }, { 1, 3 }, { 2, 4 }, { 1, 3 } };
+        for (int i = 0; i < 4; i++) {
+            for (int neighbor : adjList[i]) {
+                nodes[i].neighbors.add(nodes[neighbor - 1]);
+            }
+        }
+        Node cloned = CloneGraph.cloneGraph(nodes[0]);
+        assertNotNull(cloned);
+        assertNotSame(nodes[0], cloned);
+        assertEquals(1, cloned.val);
+        assertEquals(List.of(2, 4), List.of(cloned.neighbors.get(0).val, cloned.neighbors.get(1).val));
+        // El 3 se alcanza por los dos lados y tiene que ser el mismo clon
+        assertSame(cloned.neighbors.get(0).neighbors.get(1), cloned.neighbors.get(1).neighbors.get(1));
+        assertSame(cloned, cloned.neighbors.get(0).neighbors.get(0));
+        assertDeepCopy(nodes[0], cloned);
+    }
+
+    @Test
+    void shouldHandleNullAndSingleNode() {
+        assertNull(CloneGraph.cloneGraph(null));
+        assertNull(CloneGraph.cloneGraph(null, 4));
+        assertEquals(0, CloneGraph.flatten(null).size());
+        Node single = new Node(7);
+        Node cloned = CloneGraph.cloneGraph(single);
+        assertEquals(7, cloned.val);
+        assertTrue(cloned.neighbors.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> CloneGraph.cloneGraph(single, 0));
+    }
+
+    @Test
+    void shouldCloneRandomGraphsWithSelfLoopsAndRepeatedNeighbors() {
+        Random random = new Random(38);
+        for (int round = 0; round < 300; round++) {
+            Node root = randomGraph(random, 1 + random.nextInt(60), random.nextInt(5));
+            assertDeepCopy(root, CloneGraph.cloneGraph(root));
+            // Umbral 0 para forzar la materialización paralela incluso en grafos pequeños
+            assertDeepCopy(root, CloneGraph.cloneGraph(root, 1 + random.nextInt(4), 0));
+        }
+    }
+
+    @Test
+    void shouldCloneLargeGraphInParallel() {
+        Node root = randomGraph(new Random(3838), 200_000, 3);
+        assertDeepCopy(root, CloneGraph.cloneGraph(root, 4, 1000));
+    }
+
+    @Test
+    void shouldFlattenInDiscoveryOrder() {
+        Random random = new Random(383);
+        for (int round = 0; round < 200; round++) {
+            Node root = randomGraph(random, 1 + random.nextInt(40), random.nextInt(4));
+            GraphSnapshot snapshot = CloneGraph.flatten(root);
+            // Oráculo: BFS con un mapa de identidad que numera en orden de descubrimiento
+            Map<Node, Integer> ids = new IdentityHashMap<>();
+            List<Node> order = new ArrayList<>();
+            ids.put(root, 0);
+            order.add(root);
+            int edges = 0;
+            for (int id = 0; id < order.size(); id++) {
+                Node node = order.get(id);
+                assertEquals(node.val, snapshot.value(id));
+                assertEquals(node.neighbors.size(), snapshot.degree(id));
+                for (int k = 0; k < node.neighbors.size(); k++) {
+                    Node neighbor = node.neighbors.get(k);
+                    if (!ids.containsKey(neighbor)) {
+                        ids.put(neighbor, order.size());
+                        order.add(neighbor);
+                    }
+                    assertEquals(ids.get(neighbor), snapshot.neighbor(id, k));
+                    edges++;
+                }
+            }
+            assertEquals(order.size(), snapshot.size());
+            assertEquals(edges, snapshot.edgeCount());
+        }
+    }
+
+    /**
+     * Grafo conexo de {@code n} nodos: un árbol aleatorio no dirigido más {@code extra} aristas por nodo, que pueden
+     * ser lazos o repetir vecinos.
+     */
+    private static Node randomGraph(Random random, int n, int extra) {
+        Node[] nodes = new Node[n];
+        for (int i = 0; i < n; i++) {
+            nodes[i] = new Node(random.nextInt(1000) - 500);
+        }
+        for (int i = 1; i < n; i++) {
+            connect(nodes[i], nodes[random.nextInt(i)]);
+        }
+        for (int i = 0; i < n * extra / 2; i++) {
+            connect(nodes[random.nextInt(n)], nodes[random.nextInt(n)]);
+        }
+        for (Node node : nodes) {
+            Collections.shuffle(node.neighbors, random);
+        }
+        return nodes[random.nextInt(n)];
+    }
+
+    private static void connect(Node a, Node b) {
+        a.neighbors.add(b);
+        if (a != b) {
+            b.neighbors.add(a);
+        }
+    }
+
+    /**
+     * Recorre original y clon a la vez: misma forma, mismos valores, un único clon por original y ningún nodo
+     * compartido entre los dos grafos.
+     */
+    private static void assertDeepCopy(Node original, Node clone) {
+        Map<Node, Node> cloneOf = new IdentityHashMap<>();
+        Set<Node> originals = Collections.newSetFromMap(new IdentityHashMap<>());
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        cloneOf.put(original, clone);
+        queue.add(original);
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            originals.add(node);
+            Node copy = cloneOf.get(node);
+            assertEquals(node.val, copy.val);
+            assertEquals(node.neighbors.size(), copy.neighbors.size());
+            for (int k = 0; k < node.neighbors.size(); k++) {
+                Node neighbor = node.neighbors.get(k);
+                Node previous = cloneOf.putIfAbsent(neighbor, copy.neighbors.get(k));
+                if (previous == null) {
+                    queue.add(neighbor);
+                } else {
+                    assertSame(previous, copy.neighbors.get(k));
+                }
+            }
+        }
+        Set<Node> clones = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Node copy : cloneOf.values()) {
+            assertFalse(originals.contains(copy));
+            clones.add(copy);
+        }
+        assertEquals(cloneOf.size(), clones.size());
     }
 }
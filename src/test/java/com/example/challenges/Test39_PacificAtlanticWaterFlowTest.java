@@ -4,6 +4,9 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.List;
 import java.util.Arrays;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Random;
 
 class Test39_PacificAtlanticWaterFlowTest {
 
@@ -27,4 +30,78 @@ class Test39_PacificAtlanticWaterFlowTest {
                 Arrays.asList(4, 0));
         assertEquals(expected, result);
     }
+
+    @Test
+    void shouldMatchNaiveFloodsWithStrideAndConcurrentFloods() {
+        Random random = new Random(39);
+        int[][] shapes = { { 1, 1 }, { 1, 7 }, { 6, 1 }, { 9, 13 }, { 40, 25 }, { 300, 300 } };
+        for (int[] shape : shapes) {
+            int rows = shape[0];
+            int cols = shape[1];
+            int stride = cols + 3;
+            int[] heights = new int[rows * stride];
+            int[][] grid = new int[rows][cols];
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    grid[r][c] = random.nextInt(6);
+                    heights[r * stride + c] = grid[r][c];
+                }
+                heights[r * stride + cols] = -1; // Relleno que no debe leerse
+            }
+            BitSet expected = naive(grid);
+            assertEquals(expected, PacificAtlanticWaterFlow.pacificAtlantic(heights, rows, cols, stride));
+            assertArrayEquals(expected.stream().toArray(),
+                    PacificAtlanticWaterFlow.pacificAtlanticCells(heights, rows, cols, stride));
+            // Los dos floods a la vez, aunque el mapa no llegue al umbral
+            assertEquals(expected, BitSet.valueOf(PacificAtlanticWaterFlow.reachBoth(heights, rows, cols, stride,
+                    true)));
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> PacificAtlanticWaterFlow.pacificAtlantic(new int[5], 2, 3, 3));
+    }
+
+    private static BitSet naive(int[][] grid) {
+        int rows = grid.length;
+        int cols = grid[0].length;
+        boolean[][] pacific = new boolean[rows][cols];
+        boolean[][] atlantic = new boolean[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                pacific[r][c] = r == 0 || c == 0;
+                atlantic[r][c] = r == rows - 1 || c == cols - 1;
+            }
+        }
+        for (boolean[][] ocean : new boolean[][][] { pacific, atlantic }) {
+            ArrayDeque<int[]> queue = new ArrayDeque<>();
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    if (ocean[r][c]) {
+                        queue.add(new int[] { r, c });
+                    }
+                }
+            }
+            int[][] moves = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+            while (!queue.isEmpty()) {
+                int[] cell = queue.poll();
+                for (int[] move : moves) {
+                    int r = cell[0] + move[0];
+                    int c = cell[1] + move[1];
+                    if (r >= 0 && r < rows && c >= 0 && c < cols && !ocean[r][c]
+                            && grid[r][c] >= grid[cell[0]][cell[1]]) {
+                        ocean[r][c] = true;
+                        queue.add(new int[] { r, c });
+                    }
+                }
+            }
+        }
+        BitSet both = new BitSet();
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (pacific[r][c] && atlantic[r][c]) {
+                    both.set(r * cols + c);
+                }
+            }
+        }
+        return both;
+    }
 }
@@ -2,6 +2,10 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 class Test40_GraphValidTreeTest {
 
@@ -18,4 +22,62 @@ class Test40_GraphValidTreeTest {
         int[][] edges = { { 0, 1 }, { 1, 2 }, { 2, 3 }, { 1, 3 }, { 1, 4 } };
         assertFalse(GraphValidTree.validTree(n, edges));
     }
+
+    @Test
+    void shouldMatchBfsCheckOnRandomGraphs() {
+        Random random = new Random(40);
+        for (int round = 0; round < 500; round++) {
+            int n = 1 + random.nextInt(10);
+            // n - 2, n - 1 o n aristas
+            int[][] edges = new int[Math.max(0, n - 2 + random.nextInt(3))][];
+            for (int i = 0; i < edges.length; i++) {
+                edges[i] = new int[] { random.nextInt(n), random.nextInt(n) };
+            }
+            assertEquals(isTreeByBfs(n, edges), GraphValidTree.validTree(n, edges));
+        }
+    }
+
+    @Test
+    void shouldReportEachEdgeIncrementally() {
+        ConnectivityTracker tracker = new ConnectivityTracker(4);
+        assertEquals(ConnectivityTracker.Status.JOINED, tracker.addEdge(0, 1));
+        assertEquals(ConnectivityTracker.Status.JOINED, tracker.addEdge(2, 3));
+        assertFalse(tracker.isConnected());
+        assertEquals(ConnectivityTracker.Status.CONNECTED, tracker.addEdge(1, 2));
+        assertTrue(tracker.isTree());
+        assertEquals(ConnectivityTracker.Status.CYCLE, tracker.addEdge(3, 0));
+        assertTrue(tracker.hasCycle());
+        assertFalse(tracker.isTree());
+        assertEquals(1, tracker.components());
+    }
+
+    private static boolean isTreeByBfs(int n, int[][] edges) {
+        if (edges.length != n - 1) {
+            return false;
+        }
+        List<List<Integer>> adjacency = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            adjacency.add(new ArrayList<>());
+        }
+        for (int[] edge : edges) {
+            adjacency.get(edge[0]).add(edge[1]);
+            adjacency.get(edge[1]).add(edge[0]);
+        }
+        boolean[] seen = new boolean[n];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        seen[0] = true;
+        int visited = 0;
+        while (!queue.isEmpty()) {
+            visited++;
+            for (int next : adjacency.get(queue.poll())) {
+                if (!seen[next]) {
+                    seen[next] = true;
+                    queue.add(next);
+                }
+            }
+        }
+        // n - 1 aristas y conectado implica sin ciclos
+        return visited == n;
+    }
 }
@@ -18,4 +18,36 @@ class Test41_CoinChangeTest {
         int amount = 3;
         assertEquals(-1, CoinChange.coinChange(coins, amount));
     }
+
+    @Test
+    void shouldAnswerManyAmountsFromOneSolver() {
+        CoinChangeSolver solver = new CoinChangeSolver(new int[] { 5, 2, 1, 2 });
+        assertEquals(3, solver.minCoins(11));
+        assertEquals(0, solver.minCoins(0));
+        // Montos ya cubiertos por la tabla no la extienden
+        int cached = solver.cachedUpTo();
+        assertEquals(2, solver.minCoins(7));
+        assertEquals(cached, solver.cachedUpTo());
+        // Un monto mayor la extiende reutilizando lo ya calculado
+        assertEquals(21, solver.minCoins(101));
+        assertTrue(solver.cachedUpTo() >= 101);
+    }
+
+    @Test
+    void shouldAnswerBulkQueriesLikeSingleOnes() {
+        int[] coins = { 3, 7 };
+        CoinChangeSolver solver = new CoinChangeSolver(coins);
+        int[] amounts = { 1, 3, 11, 0, 6, 13, 2 };
+        int[] expected = { -1, 1, -1, 0, 2, 3, -1 };
+        assertArrayEquals(expected, solver.minCoins(amounts));
+        for (int i = 0; i < amounts.length; i++) {
+            assertEquals(expected[i], CoinChange.coinChange(coins, amounts[i]));
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidCoinsAndAmounts() {
+        assertThrows(IllegalArgumentException.class, () -> new CoinChangeSolver(new int[] { 1, 0 }));
+        assertThrows(IllegalArgumentException.class, () -> new CoinChangeSolver(new int[] { 1 }).minCoins(-1));
+    }
 }
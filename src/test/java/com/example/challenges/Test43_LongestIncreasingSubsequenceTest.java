@@ -2,6 +2,7 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
 
 class Test43_LongestIncreasingSubsequenceTest {
 
@@ -16,4 +17,60 @@ class Test43_LongestIncreasingSubsequenceTest {
         int[] nums = { 0, 1, 0, 3, 2, 3 };
         assertEquals(4, LongestIncreasingSubsequence.lengthOfLIS(nums));
     }
+
+    @Test
+    void shouldMatchQuadraticDpAndRebuildSubsequence() {
+        Random random = new Random(43);
+        for (int round = 0; round < 1000; round++) {
+            int[] nums = new int[random.nextInt(40)];
+            for (int i = 0; i < nums.length; i++) {
+                nums[i] = random.nextInt(1 + random.nextInt(30)) - 10;
+            }
+            // Oráculo O(n²): dp[i] = LIS que termina en i
+            int[] dp = new int[nums.length];
+            int best = 0;
+            for (int i = 0; i < nums.length; i++) {
+                dp[i] = 1;
+                for (int j = 0; j < i; j++) {
+                    if (nums[j] < nums[i]) {
+                        dp[i] = Math.max(dp[i], dp[j] + 1);
+                    }
+                }
+                best = Math.max(best, dp[i]);
+            }
+            assertEquals(best, LongestIncreasingSubsequence.lengthOfLIS(nums));
+            assertArrayEquals(dp, LisTracker.lengthsEndingAt(nums));
+
+            LisTracker tracker = new LisTracker(0);
+            for (int i = 0; i < nums.length; i++) {
+                assertEquals(dp[i], tracker.add(nums[i]));
+                // La subsecuencia reconstruida es válida en cualquier momento, no solo al final
+                int[] indices = tracker.indices();
+                assertEquals(tracker.length(), indices.length);
+                for (int k = 1; k < indices.length; k++) {
+                    assertTrue(indices[k - 1] < indices[k] && nums[indices[k - 1]] < nums[indices[k]]);
+                }
+            }
+            int[] subsequence = LongestIncreasingSubsequence.longestIncreasingSubsequence(nums);
+            assertEquals(best, subsequence.length);
+        }
+    }
+
+    @Test
+    void shouldTrackLongStreamOfLongIds() {
+        LisTracker tracker = new LisTracker();
+        assertEquals(0, tracker.subsequence().length);
+        // Ids crecientes con un retroceso cada 10 eventos: la LIS salta los retrocesos
+        long id = Long.MAX_VALUE - 10_000_000L;
+        for (int i = 0; i < 1_000_000; i++) {
+            tracker.add(i % 10 == 9 ? id - 5 : (id += 3));
+        }
+        assertEquals(1_000_000, tracker.size());
+        assertEquals(900_000, tracker.length());
+        long[] subsequence = tracker.subsequence();
+        for (int k = 1; k < subsequence.length; k++) {
+            assertTrue(subsequence[k - 1] < subsequence[k]);
+        }
+        assertArrayEquals(new int[] { 1, 1, 2, 1 }, LisTracker.lengthsEndingAt(new int[] { 3, 3, 4, -1 }));
+    }
 }
@@ -2,8 +2,15 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
 
 class Test47_WordBreakTest {
 
@@ -20,4 +27,91 @@ class Test47_WordBreakTest {
         List<String> wordDict = Arrays.asList("cats", "dog", "sand", "and", "cat");
         assertFalse(WordBreak.wordBreak(s, wordDict));
     }
+
+    @Test
+    void shouldMatchSubstringDpAndEnumerateAllSegmentations() {
+        Random random = new Random(47);
+        for (int round = 0; round < 500; round++) {
+            Set<String> dictionary = new TreeSet<>();
+            for (int i = 0; i < 1 + random.nextInt(8); i++) {
+                dictionary.add(randomWord(random, 1 + random.nextInt(4)));
+            }
+            WordBreakIndex index = new WordBreakIndex(new ArrayList<>(dictionary));
+            for (int query = 0; query < 10; query++) {
+                String s = randomWord(random, random.nextInt(16));
+                List<String> expected = new ArrayList<>();
+                allSegmentations(s, 0, dictionary, new ArrayList<>(), expected);
+                assertEquals(!expected.isEmpty(), index.canSegment(s));
+                assertEquals(!expected.isEmpty(), WordBreak.wordBreak(s, new ArrayList<>(dictionary)));
+
+                List<String> actual = new ArrayList<>();
+                index.segmentations(s).forEachRemaining(actual::add);
+                assertEquals(expected, actual);
+                assertEquals(expected.isEmpty() ? null : expected.get(0), index.segment(s));
+            }
+            for (String word : dictionary) {
+                assertTrue(index.contains(word));
+                assertFalse(index.contains(word + "z"));
+            }
+        }
+    }
+
+    @Test
+    void shouldBuildCompactTrieAndHandleEdgeCases() {
+        WordBreakIndex index = new WordBreakIndex(Arrays.asList("cat", "cats", "car", "", "cat", "dog"));
+        assertEquals(4, index.size());
+        assertEquals(4, index.maxWordLength());
+        // raíz, c, ca, cat, cats, car, d, do, dog
+        assertEquals(9, index.nodeCount());
+        assertFalse(index.contains("ca"));
+        assertFalse(index.contains(""));
+        assertTrue(index.canSegment(""));
+        assertEquals("", index.segment(""));
+        assertNull(index.segment("cad"));
+        assertFalse(index.segmentations("cad").hasNext());
+        assertThrows(NoSuchElementException.class, () -> index.segmentations("cad").next());
+        assertFalse(new WordBreakIndex(List.of()).canSegment("a"));
+    }
+
+    @Test
+    void shouldStreamExponentiallyManySegmentationsLazily() {
+        // "a" x 80 con {a, aa} tiene fib(81) segmentaciones: solo se generan las que se piden
+        WordBreakIndex index = new WordBreakIndex(Arrays.asList("a", "aa"));
+        String s = "a".repeat(80);
+        Iterator<String> segmentations = index.segmentations(s);
+        assertEquals(String.join(" ", Collections.nCopies(80, "a")), segmentations.next());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(s, segmentations.next().replace(" ", ""));
+        }
+        // Texto largo que no se puede segmentar por la última letra
+        String longText = "ab".repeat(500_000) + "c";
+        WordBreakIndex ab = new WordBreakIndex(Arrays.asList("a", "b", "ab", "aba"));
+        assertTrue(ab.canSegment(longText.substring(0, longText.length() - 1)));
+        assertFalse(ab.canSegment(longText));
+        assertNull(ab.segment(longText));
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(3)));
+        }
+        return word.toString();
+    }
+
+    // Oráculo: backtracking sobre todos los prefijos, en orden de longitud de la primera palabra
+    private static void allSegmentations(String s, int start, Set<String> dictionary, List<String> words,
+            List<String> out) {
+        if (start == s.length()) {
+            out.add(String.join(" ", words));
+            return;
+        }
+        for (int end = start + 1; end <= s.length(); end++) {
+            if (dictionary.contains(s.substring(start, end))) {
+                words.add(s.substring(start, end));
+                allSegmentations(s, end, dictionary, words, out);
+                words.remove(words.size() - 1);
+            }
+        }
+    }
 }
@@ -2,6 +2,8 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
 
 class Test48_PartitionEqualSubsetSumTest {
 
@@ -16,4 +18,78 @@ class Test48_PartitionEqualSubsetSumTest {
         int[] nums = { 1, 2, 3, 5 };
         assertFalse(PartitionEqualSubsetSum.canPartition(nums));
     }
+
+    @Test
+    void shouldMatchBooleanDpOnRandomArrays() {
+        Random random = new Random(48);
+        for (int round = 0; round < 500; round++) {
+            int[] nums = new int[random.nextInt(12)];
+            int bound = 1 + random.nextInt(random.nextBoolean() ? 10 : 300);
+            for (int i = 0; i < nums.length; i++) {
+                nums[i] = random.nextInt(bound);
+            }
+            boolean[] reachable = reachableSums(nums);
+            int total = reachable.length - 1;
+            SubsetSums sums = new SubsetSums(nums);
+            // Umbral 0 para forzar los desplazamientos paralelos con dos buffers
+            SubsetSums parallel = new SubsetSums(nums, 3, 0);
+            int best = 0;
+            for (int target = -1; target <= total + 1; target++) {
+                boolean expected = target >= 0 && target <= total && reachable[target];
+                assertEquals(expected, sums.canReach(target));
+                assertEquals(expected, parallel.canReach(target));
+                if (expected && 2 * target <= total) {
+                    best = target;
+                }
+            }
+            assertEquals(total - 2 * best, sums.closestPartitionDiff());
+            assertEquals(total - 2 * best, parallel.closestPartitionDiff());
+            assertEquals(total % 2 == 0 && reachable[total / 2], PartitionEqualSubsetSum.canPartition(nums));
+        }
+    }
+
+    @Test
+    void shouldHandleRepeatedValuesAndWideBitsets() {
+        // 1000 copias de 7 y un 3: se agrupan en potencias de dos
+        int[] nums = new int[1001];
+        Arrays.fill(nums, 7);
+        nums[1000] = 3;
+        SubsetSums sums = new SubsetSums(nums);
+        assertEquals(7003, sums.total());
+        assertTrue(sums.canReach(7 * 500 + 3));
+        assertFalse(sums.canReach(7 * 500 + 1));
+        assertEquals(3, sums.closestPartitionDiff());
+
+        // Suma de decenas de millones, en paralelo y en secuencial
+        Random random = new Random(4848);
+        int[] large = new int[400];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = 1 + random.nextInt(100_000);
+        }
+        SubsetSums sequential = new SubsetSums(large);
+        SubsetSums parallel = new SubsetSums(large, 4, 1);
+        assertEquals(sequential.closestPartitionDiff(), parallel.closestPartitionDiff());
+        for (int i = 0; i < 1000; i++) {
+            long target = random.nextInt((int) sequential.total() + 1);
+            assertEquals(sequential.canReach(target), parallel.canReach(target));
+        }
+        assertEquals(0, new SubsetSums(new int[0]).closestPartitionDiff());
+        assertThrows(IllegalArgumentException.class, () -> new SubsetSums(new int[] { 1, -1 }));
+    }
+
+    // Oráculo: DP clásica con boolean[] recorriendo las sumas de mayor a menor
+    private static boolean[] reachableSums(int[] nums) {
+        int total = 0;
+        for (int num : nums) {
+            total += num;
+        }
+        boolean[] reachable = new boolean[total + 1];
+        reachable[0] = true;
+        for (int num : nums) {
+            for (int sum = total; sum >= num; sum--) {
+                reachable[sum] |= reachable[sum - num];
+            }
+        }
+        return reachable;
+    }
 }
@@ -2,6 +2,8 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
 
 class Test49_PalindromicSubstringsTest {
 
@@ -16,4 +18,36 @@ class Test49_PalindromicSubstringsTest {
         String s = "aaa";
         assertEquals(6, PalindromicSubstrings.countSubstrings(s));
     }
+
+    @Test
+    void shouldMatchBruteForceCountOnRandomStrings() {
+        Random random = new Random(49);
+        for (int round = 0; round < 1000; round++) {
+            StringBuilder s = new StringBuilder();
+            for (int i = 0, length = random.nextInt(30); i < length; i++) {
+                s.append((char) ('a' + random.nextInt(1 + random.nextInt(3))));
+            }
+            int expected = 0;
+            for (int from = 0; from < s.length(); from++) {
+                for (int to = from + 1; to <= s.length(); to++) {
+                    String sub = s.substring(from, to);
+                    expected += new StringBuilder(sub).reverse().toString().equals(sub) ? 1 : 0;
+                }
+            }
+            assertEquals(expected, PalindromicSubstrings.countSubstrings(s.toString()));
+        }
+        assertEquals(0, PalindromicSubstrings.countSubstrings(""));
+    }
+
+    @Test
+    void shouldCountBeyondIntRangeAsLong() {
+        // n(n + 1) / 2 palíndromos en una sola letra repetida
+        int n = 100_000;
+        byte[] same = new byte[n];
+        Arrays.fill(same, (byte) 'A');
+        PalindromeIndex index = PalindromeIndex.of(same);
+        assertEquals((long) n * (n + 1) / 2, index.count());
+        assertEquals(n, index.longestLength());
+        assertThrows(ArithmeticException.class, () -> PalindromicSubstrings.countSubstrings("a".repeat(n)));
+    }
 }
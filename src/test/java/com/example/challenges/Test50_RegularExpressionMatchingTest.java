@@ -2,6 +2,7 @@ package com.example.challenges;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
 
 class Test50_RegularExpressionMatchingTest {
 
@@ -25,4 +26,91 @@ class Test50_RegularExpressionMatchingTest {
         String p = ".*";
         assertTrue(RegularExpressionMatching.isMatch(s, p));
     }
+
+    @Test
+    void shouldAgreeWithDpOracleOnRandomInputs() {
+        Random random = new Random(50);
+        String alphabet = "ab";
+        for (int round = 0; round < 3000; round++) {
+            StringBuilder pattern = new StringBuilder();
+            int tokens = random.nextInt(8);
+            for (int t = 0; t < tokens; t++) {
+                pattern.append(random.nextInt(4) == 0 ? '.' : alphabet.charAt(random.nextInt(2)));
+                if (random.nextBoolean()) {
+                    pattern.append('*');
+                }
+            }
+            StringBuilder s = new StringBuilder();
+            for (int i = random.nextInt(9); i > 0; i--) {
+                s.append(alphabet.charAt(random.nextInt(2)));
+            }
+            String p = pattern.toString();
+            assertEquals(RegularExpressionMatching.isMatchDp(s.toString(), p),
+                    RegularExpressionMatching.isMatch(s.toString(), p), "s=" + s + " p=" + p);
+        }
+    }
+
+    @Test
+    void shouldMatchPatternsLongerThan64Tokens() {
+        // 70 tokens: el estado ocupa dos palabras de 64 bits
+        String p = "a*".repeat(40) + "b".repeat(20) + ".*".repeat(10);
+        String s = "a".repeat(100) + "b".repeat(20) + "xyz";
+        assertTrue(RegularExpressionMatching.isMatch(s, p));
+        assertFalse(RegularExpressionMatching.isMatch("a".repeat(100) + "b".repeat(19), p));
+        assertEquals(RegularExpressionMatching.isMatchDp(s, p), CompiledPattern.compile(p).matches(s));
+    }
+
+    @Test
+    void shouldReuseCompiledPatternsFromCache() {
+        assertSame(CompiledPattern.compile("c*a.b"), CompiledPattern.compile("c*a.b"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledPattern.compile("*a"));
+        for (int i = 0; i < 3 * CompiledPattern.CACHE_SIZE; i++) {
+            assertTrue(CompiledPattern.compile("x" + i + ".*").matches("x" + i + "yz"));
+        }
+        assertTrue(CompiledPattern.cachedPatterns() <= CompiledPattern.CACHE_SIZE);
+    }
+
+    @Test
+    void shouldKeepRecentlyUsedPatternsWhenTheCacheFills() {
+        CompiledPattern hot = CompiledPattern.compile("h.t*");
+        CompiledPattern cold = CompiledPattern.compile("c.ld*");
+        for (int i = 0; i < 3 * CompiledPattern.CACHE_SIZE; i++) {
+            CompiledPattern.compile("fill" + i + ".*");
+            if (i % 16 == 0) {
+                assertSame(hot, CompiledPattern.compile("h.t*"));
+            }
+        }
+        assertSame(hot, CompiledPattern.compile("h.t*"));
+        // Sin usos desde que se compiló, fue de los primeros en salir
+        assertNotSame(cold, CompiledPattern.compile("c.ld*"));
+        assertTrue(CompiledPattern.cachedPatterns() <= CompiledPattern.CACHE_SIZE);
+    }
+
+    @Test
+    void shouldMatchNonAsciiLiteralsLikeTheDp() {
+        assertTrue(RegularExpressionMatching.isMatch("año", "año"));
+        assertTrue(RegularExpressionMatching.isMatch("ññ€", "ñ*.€"));
+        assertFalse(RegularExpressionMatching.isMatch("año", "ano"));
+        Random random = new Random(50);
+        String alphabet = "añ€";
+        for (int round = 0; round < 3000; round++) {
+            StringBuilder pattern = new StringBuilder();
+            for (int t = random.nextInt(8); t > 0; t--) {
+                pattern.append(random.nextInt(4) == 0 ? '.' : alphabet.charAt(random.nextInt(3)));
+                if (random.nextBoolean()) {
+                    pattern.append('*');
+                }
+            }
+            StringBuilder s = new StringBuilder();
+            for (int i = random.nextInt(9); i > 0; i--) {
+                s.append(alphabet.charAt(random.nextInt(3)));
+            }
+            String p = pattern.toString();
+            assertEquals(RegularExpressionMatching.isMatchDp(s.toString(), p),
+                    RegularExpressionMatching.isMatch(s.toString(), p), "s=" + s + " p=" + p);
+        }
+        String p = "ñ*".repeat(40) + "€".repeat(30) + ".*";
+        String s = "ñ".repeat(10) + "€".repeat(30) + "ü";
+        assertEquals(RegularExpressionMatching.isMatchDp(s, p), RegularExpressionMatching.isMatch(s, p));
+    }
 }